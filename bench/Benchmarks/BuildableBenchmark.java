@@ -0,0 +1,89 @@
+package Benchmarks;
+
+import Main.BuildableIndex;
+import Main.Inventory;
+import Main.Part;
+import Main.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BuildableBenchmark reads the buildable units of every product for a dashboard, from the cached index
+ * and by working each product out from the current stock of its parts, and measures a part stock adjustment
+ * with the index attached
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildableBenchmark {
+    private static final int PARTS_PER_PRODUCT = 8;
+
+    @Param({"1000", "10000"})
+    private int products;
+
+    private Inventory inventory;
+    private BuildableIndex index;
+    private int parts;
+    private SplittableRandom random;
+
+    /**
+     * create ten parts per product and give every product a random handful of them
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = new Inventory();
+        random = new SplittableRandom(42);
+        parts = products * 10;
+        for (int id = 0; id < parts; id++) {
+            inventory.addPart(new Part(id, "Part " + id, 1.00, 100 + random.nextInt(900), 0, 10_000));
+        }
+        for (int id = 0; id < products; id++) {
+            Product product = new Product(id, "Product " + id, 10.00, 1, 0, 100);
+            for (int i = 0; i < PARTS_PER_PRODUCT; i++) {
+                product.addAssociatedPart(inventory.lookupPart(random.nextInt(parts)));
+            }
+            inventory.addProduct(product);
+        }
+        index = inventory.getBuildableIndex();
+    }
+
+    @Benchmark
+    public long cachedDashboard() {
+        long total = 0;
+        for (int id = 0; id < products; id++) {
+            total += index.buildable(id);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long computedDashboard() {
+        long total = 0;
+        for (int id = 0; id < products; id++) {
+            int units = Integer.MAX_VALUE;
+            for (Part part : inventory.lookupProduct(id).getAllAssociatedParts()) {
+                units = Math.min(units, inventory.lookupPart(part.getId()).getStock());
+            }
+            total += units;
+        }
+        return total;
+    }
+
+    /**
+     * takes one from a part and puts it back, each adjustment works out the products using the part again
+     */
+    @Benchmark
+    public int adjustWithIndex() {
+        int partId = random.nextInt(parts);
+        inventory.adjustPartStock(partId, -1);
+        return inventory.adjustPartStock(partId, 1);
+    }
+}
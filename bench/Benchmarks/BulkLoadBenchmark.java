@@ -0,0 +1,80 @@
+package Benchmarks;
+
+import Elements.ObservableInventory;
+import Elements.PageSource;
+import Elements.PagedList;
+import Main.Inventory;
+import Main.Part;
+import javafx.collections.ListChangeListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BulkLoadBenchmark loads parts into an inventory with a paged list following it like a live table,
+ * refreshed by an ObservableInventory and showing its first page, comparing addPart in a loop against addParts.
+ * without the FX toolkit every change refreshes the list, like every change between two pulses would
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BulkLoadBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    private List<Part> parts;
+    private Inventory inventory;
+    private PagedList<Part> table;
+    private int changes;
+
+    /**
+     * build the parts once
+     */
+    @Setup(Level.Trial)
+    public void createParts() {
+        parts = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            parts.add(new Part(id, "Part " + id, 1.00, 5, 1, 10));
+        }
+    }
+
+    /**
+     * a fresh inventory with a paged list following it, as the parts table would
+     */
+    @Setup(Level.Invocation)
+    public void bindTable() {
+        inventory = new Inventory();
+        table = new PagedList<>(PageSource.parts(inventory));
+        new ObservableInventory(inventory).addPartsListener(table::refresh);
+        changes = 0;
+        // a table reads the rows it shows again after every change
+        table.addListener((ListChangeListener<Part>) change -> {
+            changes++;
+            if (!table.isEmpty()) {
+                table.get(0);
+            }
+        });
+    }
+
+    @Benchmark
+    public int addPartLoop() {
+        for (Part part : parts) {
+            inventory.addPart(part);
+        }
+        return table.size() + changes;
+    }
+
+    @Benchmark
+    public int addPartsBulk() {
+        inventory.addParts(parts);
+        return table.size() + changes;
+    }
+}
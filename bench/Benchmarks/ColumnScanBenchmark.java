@@ -0,0 +1,71 @@
+package Benchmarks;
+
+import Main.Inventory;
+import Main.Part;
+import Main.PartColumns;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ColumnScanBenchmark compares aggregations over the part columns
+ * against the same loops over a list of Part objects
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnScanBenchmark {
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Inventory inventory;
+    private List<Part> parts;
+    private PartColumns columns;
+
+    /**
+     * fill the inventory with synthetic parts and build its columns
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = new Inventory();
+        for (int id = 0; id < size; id++) {
+            inventory.addPart(new Part(id, "Part " + id, 1.00 + id % 100, id % 20, 5, 50));
+        }
+        parts = inventory.copyParts();
+        columns = inventory.getPartColumns();
+    }
+
+    @Benchmark
+    public double columnTotalValue() {
+        return columns.totalValue();
+    }
+
+    @Benchmark
+    public double objectTotalValue() {
+        double total = 0;
+        for (Part part : parts) {
+            total += part.getPrice() * part.getStock();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int[] columnAtOrBelowMin() {
+        return columns.idsAtOrBelowMin();
+    }
+
+    @Benchmark
+    public int[] objectAtOrBelowMin() {
+        return parts.stream()
+            .filter(part -> part.getStock() <= part.getMin())
+            .mapToInt(Part::getId)
+            .toArray();
+    }
+}
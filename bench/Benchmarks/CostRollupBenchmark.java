@@ -0,0 +1,95 @@
+package Benchmarks;
+
+import Main.CostRollup;
+import Main.Inventory;
+import Main.Part;
+import Main.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CostRollupBenchmark builds a deep bill of materials, every product contains the product before it
+ * as a subassembly, and compares the margin report from the memoized rollup after a part price change
+ * against walking every product's assemblies again for each product
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CostRollupBenchmark {
+    private static final int PARTS_PER_PRODUCT = 5;
+
+    @Param({"100", "1000"})
+    private int depth;
+
+    private Inventory inventory;
+    private CostRollup rollup;
+    private int parts;
+    private SplittableRandom random;
+
+    /**
+     * create the chain of products, each with a few parts of its own
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = new Inventory();
+        random = new SplittableRandom(42);
+        parts = depth * PARTS_PER_PRODUCT;
+        for (int id = 0; id < parts; id++) {
+            inventory.addPart(new Part(id, "Part " + id, 1.00 + random.nextInt(100), 10, 0, 100));
+        }
+        for (int id = 0; id < depth; id++) {
+            Product product = new Product(id, "Product " + id, 1000.00 * (id + 1), 1, 0, 100);
+            for (int i = 0; i < PARTS_PER_PRODUCT; i++) {
+                product.addAssociatedPart(inventory.lookupPart(id * PARTS_PER_PRODUCT + i));
+            }
+            inventory.addProduct(product);
+        }
+        rollup = inventory.getCostRollup();
+        for (int id = 1; id < depth; id++) {
+            inventory.addSubassembly(id, id - 1);
+        }
+    }
+
+    /**
+     * a part price changes through updatePart, then the whole report is read
+     */
+    @Benchmark
+    public List<CostRollup.Margin> memoizedReport() {
+        changePrice();
+        return rollup.marginReport();
+    }
+
+    /**
+     * a part price changes, then every product walks its whole chain again
+     */
+    @Benchmark
+    public double walkedReport() {
+        changePrice();
+        double total = 0;
+        for (int id = 0; id < depth; id++) {
+            double cost = 0;
+            for (int below = id; below >= 0; below--) {
+                for (Part part : inventory.lookupProduct(below).getAllAssociatedParts()) {
+                    cost += inventory.lookupPart(part.getId()).getPrice();
+                }
+            }
+            total += inventory.lookupProduct(id).getPrice() - cost;
+        }
+        return total;
+    }
+
+    private void changePrice() {
+        Part part = inventory.lookupPart(random.nextInt(parts));
+        inventory.updatePart(part.getId(), new Part(part.getId(), part.getName(), 1.00 + random.nextInt(100),
+            part.getStock(), part.getMin(), part.getMax()));
+    }
+}
@@ -0,0 +1,83 @@
+package Benchmarks;
+
+import Main.InHouse;
+import Main.Outsourced;
+import Main.Part;
+import Main.SymbolTable;
+
+/**
+ * HeapFootprint measures the heap a large synthetic catalog takes with its names dictionary encoded and without
+ * like ServiceLoadTest it is a plain program rather than a JMH benchmark, the heap is read after a few full
+ * collections before and after the parts are created. half the parts are in house and half are outsourced,
+ * names repeat every 50,000 parts and company names every 300, and every part is given strings of its own,
+ * the way parts read from a file or a request arrive.
+ * without encoding the parts keep those strings. with encoding every name and company name is interned in a
+ * SymbolTable, which holds one string and one count per distinct name, and the part is given the table's string,
+ * the way Inventory does when a part is added
+ *
+ *   java -Xmx4g -cp target/benchmarks.jar Benchmarks.HeapFootprint --parts=5000000
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class HeapFootprint {
+    private static final int NAMES = 50_000;
+    private static final int COMPANIES = 300;
+
+    public static void main(String[] args) {
+        int count = 5_000_000;
+        for (String arg : args) {
+            if (arg.startsWith("--parts=")) {
+                count = Integer.parseInt(arg.substring("--parts=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+        long before = usedHeap();
+        Part[] parts = createParts(count);
+        long plain = usedHeap() - before;
+        print("without encoding", count, plain);
+        parts = null;
+
+        before = usedHeap();
+        SymbolTable symbols = new SymbolTable();
+        parts = createParts(count);
+        for (Part part : parts) {
+            part.setName(symbols.symbol(symbols.intern(part.getName())));
+            if (part instanceof Outsourced) {
+                Outsourced outsourced = (Outsourced) part;
+                outsourced.setCompanyName(symbols.symbol(symbols.intern(outsourced.getCompanyName())));
+            }
+        }
+        long encoded = usedHeap() - before;
+        print("with encoding", count, encoded);
+        System.out.printf("%,d distinct strings, encoding saves %.1f MB, %.1f%%%n",
+            symbols.size(), (plain - encoded) / 1e6, 100.0 * (plain - encoded) / plain);
+        // keep the parts and the table reachable until the heap is read
+        if (parts.length != count) {
+            throw new AssertionError();
+        }
+    }
+
+    private static Part[] createParts(int count) {
+        Part[] parts = new Part[count];
+        for (int id = 0; id < count; id++) {
+            String name = "Part " + (id % NAMES);
+            parts[id] = id % 2 == 0 ? new InHouse(id, name, 1.5, 10, 0, 100, id % 1000)
+                : new Outsourced(id, name, 1.5, 10, 0, 100, "Company " + (id % COMPANIES));
+        }
+        return parts;
+    }
+
+    private static void print(String label, int count, long used) {
+        System.out.printf("%,d parts %s: %.1f MB, %.1f bytes a part%n", count, label, used / 1e6, used / (double) count);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,133 @@
+package Benchmarks;
+
+import Main.Inventory;
+import Main.Part;
+import Main.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InventoryBenchmark measures the core inventory operations as the catalog grows from 1k to 10M parts
+ * the catalog is synthetic and seeded, so every run and every size sees the same data.
+ * changes are made in pairs that leave the catalog as it was, e.g. add then delete, so the size holds steady.
+ * run through the bench profile to get the results as JSON, the 10M catalog needs a heap of about 12g,
+ * e.g. -jvmArgsAppend -Xmx12g
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+    private static final long SEED = 42;
+    private static final int PARTS_PER_PRODUCT = 4;
+    private static final String[] WORDS = {
+        "Brake", "Wheel", "Seat", "Chain", "Pedal", "Spoke", "Frame", "Fork", "Crank", "Saddle",
+        "Lever", "Cable", "Hub", "Rim", "Tire", "Tube", "Bolt", "Washer", "Bearing", "Sprocket"
+    };
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private Inventory inventory;
+    private int products;
+    private String[] names;
+    private SplittableRandom random;
+
+    /* hands out the ids for the id benchmarks, replaced every iteration so the ids never run past Integer.MAX_VALUE */
+    private Inventory idSource;
+
+    /**
+     * fill the inventory with a part per id and a product per ten parts
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new SplittableRandom(SEED);
+        inventory = new Inventory();
+        names = new String[size];
+        List<Part> parts = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            names[id] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id;
+            parts.add(new Part(id, names[id], 1.00 + random.nextInt(100), 10 + random.nextInt(90), 5, 1000));
+        }
+        inventory.addParts(parts);
+        products = Math.max(1, size / 10);
+        List<Product> catalog = new ArrayList<>(products);
+        for (int id = 0; id < products; id++) {
+            Product product = new Product(id, "Product " + id, 100.00, 5, 1, 50);
+            for (int i = 0; i < PARTS_PER_PRODUCT; i++) {
+                product.addAssociatedPart(parts.get(random.nextInt(size)));
+            }
+            catalog.add(product);
+        }
+        inventory.addProducts(catalog);
+    }
+
+    /**
+     * start a new id sequence just past the catalog
+     */
+    @Setup(Level.Iteration)
+    public void resetIds() {
+        idSource = new Inventory();
+        idSource.addPart(new Part(size - 1, "Last Part", 1.00, 10, 5, 1000));
+    }
+
+    @Benchmark
+    public Part lookupById() {
+        return inventory.lookupPart(random.nextInt(size));
+    }
+
+    @Benchmark
+    public List<Part> lookupByName() {
+        return inventory.lookupPart(names[random.nextInt(size)].toLowerCase());
+    }
+
+    /**
+     * adds a part with a new id and deletes it again
+     */
+    @Benchmark
+    public boolean addAndDelete() {
+        Part part = new Part(inventory.nextPartId(), "Spare Washer", 1.00, 10, 5, 1000);
+        inventory.addPart(part);
+        return inventory.deletePart(part);
+    }
+
+    @Benchmark
+    public void update() {
+        Part part = inventory.lookupPart(random.nextInt(size));
+        inventory.updatePart(part.getId(), new Part(part.getId(), part.getName(), 1.00 + random.nextInt(100),
+            part.getStock(), part.getMin(), part.getMax()));
+    }
+
+    /**
+     * associates a part with a product and removes it again, both go through the where-used index
+     */
+    @Benchmark
+    public boolean associateAndDissociate() {
+        Product product = inventory.lookupProduct(random.nextInt(products));
+        Part part = inventory.lookupPart(random.nextInt(size));
+        if (product.getAllAssociatedParts().contains(part)) {
+            return false;
+        }
+        product.addAssociatedPart(part);
+        return product.deleteAssociatedPart(part);
+    }
+
+    @Benchmark
+    public int nextPartId() {
+        return idSource.nextPartId();
+    }
+
+    @Benchmark
+    public int reservePartIds() {
+        return idSource.reservePartIds(64);
+    }
+}
@@ -0,0 +1,65 @@
+package Benchmarks;
+
+import Main.Inventory;
+import Main.Part;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LookupBenchmark compares the id index behind Inventory.lookupPart(int)
+ * against the stream scan it replaced
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private Inventory inventory;
+    private List<Part> allParts;
+    private int[] probes;
+    private int cursor;
+
+    /**
+     * fill the inventory with synthetic parts and pick the ids to probe
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = new Inventory();
+        for (int id = 0; id < size; id++) {
+            inventory.addPart(new Part(id, "Part " + id, 1.00, 5, 1, 10));
+        }
+        allParts = inventory.copyParts();
+        Random random = new Random(42);
+        probes = new int[1024];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextInt(size);
+        }
+    }
+
+    private int nextProbe() {
+        cursor = (cursor + 1) & (probes.length - 1);
+        return probes[cursor];
+    }
+
+    @Benchmark
+    public Part indexedLookup() {
+        return inventory.lookupPart(nextProbe());
+    }
+
+    @Benchmark
+    public Part streamScan() {
+        int partId = nextProbe();
+        return allParts.stream().filter(part -> part.getId() == partId).findFirst().orElse(null);
+    }
+}
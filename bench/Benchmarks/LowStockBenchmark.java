@@ -0,0 +1,72 @@
+package Benchmarks;
+
+import Main.Inventory;
+import Main.Part;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LowStockBenchmark compares the top 10 most critical parts read from the low stock index
+ * against sorting a scan of every part, and measures the cost the index adds to a stock adjustment
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LowStockBenchmark {
+    private static final int K = 10;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Inventory inventory;
+    private List<Part> parts;
+    private SplittableRandom random;
+
+    /**
+     * fill the inventory with parts spread between empty and well stocked
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = new Inventory();
+        random = new SplittableRandom(42);
+        for (int id = 0; id < size; id++) {
+            inventory.addPart(new Part(id, "Part " + id, 1.00, 10 + random.nextInt(1000), 5, 2000));
+        }
+        parts = inventory.copyParts();
+    }
+
+    @Benchmark
+    public int[] indexTopK() {
+        return inventory.getLowStockParts().mostCritical(K);
+    }
+
+    @Benchmark
+    public int[] scanTopK() {
+        return parts.stream()
+            .sorted(Comparator.comparingLong((Part part) -> (long) part.getStock() - part.getMin())
+                .thenComparingInt(Part::getId))
+            .limit(K)
+            .mapToInt(Part::getId)
+            .toArray();
+    }
+
+    /**
+     * takes one from a part and puts it back, two adjustments each moving the part in the index
+     */
+    @Benchmark
+    public int adjustWithIndex() {
+        int partId = random.nextInt(size);
+        inventory.adjustPartStock(partId, -1);
+        return inventory.adjustPartStock(partId, 1);
+    }
+}
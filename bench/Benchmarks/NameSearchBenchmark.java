@@ -0,0 +1,93 @@
+package Benchmarks;
+
+import Main.Inventory;
+import Main.Part;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NameSearchBenchmark compares the trigram index behind Inventory.lookupPart(String)
+ * against lowercasing and scanning every part name
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+    private static final String[] WORDS = {
+        "Brake", "Wheel", "Seat", "Chain", "Pedal", "Spoke", "Frame", "Fork", "Crank", "Saddle",
+        "Lever", "Cable", "Hub", "Rim", "Tire", "Tube", "Bolt", "Washer", "Bearing", "Sprocket"
+    };
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private Inventory inventory;
+    private ObservableList<Part> allParts;
+    private String[] queries;
+    private String[] commonQueries;
+    private int cursor;
+
+    /**
+     * fill the inventory with synthetic part names and pick the queries to run
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        inventory = new Inventory();
+        for (int id = 0; id < size; id++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id;
+            inventory.addPart(new Part(id, name, 1.00, 5, 1, 10));
+        }
+        allParts = FXCollections.observableArrayList(inventory.copyParts());
+        queries = new String[256];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = WORDS[random.nextInt(WORDS.length)].toLowerCase() + " " + random.nextInt(size);
+        }
+        // two words and no id, every trigram is shared by a tenth of the names or more
+        commonQueries = new String[256];
+        for (int i = 0; i < commonQueries.length; i++) {
+            commonQueries[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+        }
+    }
+
+    private String nextQuery() {
+        cursor = (cursor + 1) & (queries.length - 1);
+        return queries[cursor];
+    }
+
+    @Benchmark
+    public List<Part> indexedSearch() {
+        return inventory.lookupPart(nextQuery());
+    }
+
+    /**
+     * a query whose posting lists are all long, so the intersection itself is measured
+     * @return the matching parts
+     */
+    @Benchmark
+    public List<Part> commonTrigramSearch() {
+        cursor = (cursor + 1) & (commonQueries.length - 1);
+        return inventory.lookupPart(commonQueries[cursor]);
+    }
+
+    @Benchmark
+    public ObservableList<Part> filteredScan() {
+        String partName = nextQuery();
+        ObservableList<Part> matches = allParts
+            .filtered(part -> part.getName().toLowerCase().contains(partName.toLowerCase()));
+        // force the filter to evaluate like a bound TableView would
+        matches.size();
+        return matches;
+    }
+}
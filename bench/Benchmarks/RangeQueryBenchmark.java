@@ -0,0 +1,93 @@
+package Benchmarks;
+
+import Main.Inventory;
+import Main.NumericField;
+import Main.Part;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * RangeQueryBenchmark compares price range, top n and name plus price queries answered by the sorted indexes
+ * against filtering a copy of every part, the way they were answered before the indexes
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeQueryBenchmark {
+    private static final int N = 10;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Inventory inventory;
+    private SplittableRandom random;
+
+    /**
+     * fill the inventory with parts priced between $0 and $1000, so a $10 wide range holds about 1% of them
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = new Inventory();
+        random = new SplittableRandom(42);
+        for (int id = 0; id < size; id++) {
+            inventory.addPart(new Part(id, "Part " + id, random.nextInt(100_000) / 100.0, 10 + random.nextInt(1000), 5, 2000));
+        }
+    }
+
+    @Benchmark
+    public List<Part> indexPriceRange() {
+        double from = random.nextInt(990);
+        return inventory.partsInRange(NumericField.PRICE, from, from + 10, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<Part> scanPriceRange() {
+        double from = random.nextInt(990);
+        return inventory.copyParts().stream()
+            .filter(part -> part.getPrice() >= from && part.getPrice() <= from + 10)
+            .sorted(Comparator.comparingDouble(Part::getPrice).thenComparingInt(Part::getId))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Part> indexLowestStock() {
+        return inventory.lowestParts(NumericField.STOCK, N);
+    }
+
+    @Benchmark
+    public List<Part> scanLowestStock() {
+        return inventory.copyParts().stream()
+            .sorted(Comparator.comparingInt(Part::getStock).thenComparingInt(Part::getId))
+            .limit(N)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * parts named like "Part 123" priced $100 to $200, the name search narrows it to about 1000 candidates
+     */
+    @Benchmark
+    public List<Part> indexNameAndPrice() {
+        return inventory.lookupPart("Part " + (100 + random.nextInt(900)), NumericField.PRICE, 100, 200);
+    }
+
+    @Benchmark
+    public List<Part> scanNameAndPrice() {
+        String name = "part " + (100 + random.nextInt(900));
+        return inventory.copyParts().stream()
+            .filter(part -> part.getName().toLowerCase().contains(name))
+            .filter(part -> part.getPrice() >= 100 && part.getPrice() <= 200)
+            .sorted(Comparator.comparingDouble(Part::getPrice).thenComparingInt(Part::getId))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,97 @@
+package Benchmarks;
+
+import Elements.TableColumns;
+import Main.Part;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.cell.PropertyValueFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScrollBenchmark measures the cell value work of one frame of scrolling a parts table
+ * each frame moves the viewport down a few rows and asks every visible cell for its value,
+ * the way a TableView does when its cells are reused for new rows. the typed columns are compared
+ * against the PropertyValueFactory columns the tables used before. run with -prof gc for the allocation per frame
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScrollBenchmark {
+    private static final int VISIBLE_ROWS = 30;
+    private static final int ROWS_PER_FRAME = 3;
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Part> rows;
+    private List<TableColumn<Part, ?>> reflectiveColumns;
+    private List<TableColumn<Part, ?>> typedColumns;
+    private int top;
+
+    /**
+     * create the rows and both sets of columns
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        rows = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            rows.add(new Part(id, "Part " + id, 1.00 + id % 100, id % 20, 5, 50));
+        }
+        reflectiveColumns = List.of(
+            reflective("Part ID", "id"),
+            reflective("Part Name", "name"),
+            reflective("Inventory Level", "stock"),
+            reflective("Price/Cost Per Item", "price"));
+        typedColumns = List.of(
+            TableColumns.intColumn("Part ID", Part::getId),
+            TableColumns.textColumn("Part Name", Part::getName),
+            TableColumns.intColumn("Inventory Level", Part::getStock),
+            TableColumns.doubleColumn("Price/Cost Per Item", Part::getPrice));
+    }
+
+    @Benchmark
+    public void reflectiveFrame(Blackhole blackhole) {
+        frame(reflectiveColumns, blackhole);
+    }
+
+    @Benchmark
+    public void typedFrame(Blackhole blackhole) {
+        frame(typedColumns, blackhole);
+    }
+
+    private void frame(List<TableColumn<Part, ?>> columns, Blackhole blackhole) {
+        top += ROWS_PER_FRAME;
+        if (top + VISIBLE_ROWS > size) {
+            top = 0;
+        }
+        for (int row = top; row < top + VISIBLE_ROWS; row++) {
+            Part part = rows.get(row);
+            for (TableColumn<Part, ?> column : columns) {
+                blackhole.consume(cellValue(column, part));
+            }
+        }
+    }
+
+    private static <T> T cellValue(TableColumn<Part, T> column, Part part) {
+        ObservableValue<T> value = column.getCellValueFactory()
+            .call(new TableColumn.CellDataFeatures<>(null, column, part));
+        return value == null ? null : value.getValue();
+    }
+
+    private static <T> TableColumn<Part, T> reflective(String title, String property) {
+        TableColumn<Part, T> column = new TableColumn<>(title);
+        column.setCellValueFactory(new PropertyValueFactory<>(property));
+        return column;
+    }
+}
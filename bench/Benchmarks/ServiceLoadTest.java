@@ -0,0 +1,370 @@
+package Benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * ServiceLoadTest drives the inventory service with many requests in flight at once and reports latency percentiles
+ * it is a load generator rather than a JMH benchmark, JMH measures calls from a few threads and cannot keep
+ * thousands of requests open at the same time. every request in flight has its own keep-alive connection,
+ * all driven by one selector thread, so the client stays cheap next to the server it measures.
+ * without a url it starts the service in a separate JVM with an empty data directory, so client and server
+ * do not share one file descriptor limit, and fills it through POST /parts. the mix is 70% lookups by id,
+ * 20% name searches and 10% stock adjustments. a warm up round runs before the measured round.
+ * latency is measured from writing a request to reading the end of its response
+ *
+ *   java -cp target/benchmarks.jar Benchmarks.ServiceLoadTest --concurrency=10000 --requests=200000
+ *   java -cp target/benchmarks.jar Benchmarks.ServiceLoadTest --url=http://localhost:8080
+ *
+ * 10000 concurrent requests need an open file limit above 10000 for each process, see ulimit -n
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class ServiceLoadTest {
+    private static final long SEED = 42;
+    private static final int SEED_CONCURRENCY = 64;
+    private static final String[] WORDS = {
+        "Brake", "Wheel", "Seat", "Chain", "Pedal", "Spoke", "Frame", "Fork", "Crank", "Saddle",
+        "Lever", "Cable", "Hub", "Rim", "Tire", "Tube", "Bolt", "Washer", "Bearing", "Sprocket"
+    };
+
+    private final InetSocketAddress address;
+    private final String host;
+    private final int parts;
+
+    private ServiceLoadTest(URI url, int parts) {
+        this.address = new InetSocketAddress(url.getHost(), url.getPort() < 0 ? 80 : url.getPort());
+        this.host = url.getHost() + ":" + address.getPort();
+        this.parts = parts;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = option(args, "concurrency", 10_000);
+        int requests = option(args, "requests", 200_000);
+        int parts = option(args, "parts", 20_000);
+        String url = null;
+        for (String arg : args) {
+            if (arg.startsWith("--url=")) {
+                url = arg.substring("--url=".length());
+            }
+        }
+
+        Process server = null;
+        Path dataDirectory = null;
+        try {
+            if (url == null) {
+                dataDirectory = Files.createTempDirectory("inventory-load");
+                server = startServer(dataDirectory);
+                url = "http://localhost:" + awaitPort(server);
+            }
+            ServiceLoadTest test = new ServiceLoadTest(URI.create(url), parts);
+            if (dataDirectory != null) {
+                Result seeded = test.drive(SEED_CONCURRENCY, parts, test::addPart);
+                System.out.printf("seeded %d parts in %.1f s%n", parts, seeded.seconds);
+                seeded.printErrors();
+            }
+            SplittableRandom random = new SplittableRandom(SEED);
+            test.drive(Math.min(concurrency, 1_000), Math.max(requests / 10, 1), i -> test.mixed(random, i))
+                .print("warm up");
+            test.drive(concurrency, requests, i -> test.mixed(random, i)).print("measured");
+        } finally {
+            if (server != null) {
+                server.destroy();
+                server.waitFor();
+            }
+            if (dataDirectory != null) {
+                delete(dataDirectory);
+            }
+        }
+    }
+
+    /**
+     * send requests over concurrency connections, each with one request in flight at a time
+     * @param concurrency the number of connections
+     * @param requests the number of requests to send
+     * @param request makes the bytes of the request with an index
+     * @return the latencies and errors
+     */
+    private Result drive(int concurrency, int requests, IntFunction<byte[]> request) throws IOException {
+        Result result = new Result(requests);
+        int next = 0;
+        int done = 0;
+        int open = 0;
+        long start = System.nanoTime();
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < Math.min(concurrency, requests); i++) {
+                connect(selector);
+                open++;
+            }
+            while (done < requests) {
+                if (open == 0) {
+                    throw new IOException("Every connection failed, the first error: " + result.firstError);
+                }
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isConnectable()) {
+                            connection.channel.finishConnect();
+                            connection.channel.socket().setTcpNoDelay(true);
+                        } else if (key.isWritable()) {
+                            connection.channel.write(connection.out);
+                            if (!connection.out.hasRemaining()) {
+                                key.interestOps(SelectionKey.OP_READ);
+                            }
+                            continue;
+                        } else if (key.isReadable()) {
+                            if (!connection.read()) {
+                                continue;
+                            }
+                            result.record(connection.index, System.nanoTime() - connection.sent, connection.status(), null);
+                            done++;
+                        }
+                        if (next < requests) {
+                            connection.send(key, next++, request);
+                        } else {
+                            key.cancel();
+                            connection.channel.close();
+                            open--;
+                        }
+                    } catch (IOException e) {
+                        key.cancel();
+                        connection.channel.close();
+                        open--;
+                        if (connection.index >= 0) {
+                            result.record(connection.index, System.nanoTime() - connection.sent, 0, e.toString());
+                            done++;
+                            // the connection did work before, so the server is up and a new one takes its place
+                            if (next < requests) {
+                                connect(selector);
+                                open++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        result.seconds = (System.nanoTime() - start) / 1e9;
+        result.concurrency = Math.min(concurrency, requests);
+        return result;
+    }
+
+    private void connect(Selector selector) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        channel.configureBlocking(false);
+        channel.connect(address);
+        channel.register(selector, SelectionKey.OP_CONNECT, new Connection(channel));
+    }
+
+    /**
+     * method to make the request that adds part i
+     */
+    private byte[] addPart(int i) {
+        SplittableRandom random = new SplittableRandom(SEED + i);
+        String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+        return post("/parts", "{\"id\":" + i + ",\"name\":\"" + name + "\",\"price\":" + (1 + random.nextInt(100))
+            + ",\"stock\":500,\"min\":1,\"max\":1000,\"machineId\":" + (1000 + random.nextInt(9000)) + "}");
+    }
+
+    /**
+     * method to make the next request of the mix
+     */
+    private byte[] mixed(SplittableRandom random, int i) {
+        int kind = random.nextInt(10);
+        int partId = random.nextInt(parts);
+        if (kind < 7) {
+            return get("/parts/" + partId);
+        }
+        if (kind < 9) {
+            return get("/parts?limit=20&name=" + WORDS[random.nextInt(WORDS.length)].toLowerCase() + "+" + partId);
+        }
+        // alternating signs keep every part near its starting stock of 500
+        return post("/parts/" + partId + "/stock", "{\"delta\":" + (i % 2 == 0 ? -1 : 1) + "}");
+    }
+
+    private byte[] get(String path) {
+        return ("GET " + path + " HTTP/1.1\r\nHost: " + host + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private byte[] post(String path, String body) {
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        return ("POST " + path + " HTTP/1.1\r\nHost: " + host + "\r\nContent-Type: application/json\r\nContent-Length: "
+            + content.length + "\r\n\r\n" + body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * method to start the service in its own JVM on a free port, with the classes this test was started with
+     */
+    private static Process startServer(Path dataDirectory) throws IOException {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        return new ProcessBuilder(java.toString(), "-Dinventory.data=" + dataDirectory,
+            "-cp", System.getProperty("java.class.path"), "Service.InventoryServer", "0")
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+    }
+
+    /**
+     * method to read the port from the line the service prints once it is listening
+     */
+    private static int awaitPort(Process server) throws IOException {
+        BufferedReader out = new BufferedReader(new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8));
+        Pattern port = Pattern.compile("port (\\d+)");
+        for (String line = out.readLine(); line != null; line = out.readLine()) {
+            System.out.println(line);
+            Matcher matcher = port.matcher(line);
+            if (matcher.find()) {
+                return Integer.parseInt(matcher.group(1));
+            }
+        }
+        throw new IOException("The service stopped before it was listening");
+    }
+
+    private static int option(String[] args, String name, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith("--" + name + "=")) {
+                return Integer.parseInt(arg.substring(name.length() + 3));
+            }
+        }
+        return defaultValue;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Connection class is one keep-alive connection and the request in flight on it
+     */
+    private static final class Connection {
+        private final SocketChannel channel;
+        private ByteBuffer out;
+        private ByteBuffer in = ByteBuffer.allocate(8192);
+        private int index = -1;
+        private long sent;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * method to write a request, the rest is written when the channel is writable again
+         */
+        private void send(SelectionKey key, int index, IntFunction<byte[]> request) throws IOException {
+            this.index = index;
+            out = ByteBuffer.wrap(request.apply(index));
+            in.clear();
+            sent = System.nanoTime();
+            channel.write(out);
+            key.interestOps(out.hasRemaining() ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+
+        /**
+         * method to read what has arrived
+         * @return true once the whole response is in
+         */
+        private boolean read() throws IOException {
+            if (!in.hasRemaining()) {
+                in = ByteBuffer.allocate(in.capacity() * 2).put(in.flip());
+            }
+            if (channel.read(in) < 0) {
+                throw new IOException("The server closed the connection");
+            }
+            byte[] data = in.array();
+            int length = in.position();
+            for (int i = 3; i < length; i++) {
+                if (data[i] == '\n' && data[i - 1] == '\r' && data[i - 2] == '\n' && data[i - 3] == '\r') {
+                    return length >= i + 1 + contentLength(new String(data, 0, i, StandardCharsets.US_ASCII));
+                }
+            }
+            return false;
+        }
+
+        private int status() {
+            return Integer.parseInt(new String(in.array(), 9, 3, StandardCharsets.US_ASCII));
+        }
+
+        private static int contentLength(String headers) {
+            for (String line : headers.split("\r\n")) {
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Content-Length")) {
+                    return Integer.parseInt(line.substring(colon + 1).trim());
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Result class holds the latency of every request of a round and the errors
+     */
+    private static final class Result {
+        private final long[] latencies;
+        private int errors;
+        private String firstError;
+        private double seconds;
+        private int concurrency;
+
+        private Result(int requests) {
+            latencies = new long[requests];
+        }
+
+        private void record(int index, long latency, int status, String error) {
+            latencies[index] = latency;
+            if (error != null || status < 200 || status >= 300) {
+                errors++;
+                if (firstError == null) {
+                    firstError = error != null ? error : "status " + status;
+                }
+            }
+        }
+
+        private void print(String label) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            System.out.printf("%s: %d requests, %d in flight, %.1f s, %.0f requests/s%n",
+                label, sorted.length, concurrency, seconds, sorted.length / seconds);
+            System.out.printf("  p50 %.2f ms  p90 %.2f ms  p99 %.2f ms  p99.9 %.2f ms  max %.2f ms%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), sorted[sorted.length - 1] / 1e6);
+            printErrors();
+        }
+
+        private void printErrors() {
+            if (errors > 0) {
+                System.out.printf("  %d errors, the first: %s%n", errors, firstError);
+            }
+        }
+
+        private static double percentile(long[] sorted, double fraction) {
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
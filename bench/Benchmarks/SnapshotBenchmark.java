@@ -0,0 +1,149 @@
+package Benchmarks;
+
+import Main.InHouse;
+import Main.Inventory;
+import Main.Outsourced;
+import Main.Part;
+import Main.Product;
+import Persistence.MappedSnapshot;
+import Persistence.RecordCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SnapshotBenchmark compares loading a catalog from a mapped snapshot
+ * against reading it record by record and building the lists object by object.
+ * run with -prof gc to compare the bytes allocated per load
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotBenchmark {
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private Path snapshot;
+    private Path records;
+
+    /**
+     * write the same synthetic catalog as a mapped snapshot and as a stream of records
+     * @throws IOException if the files cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        List<Part> parts = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            if (id % 2 == 0) {
+                parts.add(new InHouse(id, "Part " + id, 1.00 + id % 100, 5, 1, 10, id % 50));
+            } else {
+                parts.add(new Outsourced(id, "Part " + id, 1.00 + id % 100, 5, 1, 10, "Company " + id % 20));
+            }
+        }
+        List<Product> products = new ArrayList<>();
+        List<int[]> associations = new ArrayList<>();
+        List<int[]> subassemblies = new ArrayList<>();
+        for (int id = 0; id < size / 10; id++) {
+            products.add(new Product(id, "Product " + id, 100.00, 5, 1, 10));
+            associations.add(new int[]{id * 10, id * 10 + 1, id * 10 + 2});
+            subassemblies.add(new int[0]);
+        }
+
+        directory = Files.createTempDirectory("snapshot-benchmark");
+        snapshot = directory.resolve("catalog.snap");
+        records = directory.resolve("catalog.bin");
+        MappedSnapshot.write(snapshot, parts, products, associations, subassemblies);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(records)))) {
+            out.writeInt(parts.size());
+            for (Part part : parts) {
+                RecordCodec.writePart(out, part);
+            }
+            out.writeInt(products.size());
+            for (int i = 0; i < products.size(); i++) {
+                RecordCodec.writeProduct(out, products.get(i), associations.get(i));
+            }
+        }
+    }
+
+    /**
+     * remove the files written by setup
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+        Files.deleteIfExists(records);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * the whole inventory from the mapped snapshot
+     */
+    @Benchmark
+    public Inventory mappedLoad() throws IOException {
+        Inventory inventory = new Inventory();
+        try (MappedSnapshot mapped = MappedSnapshot.open(snapshot)) {
+            mapped.loadInto(inventory);
+        }
+        return inventory;
+    }
+
+    /**
+     * a price total served straight from the mapped region, no parts are created
+     */
+    @Benchmark
+    public double mappedScan() throws IOException {
+        double total = 0;
+        try (MappedSnapshot mapped = MappedSnapshot.open(snapshot)) {
+            for (int i = 0; i < mapped.partCount(); i++) {
+                total += mapped.partPrice(i) * mapped.partStock(i);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * one part lookup straight from the mapped region, as a restart that only needs a few records would do
+     */
+    @Benchmark
+    public Part mappedFind() throws IOException {
+        try (MappedSnapshot mapped = MappedSnapshot.open(snapshot)) {
+            return mapped.part(mapped.findPart(size / 2));
+        }
+    }
+
+    /**
+     * the whole inventory parsed record by record and added object by object
+     */
+    @Benchmark
+    public Inventory objectByObject() throws IOException {
+        Inventory inventory = new Inventory();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(records)))) {
+            int partCount = in.readInt();
+            for (int i = 0; i < partCount; i++) {
+                inventory.addPart(RecordCodec.readPart(in));
+            }
+            int productCount = in.readInt();
+            for (int i = 0; i < productCount; i++) {
+                inventory.addProduct(RecordCodec.readProduct(in, inventory));
+            }
+        }
+        return inventory;
+    }
+}
@@ -0,0 +1,110 @@
+package Benchmarks;
+
+import Elements.PageSource;
+import Elements.PagedList;
+import Main.ColumnOrder;
+import Main.Inventory;
+import Main.Part;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SortBenchmark measures a click on the price header of a parts table and a stock change in a table sorted by stock
+ * the kept orders switch the paged rows to another source and read the visible rows, the list sorts are what
+ * the default sort policy did, FXCollections.sort of every row. each click flips the direction, like toggling the header
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SortBenchmark {
+    private static final int VISIBLE_ROWS = 30;
+    private static final Comparator<Part> BY_PRICE = Comparator.comparingDouble(Part::getPrice);
+    private static final Comparator<Part> BY_STOCK = Comparator.comparingInt(Part::getStock);
+
+    @Param({"1000000"})
+    private int size;
+
+    private Inventory inventory;
+    private PagedList<Part> rows;
+    private ObservableList<Part> list;
+    private SplittableRandom random;
+    private boolean descending;
+
+    /**
+     * fill the inventory with parts of random names, prices and stock
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = new Inventory();
+        random = new SplittableRandom(42);
+        List<Part> parts = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            parts.add(new Part(id, "Part " + random.nextInt(size), random.nextInt(100_000) / 100.0,
+                10 + random.nextInt(1000), 5, 2000));
+        }
+        inventory.addParts(parts);
+        rows = new PagedList<>(PageSource.parts(inventory));
+        list = FXCollections.observableArrayList(inventory.copyParts());
+    }
+
+    /**
+     * start every iteration sorted by stock, the clicks switch to price on their first call
+     */
+    @Setup(Level.Iteration)
+    public void sortByStock() {
+        rows.setSource(PageSource.parts(inventory, ColumnOrder.STOCK, false));
+        FXCollections.sort(list, BY_STOCK);
+    }
+
+    @Benchmark
+    public void keptOrderClick(Blackhole blackhole) {
+        descending = !descending;
+        rows.setSource(PageSource.parts(inventory, ColumnOrder.PRICE, descending));
+        readVisible(rows, blackhole);
+    }
+
+    @Benchmark
+    public void listSortClick(Blackhole blackhole) {
+        descending = !descending;
+        FXCollections.sort(list, descending ? BY_PRICE.reversed() : BY_PRICE);
+        readVisible(list, blackhole);
+    }
+
+    /**
+     * a part is picked from, or returned to, stock while the table is sorted by stock.
+     * the list is nearly sorted already, the best case for its sort
+     */
+    @Benchmark
+    public void keptOrderStockChange(Blackhole blackhole) {
+        inventory.adjustPartStock(random.nextInt(size), random.nextBoolean() ? 1 : -1);
+        rows.refresh();
+        readVisible(rows, blackhole);
+    }
+
+    @Benchmark
+    public void listSortStockChange(Blackhole blackhole) {
+        inventory.adjustPartStock(random.nextInt(size), random.nextBoolean() ? 1 : -1);
+        FXCollections.sort(list, BY_STOCK);
+        readVisible(list, blackhole);
+    }
+
+    private static void readVisible(List<Part> shown, Blackhole blackhole) {
+        for (int row = 0; row < VISIBLE_ROWS; row++) {
+            blackhole.consume(shown.get(row));
+        }
+    }
+}
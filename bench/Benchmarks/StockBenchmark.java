@@ -0,0 +1,93 @@
+package Benchmarks;
+
+import Main.Inventory;
+import Main.Part;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StockBenchmark measures stock adjustments from several threads at once
+ * adjustPartStock changes the stock with compare and set, replacePart is the old way of
+ * copying the part with the new stock and calling updatePart. hotPart has every thread adjust the same part
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class StockBenchmark {
+    private static final int START_STOCK = 1_000_000;
+
+    @Param({"10000"})
+    private int size;
+
+    private Inventory inventory;
+
+    /**
+     * each thread walks its own random sequence of ids and alternates taking and returning stock
+     */
+    @State(Scope.Thread)
+    public static class Picker {
+        private SplittableRandom random;
+        private int delta = 1;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            random = new SplittableRandom(Thread.currentThread().getId());
+        }
+
+        int nextId(int size) {
+            return random.nextInt(size);
+        }
+
+        int nextDelta() {
+            delta = -delta;
+            return delta;
+        }
+    }
+
+    /**
+     * fill the inventory with parts that have room to move in both directions
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = new Inventory();
+        for (int id = 0; id < size; id++) {
+            inventory.addPart(new Part(id, "Part " + id, 1.00, START_STOCK, 0, 2 * START_STOCK));
+        }
+    }
+
+    @Benchmark
+    public int adjustPartStock(Picker picker) {
+        return inventory.adjustPartStock(picker.nextId(size), picker.nextDelta());
+    }
+
+    @Benchmark
+    public boolean tryReservePart(Picker picker) {
+        int partId = picker.nextId(size);
+        boolean reserved = inventory.tryReservePart(partId, 1);
+        if (reserved) {
+            inventory.adjustPartStock(partId, 1);
+        }
+        return reserved;
+    }
+
+    @Benchmark
+    public int hotPart(Picker picker) {
+        return inventory.adjustPartStock(0, picker.nextDelta());
+    }
+
+    @Benchmark
+    public void replacePart(Picker picker) {
+        Part part = inventory.lookupPart(picker.nextId(size));
+        inventory.updatePart(part.getId(), new Part(part.getId(), part.getName(), part.getPrice(),
+            part.getStock() + picker.nextDelta(), part.getMin(), part.getMax()));
+    }
+}
@@ -0,0 +1,74 @@
+package Elements;
+
+import Main.ColumnOrder;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.util.Callback;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * ColumnSortPolicy class sorts a table of paged rows by switching to an order the inventory already keeps,
+ * instead of sorting every row. clicking a header swaps the PagedList to a source that reads pages of that
+ * order, so sorting a million rows costs one page fetch, and rows that change later land in their sorted place.
+ * only the first column of the sort order is used, ties are in id order.
+ * while a search result is shown the table holds a small list of its own, which is sorted as usual
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ * @param <T> the type of the rows
+ */
+public class ColumnSortPolicy<T> implements Callback<TableView<T>, Boolean> {
+  private final PagedList<T> rows;
+  private final BiFunction<ColumnOrder, Boolean, PageSource<T>> sources;
+  private final Map<TableColumn<T, ?>, ColumnOrder> orders = new HashMap<>();
+  private ColumnOrder shownOrder = ColumnOrder.ID;
+  private boolean shownDescending;
+
+  /**
+   * ColumnSortPolicy constructor
+   * @param rows the rows of the table, in id order
+   * @param sources makes the source of the rows in a column order, ascending or descending
+   */
+  public ColumnSortPolicy(PagedList<T> rows, BiFunction<ColumnOrder, Boolean, PageSource<T>> sources) {
+    this.rows = rows;
+    this.sources = sources;
+  }
+
+  /**
+   * let a column be sorted by one of the kept orders
+   * @param column the column
+   * @param order the order it is sorted by
+   * @return this policy
+   */
+  public ColumnSortPolicy<T> sortBy(TableColumn<T, ?> column, ColumnOrder order) {
+    orders.put(column, order);
+    return this;
+  }
+
+  @Override
+  public Boolean call(TableView<T> table) {
+    if (table.getItems() != rows) {
+      return TableView.DEFAULT_SORT_POLICY.call(table);
+    }
+    ColumnOrder order = ColumnOrder.ID;
+    boolean descending = false;
+    if (!table.getSortOrder().isEmpty()) {
+      TableColumn<T, ?> column = table.getSortOrder().get(0);
+      order = orders.get(column);
+      if (order == null) {
+        return false;
+      }
+      descending = column.getSortType() == TableColumn.SortType.DESCENDING;
+    }
+    // the table sorts again whenever its rows change, that must not refetch rows already in order
+    if (order != shownOrder || descending != shownDescending) {
+      shownOrder = order;
+      shownDescending = descending;
+      rows.setSource(sources.apply(order, descending));
+    }
+    return true;
+  }
+}
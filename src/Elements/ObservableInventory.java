@@ -0,0 +1,183 @@
+package Elements;
+
+import Main.Inventory;
+import Main.InventoryListener;
+import Main.Part;
+import Main.Product;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ObservableInventory class tells the tables when the parts or products of an Inventory change
+ * the inventory itself has no JavaFX in it, this adapter follows it as a listener and only notes that
+ * something changed, the tables fetch the rows they show from the inventory again.
+ * once publishOnFxThread has been called the listeners are run on the FX thread at most once per pulse,
+ * however many changes were made since the last one
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class ObservableInventory implements InventoryListener {
+  private final Inventory inventory;
+  private final List<Runnable> partsListeners = new CopyOnWriteArrayList<>();
+  private final List<Runnable> productsListeners = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean partsChanged = new AtomicBoolean();
+  private final AtomicBoolean productsChanged = new AtomicBoolean();
+
+  /* set once the FX toolkit is running, runs the listeners on a pulse */
+  private volatile AnimationTimer timer;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * ObservableInventory constructor
+   * @param inventory the inventory to follow
+   */
+  public ObservableInventory(Inventory inventory) {
+    this.inventory = inventory;
+    inventory.addListener(this);
+  }
+
+  /**
+   * @return the inventory followed
+   */
+  public Inventory getInventory() {
+    return inventory;
+  }
+
+  /**
+   * run a listener after the parts change, e.g. PagedList.refresh
+   * @param listener the listener
+   */
+  public void addPartsListener(Runnable listener) {
+    partsListeners.add(listener);
+  }
+
+  /**
+   * @param listener the listener to stop running
+   */
+  public void removePartsListener(Runnable listener) {
+    partsListeners.remove(listener);
+  }
+
+  /**
+   * run a listener after the products change, e.g. PagedList.refresh
+   * @param listener the listener
+   */
+  public void addProductsListener(Runnable listener) {
+    productsListeners.add(listener);
+  }
+
+  /**
+   * @param listener the listener to stop running
+   */
+  public void removeProductsListener(Runnable listener) {
+    productsListeners.remove(listener);
+  }
+
+  /**
+   * run the listeners on the FX thread, once per pulse, from now on
+   * until this is called the listeners run after every change on the thread that made it.
+   * must be called on the FX thread
+   */
+  public void publishOnFxThread() {
+    if (timer == null) {
+      timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+          stop();
+          // cleared first, so changes made while the listeners run are picked up by the next pulse
+          scheduled.set(false);
+          notifyListeners();
+        }
+      };
+    }
+  }
+
+  @Override
+  public void partAdded(Part part) {
+    changed(partsChanged);
+  }
+
+  @Override
+  public void partUpdated(Part previous, Part part) {
+    changed(partsChanged);
+  }
+
+  @Override
+  public void partDeleted(Part part) {
+    changed(partsChanged);
+  }
+
+  @Override
+  public void partsAdded(Collection<? extends Part> parts) {
+    changed(partsChanged);
+  }
+
+  @Override
+  public void partsUpdated(List<? extends Part> previous, List<? extends Part> parts) {
+    changed(partsChanged);
+  }
+
+  @Override
+  public void partsDeleted(List<? extends Part> parts) {
+    changed(partsChanged);
+  }
+
+  @Override
+  public void partStockAdjusted(Part part, int previous, int stock) {
+    changed(partsChanged);
+  }
+
+  @Override
+  public void productAdded(Product product) {
+    changed(productsChanged);
+  }
+
+  @Override
+  public void productUpdated(Product previous, Product product) {
+    changed(productsChanged);
+  }
+
+  @Override
+  public void productDeleted(Product product) {
+    changed(productsChanged);
+  }
+
+  @Override
+  public void productsAdded(Collection<? extends Product> products) {
+    changed(productsChanged);
+  }
+
+  @Override
+  public void productStockAdjusted(Product product, int previous, int stock) {
+    changed(productsChanged);
+  }
+
+  /**
+   * method to note a change and get the listeners run, now or on the next pulse
+   * @param flag partsChanged or productsChanged
+   */
+  private void changed(AtomicBoolean flag) {
+    flag.set(true);
+    AnimationTimer pulse = timer;
+    if (pulse == null) {
+      notifyListeners();
+    } else if (!scheduled.getAndSet(true)) {
+      Platform.runLater(pulse::start);
+    }
+  }
+
+  private void notifyListeners() {
+    if (partsChanged.getAndSet(false)) {
+      partsListeners.forEach(Runnable::run);
+    }
+    if (productsChanged.getAndSet(false)) {
+      productsListeners.forEach(Runnable::run);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package Elements;
+
+import Main.ColumnOrder;
+import Main.Inventory;
+import Main.Part;
+import Main.PartColumns;
+import Main.Product;
+
+import java.util.List;
+
+/**
+ * PageSource interface supplies the rows of a PagedList a page at a time
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ * @param <T> the type of the rows
+ */
+public interface PageSource<T> {
+  /**
+   * @return the number of rows
+   */
+  int size();
+
+  /**
+   * get a run of rows
+   * @param from the position of the first row
+   * @param count the most rows to return
+   * @return the rows, fewer than count at the end
+   */
+  List<T> page(int from, int count);
+
+  /**
+   * the parts of an inventory in id order
+   * @param inventory the inventory
+   * @return the source
+   */
+  static PageSource<Part> parts(Inventory inventory) {
+    return parts(inventory, ColumnOrder.ID, false);
+  }
+
+  /**
+   * the parts of an inventory sorted by a column, read from the order the inventory keeps for it
+   * @param inventory the inventory
+   * @param order the column to sort by
+   * @param descending true for the highest value first
+   * @return the source
+   */
+  static PageSource<Part> parts(Inventory inventory, ColumnOrder order, boolean descending) {
+    return new PageSource<>() {
+      @Override
+      public int size() {
+        return inventory.partCount();
+      }
+
+      @Override
+      public List<Part> page(int from, int count) {
+        return inventory.partsInOrder(order, descending, from, count);
+      }
+    };
+  }
+
+  /**
+   * the products of an inventory in id order
+   * @param inventory the inventory
+   * @return the source
+   */
+  static PageSource<Product> products(Inventory inventory) {
+    return products(inventory, ColumnOrder.ID, false);
+  }
+
+  /**
+   * the products of an inventory sorted by a column, read from the order the inventory keeps for it
+   * @param inventory the inventory
+   * @param order the column to sort by
+   * @param descending true for the highest value first
+   * @return the source
+   */
+  static PageSource<Product> products(Inventory inventory, ColumnOrder order, boolean descending) {
+    return new PageSource<>() {
+      @Override
+      public int size() {
+        return inventory.productCount();
+      }
+
+      @Override
+      public List<Product> page(int from, int count) {
+        return inventory.productsInOrder(order, descending, from, count);
+      }
+    };
+  }
+
+  /**
+   * the parts stored in columns, in row order
+   * only the parts of the pages being looked at exist as objects
+   * @param columns the columns
+   * @return the source
+   */
+  static PageSource<Part> columns(PartColumns columns) {
+    return new PageSource<>() {
+      @Override
+      public int size() {
+        return columns.size();
+      }
+
+      @Override
+      public List<Part> page(int from, int count) {
+        return columns.partsAt(from, count);
+      }
+    };
+  }
+}
@@ -0,0 +1,180 @@
+package Elements;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * PagedList class is a read only observable list that fetches its rows from a PageSource a page at a time
+ * a TableView only asks for the rows it shows, so only those pages, plus the next page in the direction
+ * of scrolling, are held. the least recently used pages are dropped once more than maxPages are held.
+ * call refresh after the source changes, it is meant to be used on the FX thread
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ * @param <T> the type of the rows
+ */
+public class PagedList<T> extends ObservableListBase<T> {
+  public static final int DEFAULT_PAGE_SIZE = 256;
+  public static final int DEFAULT_MAX_PAGES = 32;
+
+  private PageSource<T> source;
+  private final int pageSize;
+  private final Map<Integer, List<T>> pages;
+  private int size;
+  private int lastPage;
+
+  /**
+   * PagedList constructor with the default page size and cache
+   * @param source where the rows come from
+   */
+  public PagedList(PageSource<T> source) {
+    this(source, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+  }
+
+  /**
+   * PagedList constructor
+   * @param source where the rows come from
+   * @param pageSize the rows fetched at a time
+   * @param maxPages the most pages held, at least 2 so the prefetched page does not push out the current one
+   */
+  public PagedList(PageSource<T> source, int pageSize, int maxPages) {
+    if (pageSize < 1 || maxPages < 2) {
+      throw new IllegalArgumentException("A paged list needs pages of at least 1 row and room for 2 pages");
+    }
+    this.source = source;
+    this.pageSize = pageSize;
+    this.pages = new LinkedHashMap<>(maxPages * 2, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+        return size() > maxPages;
+      }
+    };
+    this.size = source.size();
+  }
+
+  /**
+   * get a row, fetching its page if it is not held
+   * @param index the row
+   * @return the row, or null if the source has shrunk since the last refresh
+   */
+  @Override
+  public T get(int index) {
+    Objects.checkIndex(index, size);
+    int page = index / pageSize;
+    List<T> rows = pages.get(page);
+    if (rows == null) {
+      rows = fetch(page);
+      // fetch ahead in the direction the table is scrolling
+      int next = page >= lastPage ? page + 1 : page - 1;
+      if (next >= 0 && next * pageSize < size && !pages.containsKey(next)) {
+        fetch(next);
+      }
+    }
+    lastPage = page;
+    int offset = index - page * pageSize;
+    return offset < rows.size() ? rows.get(offset) : null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * drop every held page and tell the listeners every row may have changed
+   */
+  public void refresh() {
+    int oldSize = size;
+    pages.clear();
+    size = source.size();
+    if (oldSize > 0 || size > 0) {
+      // one replace of every row, nextRemove would copy a placeholder for each old row into the change
+      fireChange(new Refreshed<>(this, oldSize, size));
+    }
+  }
+
+  /**
+   * show the rows of another source, e.g. the same rows in another order
+   * @param source where the rows come from now
+   */
+  public void setSource(PageSource<T> source) {
+    this.source = source;
+    refresh();
+  }
+
+  /**
+   * @return where the rows come from
+   */
+  public PageSource<T> getSource() {
+    return source;
+  }
+
+  /**
+   * @return the number of pages held right now
+   */
+  public int heldPages() {
+    return pages.size();
+  }
+
+  /**
+   * Refreshed class is the change fired by refresh, every old row replaced by every new row.
+   * the old rows are no longer held, so they are reported as placeholders
+   */
+  private static class Refreshed<T> extends ListChangeListener.Change<T> {
+    private final int oldSize;
+    private final int newSize;
+    private boolean read;
+
+    Refreshed(PagedList<T> list, int oldSize, int newSize) {
+      super(list);
+      this.oldSize = oldSize;
+      this.newSize = newSize;
+    }
+
+    @Override
+    public boolean next() {
+      if (read) {
+        return false;
+      }
+      read = true;
+      return true;
+    }
+
+    @Override
+    public void reset() {
+      read = false;
+    }
+
+    @Override
+    public int getFrom() {
+      return 0;
+    }
+
+    @Override
+    public int getTo() {
+      return newSize;
+    }
+
+    @Override
+    public List<T> getRemoved() {
+      return Collections.nCopies(oldSize, null);
+    }
+
+    @Override
+    protected int[] getPermutation() {
+      return new int[0];
+    }
+  }
+
+  private List<T> fetch(int page) {
+    List<T> rows = source.page(page * pageSize, pageSize);
+    pages.put(page, rows);
+    return rows;
+  }
+}
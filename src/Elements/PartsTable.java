@@ -1,7 +1,5 @@
 package Elements;
 import Main.*;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -30,11 +28,11 @@ public class PartsTable {
 
   /**
    * PartsTable constructor
-   * @param inventory - the current inventory from main
+   * @param observableInventory - the current inventory and its change notifications
    * @param partsTable - the partsTable from main
    */
-  public PartsTable(Inventory inventory, TableView<Part> partsTable) {
-    this.inventory = inventory;
+  public PartsTable(ObservableInventory observableInventory, TableView<Part> partsTable) {
+    this.inventory = observableInventory.getInventory();
     this.partsTable = partsTable;
   }
 
@@ -47,21 +45,10 @@ public class PartsTable {
     Label partsTableLabel = new Label("Parts"); // label
     TextField partsTableSearch = new TextField(); // search field
     partsTableSearch.setPromptText("Search by Part ID or Name"); // placeholder
-    partsTableSearch.addEventHandler(KeyEvent.KEY_RELEASED, event -> { // event handler
-      String searchText = partsTableSearch.getText();
-      if (searchText.length() == 0) {
-        partsTable.setItems(inventory.getAllParts());
-      }
-      // the following try assumes a part id exists and can be parsed as an int
-      // if it's not an int it will trigger the catch
-      // I'm hoping this will suffice requirement runtime error requirement in the Javadoc
-      try {
-        int partId = Integer.parseInt(searchText);
-        partsTable.setItems(FXCollections.observableArrayList(inventory.lookupPart(partId)));
-      } catch (Exception e) {
-        partsTable.setItems(inventory.lookupPart(searchText));
-      }
-    });
+    // lookups run in the background and only the latest result is shown
+    SearchExecutor<Part> partsSearch = new SearchExecutor<>(partsTable.getItems(), inventory::lookupPart,
+      inventory::lookupPart, Part::getName, partsTable::setItems);
+    partsTableSearch.addEventHandler(KeyEvent.KEY_RELEASED, event -> partsSearch.search(partsTableSearch.getText()));
     // setup containing horizontal box for label/search field
     HBox partsHeader = new HBox(defaultPadding * 5, partsTableLabel, partsTableSearch);
     partsHeader.setAlignment(Pos.BASELINE_LEFT); // alignment
@@ -95,6 +82,8 @@ public class PartsTable {
       Part selectedPart = partsTable.getSelectionModel().getSelectedItem();
       if (selectedPart == null) {
         showError("Please select a part to delete.");
+      } else if (inventory.isPartInUse(selectedPart.getId())) {
+        showError("You cannot delete a part that is associated with a product");
       } else {
         // must confirm the delete via confirmation alert
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
@@ -292,48 +281,23 @@ public class PartsTable {
       ActionEvent.ACTION,
       event -> {
         try {
-          // setup validations with series of booleans and values
-          boolean partSourceValid = inHouseRb.isSelected() || outsourcedRb.isSelected();
+          // parse the fields, the rules themselves are shared with the importer
           String partName = partNameTf.getText();
-          boolean partNameValid = partName.length() > 0;
           int partInventory = Integer.parseInt(partInvTf.getText());
           double partCost = Double.parseDouble(partCostTf.getText());
-          boolean partCostValid = partCost >= 0;
           int partMax = Integer.parseInt(partMaxTf.getText());
-          boolean partMaxValid = partMax >= 1;
           int partMin = Integer.parseInt(partMinTf.getText());
-          boolean partMinValid = partMin >= 0;
-          boolean partMinMaxValid = partMaxValid && partMinValid && partMax >= partMin;
-          boolean partInventoryValid = partInventory <= partMax && partInventory >= partMin;
           Integer partMachineId = inHouseRb.isSelected() ? Integer.parseInt(partMachineIdTf.getText()) : null;
           String partCompanyName = outsourcedRb.isSelected() ? partCompanyNameTf.getText() : null;
-
-          boolean partMachineOrCompanyNameValid =
-            (inHouseRb.isSelected() && partMachineId != null && partMachineId > 999)
-            ||
-            (outsourcedRb.isSelected() && partCompanyName!= null && partCompanyName.length() > 0);
+          String error = Validation.partError(inHouseRb.isSelected(), outsourcedRb.isSelected(), partName,
+            partInventory, partCost, partMin, partMax, partMachineId, partCompanyName);
 
           // form validation
-          if (!partSourceValid) {
-            showError("Please select a part source (InHouse or Outsourced)");
-            event.consume();
-          } else if (!partNameValid) {
-            showError("Please provide a valid part name");
-            event.consume();
-          } else if (!partInventoryValid) {
-            showError("Please provide a valid inventory level. It must be between the min and max");
-            event.consume();
-          } else if (!partCostValid) {
-            showError("Please provide a valid part cost");
-            event.consume();
-          } else if (!partMinMaxValid) {
-            showError("Please provide a valid min/max value.");
-            event.consume();
-          } else if (!partMachineOrCompanyNameValid) {
-            showError("Please provide a valid " + (outsourcedRb.isSelected() ? "company name" : "machine id"));
+          if (error != null) {
+            showError(error);
             event.consume();
           } else {
-            int newPartId = partId != null ? partId : getNewPartId();
+            int newPartId = partId != null ? partId : inventory.nextPartId();
             Part newPart;
             // various types based on outsourced vs InHouse
             if (outsourcedRb.isSelected()) {
@@ -345,7 +309,7 @@ public class PartsTable {
             }
 
             if (isEditing) {
-              inventory.updatePart(getPartIndexFromPartId(partId), newPart);
+              inventory.updatePart(partId, newPart);
             } else {
               inventory.addPart(newPart);
             }
@@ -363,21 +327,6 @@ public class PartsTable {
     addPartDialog.hide();
   }
 
-  /**
-   * method to get the newest part id
-   * @return partId
-   */
-  private int getNewPartId() {
-    int partId = 0;
-    ObservableList<Part> allParts = inventory.getAllParts();
-    for(Part myPart : allParts) {
-      if(partId <= myPart.getId()) {
-        partId = myPart.getId() + 1;
-      }
-    }
-    return partId;
-  }
-
   /**
    * Method to show an alert error
    * Used when there is an error, validation is missing, etc.
@@ -391,26 +340,4 @@ public class PartsTable {
     // show the dialog
     a.show();
   }
-
-  /**
-   * method to get the part index from a part id
-   * it might be better for this method to be in the Inventory class
-   * but the UML diagram said not to
-   * @param partId - the part id we are looking for
-   * @return partIndex
-   */
-  private int getPartIndexFromPartId(int partId) {
-    int editingPartIndex = 0;
-    int countingPartIndex = 0;
-    ObservableList<Part> allParts = inventory.getAllParts();
-    for(Part myPart : allParts) {
-      // I'm worried about null pointers. It is wrapped in a try so I think we're ok
-      if(partId == myPart.getId()) {
-        editingPartIndex = countingPartIndex;
-        break;
-      }
-      countingPartIndex++;
-    }
-    return editingPartIndex;
-  }
 }
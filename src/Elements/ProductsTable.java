@@ -1,20 +1,23 @@
 package Elements;
 
+import Main.ColumnOrder;
 import Main.Inventory;
 import Main.Part;
 import Main.Product;
+import Main.Validation;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,6 +29,7 @@ import java.util.Optional;
  */
 public class ProductsTable {
   private final Inventory inventory;
+  private final ObservableInventory observableInventory;
   private final TableView<Product> productsTable;
   private final int defaultPadding = 10;
   // create a alert
@@ -34,11 +38,12 @@ public class ProductsTable {
 
   /**
    * ProductsTable constructor
-   * @param inventory - the current inventory
+   * @param observableInventory - the current inventory and its change notifications
    * @param productsTable - productsTable used in the main view
    */
-  public ProductsTable(Inventory inventory, TableView<Product> productsTable) {
-    this.inventory = inventory;
+  public ProductsTable(ObservableInventory observableInventory, TableView<Product> productsTable) {
+    this.inventory = observableInventory.getInventory();
+    this.observableInventory = observableInventory;
     this.productsTable = productsTable;
   }
 
@@ -54,18 +59,10 @@ public class ProductsTable {
 
     TextField productsTableSearch = new TextField(); // search field
     productsTableSearch.setPromptText("Search by Product ID or Name"); // placehoder
-    productsTableSearch.addEventHandler(KeyEvent.KEY_RELEASED, event -> { // event handler
-      String searchText = productsTableSearch.getText();
-      if (searchText.length() == 0) {
-        productsTable.setItems(inventory.getAllProducts());
-      }
-      try {
-        int productId = Integer.parseInt(searchText);
-        productsTable.setItems(FXCollections.observableArrayList(inventory.lookupProduct(productId)));
-      } catch (Exception e) {
-        productsTable.setItems(inventory.lookupProduct(searchText));
-      }
-    });
+    // lookups run in the background and only the latest result is shown
+    SearchExecutor<Product> productsSearch = new SearchExecutor<>(productsTable.getItems(), inventory::lookupProduct,
+      inventory::lookupProduct, Product::getName, productsTable::setItems);
+    productsTableSearch.addEventHandler(KeyEvent.KEY_RELEASED, event -> productsSearch.search(productsTableSearch.getText()));
 
     HBox productsHeader = new HBox(defaultPadding * 5, productsTableLabel, productsTableSearch);
     productsHeader.setAlignment(Pos.BASELINE_LEFT); // alignment
@@ -102,6 +99,8 @@ public class ProductsTable {
         showError("Please select a product to delete.");
       } else if (selectedProduct.getAllAssociatedParts().size() > 0) {
         showError("You cannot delete a product that has associated parts");
+      } else if (inventory.isProductInUse(selectedProduct.getId())) {
+        showError("You cannot delete a product that is a subassembly of another product");
       } else {
         // must confirm the delete via confirmation alert
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
@@ -145,9 +144,10 @@ public class ProductsTable {
     TextField productCostTf = new TextField();
     TextField productMaxTf = new TextField();
     TextField productMinTf = new TextField();
-    ObservableList<Part> associatedParts = product.getAllAssociatedParts();
+    // the product's own list is not observable, the table shows a copy that follows every add and remove
+    ObservableList<Part> associatedParts = FXCollections.observableArrayList(product.getAllAssociatedParts());
     // we need a backup here as well in case the user cancels
-    ObservableList<Part> backupAssociatedParts = FXCollections.observableArrayList(associatedParts);
+    List<Part> backupAssociatedParts = new ArrayList<>(associatedParts);
 
     // populate the form if editing
     if (isEditing) {
@@ -167,7 +167,21 @@ public class ProductsTable {
     TableView<Part> associatedPartsTable = getPartsTable();
     associatedPartsTable.setItems(associatedParts);
     TableView<Part> allPartsTable = getPartsTable();
-    allPartsTable.setItems(inventory.getAllParts());
+    // like the main parts table, only the visible pages are fetched and they are dropped when the parts change
+    PagedList<Part> allParts = new PagedList<>(PageSource.parts(inventory));
+    Runnable refreshAllParts = allParts::refresh;
+    observableInventory.addPartsListener(refreshAllParts);
+    allPartsTable.setItems(allParts);
+    // a header click switches to an order the inventory keeps, like the main parts table,
+    // the default policy would copy every page of the catalog to sort it
+    // the columns are in the order getPartsTable adds them
+    List<TableColumn<Part, ?>> allPartsColumns = allPartsTable.getColumns();
+    allPartsTable.setSortPolicy(new ColumnSortPolicy<>(allParts,
+      (order, descending) -> PageSource.parts(inventory, order, descending))
+      .sortBy(allPartsColumns.get(0), ColumnOrder.ID)
+      .sortBy(allPartsColumns.get(1), ColumnOrder.NAME)
+      .sortBy(allPartsColumns.get(2), ColumnOrder.STOCK)
+      .sortBy(allPartsColumns.get(3), ColumnOrder.PRICE));
     associatedPartsTable.setPlaceholder(new Label("No parts associated yet with this product."));
     allPartsTable.setPlaceholder(new Label("No parts found."));
 
@@ -179,6 +193,7 @@ public class ProductsTable {
         showError("Please select a part to add.");
       } else {
         product.addAssociatedPart(selectedPart);
+        associatedParts.setAll(product.getAllAssociatedParts());
       }
     });
 
@@ -201,6 +216,7 @@ public class ProductsTable {
             alert.close();
             showError("There was an error deleting the part. Please try again later.");
           }
+          associatedParts.setAll(product.getAllAssociatedParts());
         } else {
           alert.close();
         }
@@ -317,8 +333,8 @@ public class ProductsTable {
     cancelButton.addEventFilter(
       ActionEvent.ACTION,
       event -> {
-        associatedParts.clear();
-        backupAssociatedParts.forEach(product::addAssociatedPart);
+        new ArrayList<>(product.getAllAssociatedParts()).forEach(product::deleteAssociatedPart);
+        product.addAssociatedParts(backupAssociatedParts);
       }
     );
 
@@ -334,39 +350,22 @@ public class ProductsTable {
          */
         try {
           String productName = productNameTf.getText();
-          boolean productNameValid = productName.length() > 0;
           int productInventory = Integer.parseInt(productInvTf.getText());
           double productCost = Double.parseDouble(productCostTf.getText());
-          boolean productCostValid = productCost >= 0;
           int productMax = Integer.parseInt(productMaxTf.getText());
-          boolean productMaxValid = productMax >= 0;
           int productMin = Integer.parseInt(productMinTf.getText());
-          boolean productMinValid = productMin >= 0;
-          boolean productMinMaxValid = productMaxValid && productMinValid && productMax >= productMin;
-          boolean productInventoryValid = productInventory <= productMax && productInventory >= productMin;
+          String error = Validation.productError(productName, productInventory, productCost, productMin, productMax);
 
           // if we passed validation
-          if (!productNameValid) {
-            showError("Please provide a valid product name");
-            event.consume();
-          } else if (!productInventoryValid) {
-            showError("Please provide a valid product inventory. It must be between min and max");
-            event.consume();
-          } else if (!productCostValid) {
-            showError("Pleae provide a valid cost");
-            event.consume();
-          } else if (!productMinMaxValid) {
-            showError("Please provide valid min/max values");
+          if (error != null) {
+            showError(error);
             event.consume();
           } else {
-            Product newProduct = new Product(isEditing ? productId : getNewProductId(), productName, productCost, productInventory, productMin, productMax);
+            Product newProduct = new Product(isEditing ? productId : inventory.nextProductId(), productName, productCost, productInventory, productMin, productMax);
             // now copy all the associated parts
-            for(Part myPart : associatedParts) {
-              newProduct.addAssociatedPart(myPart);
-            }
+            newProduct.addAssociatedParts(associatedParts);
             if (isEditing) {
-              int productIndex = getPartIndexFromPartId(productId);
-              inventory.updateProduct(productIndex, newProduct);
+              inventory.updateProduct(productId, newProduct);
             } else {
               inventory.addProduct(newProduct);
             }
@@ -381,6 +380,7 @@ public class ProductsTable {
     // reset when closing
     addProductDialog.close();
     addProductDialog.hide();
+    observableInventory.removePartsListener(refreshAllParts);
   }
 
   /**
@@ -393,18 +393,9 @@ public class ProductsTable {
     Label partsTableLabel = new Label("All Parts"); // label
     TextField partsTableSearch = new TextField(); // search field
     partsTableSearch.setPromptText("Search by Part ID or Name"); // placeholder
-    partsTableSearch.addEventHandler(KeyEvent.KEY_RELEASED, event -> { // event handler
-      String searchText = partsTableSearch.getText();
-      if (searchText.length() == 0) {
-        partsTable.setItems(inventory.getAllParts());
-      }
-      try {
-        int partId = Integer.parseInt(searchText);
-        partsTable.setItems(FXCollections.observableArrayList(inventory.lookupPart(partId)));
-      } catch (Exception e) {
-        partsTable.setItems(inventory.lookupPart(searchText));
-      }
-    });
+    SearchExecutor<Part> partsSearch = new SearchExecutor<>(partsTable.getItems(), inventory::lookupPart,
+      inventory::lookupPart, Part::getName, partsTable::setItems);
+    partsTableSearch.addEventHandler(KeyEvent.KEY_RELEASED, event -> partsSearch.search(partsTableSearch.getText()));
     // setup containing horizontal box for label/search field
     HBox partsHeader = new HBox(defaultPadding * 5, partsTableLabel, partsTableSearch);
     partsHeader.setAlignment(Pos.BASELINE_LEFT); // alignment
@@ -420,15 +411,11 @@ public class ProductsTable {
   private TableView<Part> getPartsTable (){
     TableView<Part> associatedPartsTable = new TableView<>();
     //Creating columns
-    TableColumn partIdCol = new TableColumn("Part ID");
-    partIdCol.setCellValueFactory(new PropertyValueFactory<>("id"));
-    TableColumn partNameCol = new TableColumn("Part Name");
-    partNameCol.setCellValueFactory(new PropertyValueFactory<>("name"));
-    TableColumn partStockCol = new TableColumn("Inventory Level");
-    partStockCol.setCellValueFactory(new PropertyValueFactory<>("stock"));
-    TableColumn partPriceCol = new TableColumn("Price/Cost Per Item");
-    partPriceCol.setCellValueFactory(new PropertyValueFactory<>("price"));
-    associatedPartsTable.getColumns().addAll(partIdCol, partNameCol, partStockCol, partPriceCol);
+    TableColumn<Part, Number> partIdCol = TableColumns.intColumn("Part ID", Part::getId);
+    TableColumn<Part, String> partNameCol = TableColumns.textColumn("Part Name", Part::getName);
+    TableColumn<Part, Number> partStockCol = TableColumns.intColumn("Inventory Level", Part::getStock);
+    TableColumn<Part, Number> partPriceCol = TableColumns.doubleColumn("Price/Cost Per Item", Part::getPrice);
+    associatedPartsTable.getColumns().addAll(List.of(partIdCol, partNameCol, partStockCol, partPriceCol));
     associatedPartsTable.setMaxSize(350, 200);
     return associatedPartsTable;
   }
@@ -446,41 +433,4 @@ public class ProductsTable {
     // show the dialog
     a.show();
   }
-
-  /**
-   * method to get the newest productId
-   * @return partId
-   */
-  private int getNewProductId() {
-    int productId = 0;
-    ObservableList<Product> allProducts = inventory.getAllProducts();
-    for(Product myProduct : allProducts) {
-      if(productId <= myProduct.getId()) {
-        productId = myProduct.getId() + 1;
-      }
-    }
-    return productId;
-  }
-
-  /**
-   * method to get the product index from a product id
-   * it might be better for this method to be in the Inventory class
-   * but the UML diagram said not to
-   * @param productId - the product id we are looking for
-   * @return productIndex
-   */
-  private int getPartIndexFromPartId(int productId) {
-    int editingProductIndex = 0;
-    int countingProductIndex = 0;
-    ObservableList<Product> allProducts = inventory.getAllProducts();
-    for(Product myProduct : allProducts) {
-      // I'm worried about null pointers. It is wrapped in a try so I think we're ok
-      if(productId == myProduct.getId()) {
-        editingProductIndex = countingProductIndex;
-        break;
-      }
-      countingProductIndex++;
-    }
-    return editingProductIndex;
-  }
 }
@@ -0,0 +1,219 @@
+package Elements;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * SearchExecutor class runs the search box lookups off the FX thread
+ * keystrokes are debounced, stale queries are dropped, and a query that extends
+ * the previous one narrows the previous result instead of searching the whole inventory.
+ * only the result of the latest query is published back to the table.
+ * when the rows change while a query is shown, the query is run again, debounced like a keystroke,
+ * so an edited or deleted row does not stay in the result
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ * @param <T> the type of the rows being searched
+ */
+public class SearchExecutor<T> {
+  private static final long DEBOUNCE_MILLIS = 150;
+  // check for a newer query this often while narrowing a large result
+  private static final int CANCEL_CHECK_INTERVAL = 4096;
+  // one background thread is shared by every search box
+  private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "inventory-search");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final ObservableList<T> allItems;
+  private final IntFunction<T> idLookup;
+  private final Function<String, List<T>> nameLookup;
+  private final Function<T, String> nameOf;
+  private final Consumer<ObservableList<T>> publisher;
+  // runs the publisher, the FX thread outside of tests
+  private final Executor fxThread;
+  // bumped for every query so older ones can tell they are stale
+  private final AtomicLong generation = new AtomicLong();
+  // bumped whenever allItems changes so a cached result is not narrowed after an edit
+  private final AtomicLong dataVersion = new AtomicLong();
+  private final AtomicReference<CachedResult<T>> lastResult = new AtomicReference<>();
+  // the text of the query shown, only used on the FX thread
+  private String currentText = "";
+  // held here so the weak listener on allItems lives exactly as long as this executor
+  private final ListChangeListener<T> invalidationListener = change -> {
+    dataVersion.incrementAndGet();
+    lastResult.set(null);
+    // the published result is a fixed list, so it is looked up again rather than left with stale rows
+    if (currentText.length() > 0) {
+      search(currentText);
+    }
+  };
+  private ScheduledFuture<?> pending;
+
+  /**
+   * SearchExecutor constructor
+   * allItems must only change on the FX thread, a change runs the shown query again
+   * @param allItems - the full list shown when the search box is empty
+   * @param idLookup - lookup used when the query is a number
+   * @param nameLookup - lookup used for a name query
+   * @param nameOf - gets the name of a row, used when narrowing a previous result
+   * @param publisher - receives the final result on the FX thread
+   */
+  public SearchExecutor(ObservableList<T> allItems, IntFunction<T> idLookup, Function<String, List<T>> nameLookup,
+                        Function<T, String> nameOf, Consumer<ObservableList<T>> publisher) {
+    this(allItems, idLookup, nameLookup, nameOf, publisher, Platform::runLater);
+  }
+
+  /**
+   * SearchExecutor constructor that publishes through an executor instead of the FX thread, for tests
+   * the other parameters are the same as the public constructor
+   * @param fxThread - runs the publisher
+   */
+  SearchExecutor(ObservableList<T> allItems, IntFunction<T> idLookup, Function<String, List<T>> nameLookup,
+                 Function<T, String> nameOf, Consumer<ObservableList<T>> publisher, Executor fxThread) {
+    this.allItems = allItems;
+    this.idLookup = idLookup;
+    this.nameLookup = nameLookup;
+    this.nameOf = nameOf;
+    this.publisher = publisher;
+    this.fxThread = fxThread;
+    allItems.addListener(new WeakListChangeListener<>(invalidationListener));
+  }
+
+  /**
+   * method to search for the text in the search box
+   * must be called on the FX thread, typically from a key event
+   * @param searchText - the current search text
+   */
+  public void search(String searchText) {
+    if (pending != null) {
+      pending.cancel(false);
+    }
+    long queryGeneration = generation.incrementAndGet();
+    currentText = searchText;
+    if (searchText.length() == 0) {
+      publisher.accept(allItems);
+      return;
+    }
+    pending = EXECUTOR.schedule(() -> run(searchText, queryGeneration), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * method to run a query on the background thread and publish it if still current
+   * @param searchText - the query
+   * @param queryGeneration - generation of the query
+   */
+  private void run(String searchText, long queryGeneration) {
+    if (queryGeneration != generation.get()) {
+      return;
+    }
+    List<T> result;
+    // a query that parses as an int is an id lookup, just like before
+    Integer id = parseId(searchText);
+    if (id != null) {
+      T item = idLookup.apply(id);
+      result = item == null ? Collections.emptyList() : Collections.singletonList(item);
+    } else {
+      long version = dataVersion.get();
+      result = narrow(searchText, queryGeneration);
+      if (result == null) {
+        result = nameLookup.apply(searchText);
+      }
+      if (queryGeneration != generation.get()) {
+        return;
+      }
+      if (version == dataVersion.get()) {
+        lastResult.set(new CachedResult<>(searchText, result, version));
+      }
+    }
+    // the table sorts its items in place on the FX thread, so it gets a copy and the cached result stays untouched
+    ObservableList<T> items = FXCollections.observableArrayList(result);
+    fxThread.execute(() -> {
+      if (queryGeneration == generation.get()) {
+        publisher.accept(items);
+      }
+    });
+  }
+
+  /**
+   * method to narrow the previous result when the new query contains the previous query
+   * every name containing the new query also contains the old one, so the old result holds every match
+   * @param searchText - the new query
+   * @param queryGeneration - generation of the new query
+   * @return the narrowed result, or null when the previous result cannot be reused
+   */
+  private List<T> narrow(String searchText, long queryGeneration) {
+    CachedResult<T> cached = lastResult.get();
+    if (cached == null || cached.version != dataVersion.get() || !containsIgnoreCase(searchText, cached.query)) {
+      return null;
+    }
+    List<T> narrowed = new ArrayList<>();
+    for (int i = 0; i < cached.result.size(); i++) {
+      if (i % CANCEL_CHECK_INTERVAL == 0 && queryGeneration != generation.get()) {
+        return narrowed; // stale, the caller drops it
+      }
+      T item = cached.result.get(i);
+      if (containsIgnoreCase(nameOf.apply(item), searchText)) {
+        narrowed.add(item);
+      }
+    }
+    return narrowed;
+  }
+
+  /**
+   * case insensitive contains that does not allocate lowercase copies
+   * @param text - the text to look in
+   * @param query - the text to look for
+   * @return boolean
+   */
+  private static boolean containsIgnoreCase(String text, String query) {
+    int last = text.length() - query.length();
+    for (int i = 0; i <= last; i++) {
+      if (text.regionMatches(true, i, query, 0, query.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Integer parseId(String searchText) {
+    try {
+      return Integer.parseInt(searchText);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * the result of the last name query
+   * @param <T> the type of the rows
+   */
+  private static final class CachedResult<T> {
+    private final String query;
+    private final List<T> result;
+    private final long version;
+
+    private CachedResult(String query, List<T> result, long version) {
+      this.query = query;
+      this.result = result;
+      this.version = version;
+    }
+  }
+}
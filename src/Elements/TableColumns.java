@@ -0,0 +1,119 @@
+package Elements;
+
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.scene.control.TableColumn;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * TableColumns class builds typed table columns
+ * cells call the getter of the row directly, instead of looking it up by reflection as PropertyValueFactory does.
+ * each column keeps the properties of the rows it showed last and only sets their value again, so scrolling
+ * does not allocate a property per cell. the rows hold no properties themselves, the core classes stay free of JavaFX
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class TableColumns {
+  private TableColumns() {
+  }
+
+  /**
+   * build a column whose cells show an int of the row
+   * @param title the column header
+   * @param getter gets the value from a row
+   * @param <S> the type of the rows
+   * @return the column
+   */
+  public static <S> TableColumn<S, Number> intColumn(String title, ToIntFunction<S> getter) {
+    TableColumn<S, Number> column = new TableColumn<>(title);
+    RowCache<S, ReadOnlyIntegerWrapper> properties = new RowCache<>(ReadOnlyIntegerWrapper::new);
+    column.setCellValueFactory(cell -> {
+      S row = cell.getValue();
+      // a paged row that is not fetched yet is null
+      if (row == null) {
+        return null;
+      }
+      ReadOnlyIntegerWrapper property = properties.get(row);
+      property.set(getter.applyAsInt(row));
+      return property.getReadOnlyProperty();
+    });
+    return column;
+  }
+
+  /**
+   * build a column whose cells show a double of the row
+   * @param title the column header
+   * @param getter gets the value from a row
+   * @param <S> the type of the rows
+   * @return the column
+   */
+  public static <S> TableColumn<S, Number> doubleColumn(String title, ToDoubleFunction<S> getter) {
+    TableColumn<S, Number> column = new TableColumn<>(title);
+    RowCache<S, ReadOnlyDoubleWrapper> properties = new RowCache<>(ReadOnlyDoubleWrapper::new);
+    column.setCellValueFactory(cell -> {
+      S row = cell.getValue();
+      if (row == null) {
+        return null;
+      }
+      ReadOnlyDoubleWrapper property = properties.get(row);
+      property.set(getter.applyAsDouble(row));
+      return property.getReadOnlyProperty();
+    });
+    return column;
+  }
+
+  /**
+   * build a column whose cells show a string of the row
+   * @param title the column header
+   * @param getter gets the value from a row
+   * @param <S> the type of the rows
+   * @return the column
+   */
+  public static <S> TableColumn<S, String> textColumn(String title, Function<S, String> getter) {
+    TableColumn<S, String> column = new TableColumn<>(title);
+    RowCache<S, ReadOnlyStringWrapper> properties = new RowCache<>(ReadOnlyStringWrapper::new);
+    column.setCellValueFactory(cell -> {
+      S row = cell.getValue();
+      if (row == null) {
+        return null;
+      }
+      ReadOnlyStringWrapper property = properties.get(row);
+      property.set(getter.apply(row));
+      return property.getReadOnlyProperty();
+    });
+    return column;
+  }
+
+  /**
+   * RowCache class holds the property of the rows seen last, one slot per identity hash
+   * a row that finds another row in its slot gets a new property, so a cell still bound to the old one keeps its row
+   * @param <S> the type of the rows
+   * @param <P> the type of the properties
+   */
+  private static final class RowCache<S, P> {
+    private static final int SLOTS = 1024;
+    private final Object[] rows = new Object[SLOTS];
+    private final Object[] properties = new Object[SLOTS];
+    private final Supplier<P> create;
+
+    private RowCache(Supplier<P> create) {
+      this.create = create;
+    }
+
+    @SuppressWarnings("unchecked")
+    private P get(S row) {
+      int slot = System.identityHashCode(row) & (SLOTS - 1);
+      if (rows[slot] != row) {
+        rows[slot] = row;
+        properties[slot] = create.get();
+      }
+      return (P) properties[slot];
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package Main;
+
+/**
+ * AssociationListener is told when a part is associated with or removed from a product
+ * Inventory uses it to keep its where-used index current.
+ * it is called while the product is held, so the changes of one product are reported in the order they were made
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public interface AssociationListener {
+    /**
+     * called after a part is associated with a product
+     * @param product the product
+     * @param part the part that was added
+     */
+    void partAssociated(Product product, Part part);
+
+    /**
+     * called after a part is removed from a product
+     * @param product the product
+     * @param part the part that was removed
+     */
+    void partDissociated(Product product, Part part);
+}
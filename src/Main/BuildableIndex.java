@@ -0,0 +1,320 @@
+package Main;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+
+/**
+ * BuildableIndex class works out how many units of each product can be built from the current stock of its parts
+ * every unit takes one of each associated part and one unit of each subassembly, which is built from its own parts
+ * in turn, so the number is the lowest stock among all the parts below the product divided by how often the
+ * product needs it. a part used both by the product and by one of its subassemblies is needed twice per unit.
+ * numbers are worked out when asked for and kept until something below the product changes, a stock change
+ * only clears the products that use the part and the products above them.
+ * the parts below a product are kept as well and only worked out again when a product below it changes,
+ * so a stock change never walks the subassemblies again.
+ *
+ * it is kept in step with an Inventory as one of its listeners, see Inventory.getBuildableIndex
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class BuildableIndex implements InventoryListener {
+    /* part id -> stock, never below 0 */
+    private final IntIntMap partStock = new IntIntMap();
+
+    /* product id -> parts, subassemblies and cached units */
+    private final IntMap<Assembly> assemblies = new IntMap<>();
+
+    /* part id -> ids of the products using it */
+    private final WhereUsedIndex partUsers = new WhereUsedIndex();
+
+    /* product id -> ids of the products using it as a subassembly */
+    private final WhereUsedIndex parents = new WhereUsedIndex();
+
+    /**
+     * get how many units of a product can be built right now
+     * @param productId the id of the product
+     * @return the units the stock of the parts below the product allows, 0 when there are no parts below it
+     * @throws NoSuchElementException if there is no product with the id
+     */
+    public synchronized int buildable(int productId) {
+        Assembly assembly = assemblies.get(productId);
+        if (assembly == null) {
+            throw new NoSuchElementException("There is no product with id " + productId);
+        }
+        if (!assembly.valid) {
+            assembly.units = units(resolveNeeds(assembly));
+            assembly.valid = true;
+        }
+        return assembly.units;
+    }
+
+    /**
+     * @return the number of products
+     */
+    public synchronized int size() {
+        return assemblies.size();
+    }
+
+    @Override
+    public synchronized void partAdded(Part part) {
+        setStock(part);
+    }
+
+    @Override
+    public synchronized void partUpdated(Part previous, Part part) {
+        setStock(part);
+    }
+
+    @Override
+    public synchronized void partStockAdjusted(Part part, int previous, int stock) {
+        // the part is read again instead of trusting stock, adjustments of one part may be reported out of order
+        setStock(part);
+    }
+
+    @Override
+    public synchronized void partDeleted(Part part) {
+        partStock.remove(part.getId());
+        invalidateUsers(part.getId());
+    }
+
+    @Override
+    public synchronized void productAdded(Product product) {
+        Assembly assembly = new Assembly();
+        for (Part part : product.getAllAssociatedParts()) {
+            assembly.parts.add(part.getId());
+            partUsers.add(part.getId(), product.getId());
+        }
+        assemblies.put(product.getId(), assembly);
+    }
+
+    @Override
+    public synchronized void productUpdated(Product previous, Product product) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly == null) {
+            productAdded(product);
+            return;
+        }
+        // the subassemblies belong to the inventory and stay with the product, only the parts are replaced
+        for (int i = 0; i < assembly.parts.size(); i++) {
+            partUsers.remove(assembly.parts.get(i), product.getId());
+        }
+        assembly.parts = new SortedIntList();
+        for (Part part : product.getAllAssociatedParts()) {
+            assembly.parts.add(part.getId());
+            partUsers.add(part.getId(), product.getId());
+        }
+        invalidate(product.getId(), true);
+    }
+
+    @Override
+    public synchronized void productDeleted(Product product) {
+        int productId = product.getId();
+        Assembly assembly = assemblies.get(productId);
+        if (assembly == null) {
+            return;
+        }
+        invalidate(productId, true);
+        for (int i = 0; i < assembly.parts.size(); i++) {
+            partUsers.remove(assembly.parts.get(i), productId);
+        }
+        for (int i = 0; i < assembly.subassemblies.size(); i++) {
+            parents.remove(assembly.subassemblies.get(i), productId);
+        }
+        for (int parentId : parents.productsUsing(productId)) {
+            assemblies.get(parentId).subassemblies.remove(productId);
+            parents.remove(productId, parentId);
+        }
+        assemblies.remove(productId);
+    }
+
+    @Override
+    public synchronized void partAssociated(Product product, Part part) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly != null && assembly.parts.add(part.getId())) {
+            partUsers.add(part.getId(), product.getId());
+            invalidate(product.getId(), true);
+        }
+    }
+
+    @Override
+    public synchronized void partDissociated(Product product, Part part) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly != null && assembly.parts.remove(part.getId())) {
+            partUsers.remove(part.getId(), product.getId());
+            invalidate(product.getId(), true);
+        }
+    }
+
+    @Override
+    public synchronized void subassemblyAdded(Product product, Product subassembly) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly != null && assemblies.get(subassembly.getId()) != null
+                && assembly.subassemblies.add(subassembly.getId())) {
+            parents.add(subassembly.getId(), product.getId());
+            invalidate(product.getId(), true);
+        }
+    }
+
+    @Override
+    public synchronized void subassemblyRemoved(Product product, Product subassembly) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly != null && assembly.subassemblies.remove(subassembly.getId())) {
+            parents.remove(subassembly.getId(), product.getId());
+            invalidate(product.getId(), true);
+        }
+    }
+
+    /**
+     * method to record the current stock of a part and clear the products using it
+     * @param part the part
+     */
+    private void setStock(Part part) {
+        int stock = Math.max(0, part.getStock());
+        if (partStock.put(part.getId(), stock) != stock) {
+            invalidateUsers(part.getId());
+        }
+    }
+
+    private void invalidateUsers(int partId) {
+        for (int productId : partUsers.productsUsing(partId)) {
+            invalidate(productId, false);
+        }
+    }
+
+    /**
+     * method to clear the units of a product and of every product above it
+     * the units of a product can be cleared while a product above it keeps its own, see buildable,
+     * so the walk always goes all the way up instead of stopping at the first cleared product
+     * @param productId the id of the product
+     * @param structure true when the parts below the product changed, not just their stock
+     */
+    private void invalidate(int productId, boolean structure) {
+        IntIntMap seen = new IntIntMap();
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(productId);
+        seen.put(productId, 0);
+        while (!pending.isEmpty()) {
+            int id = pending.pop();
+            Assembly assembly = assemblies.get(id);
+            assembly.valid = false;
+            if (structure) {
+                assembly.needs = null;
+            }
+            for (int parentId : parents.productsUsing(id)) {
+                if (!seen.containsKey(parentId)) {
+                    seen.put(parentId, 0);
+                    pending.push(parentId);
+                }
+            }
+        }
+    }
+
+    /**
+     * method to get the parts below an assembly, working out every cleared list below it first
+     * the subassemblies are walked with a stack instead of recursion, so deep assemblies cannot overflow
+     * @param root the assembly
+     * @return the parts below it
+     */
+    private Needs resolveNeeds(Assembly root) {
+        Deque<Assembly> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (root.needs == null) {
+            Assembly top = stack.peek();
+            if (top.needs != null) {
+                stack.pop();
+                continue;
+            }
+            boolean ready = true;
+            for (int i = 0; i < top.subassemblies.size(); i++) {
+                Assembly child = assemblies.get(top.subassemblies.get(i));
+                if (child.needs == null) {
+                    stack.push(child);
+                    ready = false;
+                }
+            }
+            if (ready) {
+                stack.pop();
+                top.needs = Needs.of(top, assemblies);
+            }
+        }
+        return root.needs;
+    }
+
+    /**
+     * method to work out the units the current stock allows
+     * a part that is not in the inventory counts as no stock
+     * @param needs the parts below a product
+     * @return the units, 0 when there are no parts
+     */
+    private int units(Needs needs) {
+        int units = needs.partIds.length == 0 ? 0 : Integer.MAX_VALUE;
+        for (int i = 0; i < needs.partIds.length && units > 0; i++) {
+            int stock = partStock.get(needs.partIds[i]);
+            units = Math.min(units, stock == IntIntMap.MISSING ? 0 : stock / needs.counts[i]);
+        }
+        return units;
+    }
+
+    /**
+     * Assembly class holds what the index knows about one product
+     */
+    private static final class Assembly {
+        private SortedIntList parts = new SortedIntList();
+        private final SortedIntList subassemblies = new SortedIntList();
+        /* parts below the product, null once a product below it changes */
+        private Needs needs;
+        private int units;
+        private boolean valid;
+    }
+
+    /**
+     * Needs class lists the parts below a product and how many of each one unit takes
+     */
+    private static final class Needs {
+        private final int[] partIds;
+        private final int[] counts;
+
+        private Needs(int[] partIds, int[] counts) {
+            this.partIds = partIds;
+            this.counts = counts;
+        }
+
+        /**
+         * method to add up the parts of an assembly and the parts below its subassemblies
+         * counts stop at Integer.MAX_VALUE, no stock covers more than that anyway
+         * @param assembly an assembly whose subassemblies all have their needs worked out
+         * @param assemblies every assembly by product id
+         * @return the parts below the assembly
+         */
+        private static Needs of(Assembly assembly, IntMap<Assembly> assemblies) {
+            IntIntMap counts = new IntIntMap();
+            SortedIntList partIds = new SortedIntList();
+            for (int i = 0; i < assembly.parts.size(); i++) {
+                add(counts, partIds, assembly.parts.get(i), 1);
+            }
+            for (int i = 0; i < assembly.subassemblies.size(); i++) {
+                Needs child = assemblies.get(assembly.subassemblies.get(i)).needs;
+                for (int j = 0; j < child.partIds.length; j++) {
+                    add(counts, partIds, child.partIds[j], child.counts[j]);
+                }
+            }
+            int[] ids = partIds.toArray();
+            int[] units = new int[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                units[i] = counts.get(ids[i]);
+            }
+            return new Needs(ids, units);
+        }
+
+        private static void add(IntIntMap counts, SortedIntList partIds, int partId, int count) {
+            int previous = counts.get(partId);
+            if (previous == IntIntMap.MISSING) {
+                partIds.add(partId);
+                previous = 0;
+            }
+            counts.put(partId, (int) Math.min(Integer.MAX_VALUE, (long) previous + count));
+        }
+    }
+}
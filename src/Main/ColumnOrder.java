@@ -0,0 +1,15 @@
+package Main;
+
+/**
+ * ColumnOrder enum names the table columns Inventory keeps parts and products sorted by,
+ * so a table can be shown in any of these orders a page at a time. ties are in id order
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public enum ColumnOrder {
+    ID,
+    NAME,
+    STOCK,
+    PRICE
+}
@@ -0,0 +1,313 @@
+package Main;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * CostRollup class works out the material cost of products, the prices of their parts added up
+ * a product may also contain other products as subassemblies, whose rolled up cost is added to its own.
+ * costs are worked out when asked for and kept until something below the product changes,
+ * a part price change only clears the products that use the part and the products above them.
+ * a product whose cost is cleared always has its parents cleared too, so clearing stops at the first product
+ * that is already cleared and reading a cost works out each product below it at most once.
+ *
+ * it is kept in step with an Inventory as one of its listeners, see Inventory.getCostRollup,
+ * subassemblies are added and removed on the inventory, which keeps them out of cycles and journals them
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class CostRollup implements InventoryListener {
+    /* part id -> raw bits of the price, so prices are not boxed */
+    private final IntLongMap partPrices = new IntLongMap();
+
+    /* product id -> price, parts, subassemblies and cached cost */
+    private final IntMap<Assembly> assemblies = new IntMap<>();
+
+    /* part id -> ids of the products using it */
+    private final WhereUsedIndex partUsers = new WhereUsedIndex();
+
+    /* product id -> ids of the products using it as a subassembly */
+    private final WhereUsedIndex parents = new WhereUsedIndex();
+
+    /**
+     * get the material cost of a product
+     * @param productId the id of the product
+     * @return the prices of its parts and the costs of its subassemblies added up
+     * @throws NoSuchElementException if there is no product with the id
+     */
+    public synchronized double cost(int productId) {
+        return resolve(assembly(productId));
+    }
+
+    /**
+     * get the margin of a product
+     * @param productId the id of the product
+     * @return the product price minus its material cost
+     * @throws NoSuchElementException if there is no product with the id
+     */
+    public synchronized double margin(int productId) {
+        Assembly assembly = assembly(productId);
+        return assembly.price - resolve(assembly);
+    }
+
+    /**
+     * get the margin of every product, the lowest margin first
+     * each cost is worked out at most once, however deep the subassemblies go
+     * @return a line per product
+     */
+    public synchronized List<Margin> marginReport() {
+        List<Margin> report = new ArrayList<>(assemblies.size());
+        assemblies.forEach((productId, assembly) ->
+            report.add(new Margin(productId, assembly.price, resolve(assembly))));
+        report.sort(Comparator.comparingDouble(Margin::getMargin).thenComparingInt(Margin::getProductId));
+        return report;
+    }
+
+    @Override
+    public synchronized void partAdded(Part part) {
+        partPrices.put(part.getId(), Double.doubleToRawLongBits(part.getPrice()));
+        invalidateUsers(part.getId());
+    }
+
+    @Override
+    public synchronized void partUpdated(Part previous, Part part) {
+        partPrices.put(part.getId(), Double.doubleToRawLongBits(part.getPrice()));
+        if (previous.getPrice() != part.getPrice()) {
+            invalidateUsers(part.getId());
+        }
+    }
+
+    @Override
+    public synchronized void partDeleted(Part part) {
+        partPrices.remove(part.getId());
+        invalidateUsers(part.getId());
+    }
+
+    @Override
+    public synchronized void productAdded(Product product) {
+        Assembly assembly = new Assembly();
+        assembly.price = product.getPrice();
+        for (Part part : product.getAllAssociatedParts()) {
+            assembly.parts.add(part.getId());
+            partUsers.add(part.getId(), product.getId());
+        }
+        assemblies.put(product.getId(), assembly);
+    }
+
+    @Override
+    public synchronized void productUpdated(Product previous, Product product) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly == null) {
+            productAdded(product);
+            return;
+        }
+        for (int i = 0; i < assembly.parts.size(); i++) {
+            partUsers.remove(assembly.parts.get(i), product.getId());
+        }
+        assembly.parts = new SortedIntList();
+        for (Part part : product.getAllAssociatedParts()) {
+            assembly.parts.add(part.getId());
+            partUsers.add(part.getId(), product.getId());
+        }
+        assembly.price = product.getPrice();
+        invalidate(product.getId());
+    }
+
+    @Override
+    public synchronized void productDeleted(Product product) {
+        int productId = product.getId();
+        Assembly assembly = assemblies.get(productId);
+        if (assembly == null) {
+            return;
+        }
+        invalidate(productId);
+        for (int i = 0; i < assembly.parts.size(); i++) {
+            partUsers.remove(assembly.parts.get(i), productId);
+        }
+        for (int i = 0; i < assembly.subassemblies.size(); i++) {
+            parents.remove(assembly.subassemblies.get(i), productId);
+        }
+        for (int parentId : parents.productsUsing(productId)) {
+            assemblies.get(parentId).subassemblies.remove(productId);
+            parents.remove(productId, parentId);
+        }
+        assemblies.remove(productId);
+    }
+
+    @Override
+    public synchronized void partAssociated(Product product, Part part) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly != null && assembly.parts.add(part.getId())) {
+            partUsers.add(part.getId(), product.getId());
+            invalidate(product.getId());
+        }
+    }
+
+    @Override
+    public synchronized void partDissociated(Product product, Part part) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly != null && assembly.parts.remove(part.getId())) {
+            partUsers.remove(part.getId(), product.getId());
+            invalidate(product.getId());
+        }
+    }
+
+    @Override
+    public synchronized void subassemblyAdded(Product product, Product subassembly) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly != null && assemblies.get(subassembly.getId()) != null
+                && assembly.subassemblies.add(subassembly.getId())) {
+            parents.add(subassembly.getId(), product.getId());
+            invalidate(product.getId());
+        }
+    }
+
+    @Override
+    public synchronized void subassemblyRemoved(Product product, Product subassembly) {
+        Assembly assembly = assemblies.get(product.getId());
+        if (assembly != null && assembly.subassemblies.remove(subassembly.getId())) {
+            parents.remove(subassembly.getId(), product.getId());
+            invalidate(product.getId());
+        }
+    }
+
+    /**
+     * method to get the cost of an assembly, working out every cleared cost below it first
+     * the subassemblies are walked with a stack instead of recursion, so deep assemblies cannot overflow
+     * @param root the assembly
+     * @return its cost
+     */
+    private double resolve(Assembly root) {
+        if (root.valid) {
+            return root.cost;
+        }
+        Deque<Assembly> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Assembly top = stack.peek();
+            if (top.valid) {
+                stack.pop();
+                continue;
+            }
+            boolean ready = true;
+            for (int i = 0; i < top.subassemblies.size(); i++) {
+                Assembly child = assemblies.get(top.subassemblies.get(i));
+                if (!child.valid) {
+                    stack.push(child);
+                    ready = false;
+                }
+            }
+            if (ready) {
+                stack.pop();
+                double cost = 0;
+                for (int i = 0; i < top.parts.size(); i++) {
+                    // a part that is not known adds nothing, the bits of 0.0 are 0
+                    cost += Double.longBitsToDouble(partPrices.get(top.parts.get(i), 0L));
+                }
+                for (int i = 0; i < top.subassemblies.size(); i++) {
+                    cost += assemblies.get(top.subassemblies.get(i)).cost;
+                }
+                top.cost = cost;
+                top.valid = true;
+            }
+        }
+        return root.cost;
+    }
+
+    /**
+     * method to clear the cost of a product and of every product above it
+     * @param productId the id of the product
+     */
+    private void invalidate(int productId) {
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(productId);
+        while (!pending.isEmpty()) {
+            int id = pending.pop();
+            assemblies.get(id).valid = false;
+            // an assembly that is already cleared has its parents cleared too, so only valid parents are followed
+            for (int parentId : parents.productsUsing(id)) {
+                if (assemblies.get(parentId).valid) {
+                    pending.push(parentId);
+                }
+            }
+        }
+    }
+
+    private void invalidateUsers(int partId) {
+        for (int productId : partUsers.productsUsing(partId)) {
+            invalidate(productId);
+        }
+    }
+
+    private Assembly assembly(int productId) {
+        Assembly assembly = assemblies.get(productId);
+        if (assembly == null) {
+            throw new NoSuchElementException("There is no product with id " + productId);
+        }
+        return assembly;
+    }
+
+    /**
+     * Assembly class holds what the rollup knows about one product
+     */
+    private static final class Assembly {
+        private double price;
+        private SortedIntList parts = new SortedIntList();
+        private final SortedIntList subassemblies = new SortedIntList();
+        private double cost;
+        private boolean valid;
+    }
+
+    /**
+     * Margin class is one line of the margin report
+     */
+    public static final class Margin {
+        private final int productId;
+        private final double price;
+        private final double cost;
+
+        private Margin(int productId, double price, double cost) {
+            this.productId = productId;
+            this.price = price;
+            this.cost = cost;
+        }
+
+        /**
+         * @return the id of the product
+         */
+        public int getProductId() {
+            return productId;
+        }
+
+        /**
+         * @return the price of the product
+         */
+        public double getPrice() {
+            return price;
+        }
+
+        /**
+         * @return the rolled up material cost of the product
+         */
+        public double getCost() {
+            return cost;
+        }
+
+        /**
+         * @return price minus cost
+         */
+        public double getMargin() {
+            return price - cost;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("product %d: price %.2f, cost %.2f, margin %.2f", productId, price, cost, getMargin());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package Main;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IdSequence class hands out ids in constant time and is safe to use from many threads
+ * the sequence is advanced past every id added to the inventory,
+ * so ids loaded from elsewhere are never handed out again
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class IdSequence {
+    private final AtomicInteger next;
+
+    /**
+     * IdSequence constructor
+     * @param first the first id to hand out
+     */
+    public IdSequence(int first) {
+        this.next = new AtomicInteger(first);
+    }
+
+    /**
+     * take the next id
+     * @return a new id
+     */
+    public int next() {
+        return next.getAndIncrement();
+    }
+
+    /**
+     * reserve a contiguous block of ids for a bulk insert
+     * @param count the number of ids to reserve
+     * @return the first id of the block, the block is first to first + count - 1
+     */
+    public int reserve(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Cannot reserve " + count + " ids");
+        }
+        return next.getAndAdd(count);
+    }
+
+    /**
+     * make sure an id that is already in use is never handed out
+     * @param id an id in use
+     */
+    public void advancePast(int id) {
+        if (id >= next.get()) {
+            next.accumulateAndGet(id + 1, Math::max);
+        }
+    }
+
+    /**
+     * @return the id the next call to next() will return
+     */
+    public int peek() {
+        return next.get();
+    }
+}
@@ -0,0 +1,195 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * IntIntMap class is an open addressing hash map from primitive ints to primitive ints
+ * it is IntMap without the value objects, for indexes that map an id to a row or a count.
+ * negative values are not allowed, a negative value slot marks a free bucket
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class IntIntMap {
+    /* returned by get and remove when a key is not mapped */
+    public static final int MISSING = -1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public IntIntMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * IntIntMap constructor
+     * @param expectedSize the number of entries to size the table for
+     */
+    public IntIntMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * get the value mapped to a key
+     * @param key the key to look for
+     * @return the value or MISSING when the key is not mapped
+     */
+    public int get(int key) {
+        int slot = find(key);
+        return slot < 0 ? MISSING : values[slot];
+    }
+
+    /**
+     * check if a key is mapped
+     * @param key the key to look for
+     * @return true if the key is mapped
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * map a key to a value, replacing any existing mapping
+     * @param key the key
+     * @param value the value, must not be negative
+     * @return the previous value or MISSING
+     */
+    public int put(int key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("IntIntMap does not allow negative values");
+        }
+        int slot = mix(key) & mask;
+        while (values[slot] >= 0) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return MISSING;
+    }
+
+    /**
+     * remove the mapping for a key
+     * @param key the key to remove
+     * @return the removed value or MISSING when the key was not mapped
+     */
+    public int remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return MISSING;
+        }
+        int previous = values[slot];
+        // backward shift deletion, the same as IntMap
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (values[next] >= 0) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = MISSING;
+        size--;
+        return previous;
+    }
+
+    /**
+     * @return the number of mapped keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if nothing is mapped
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * remove every mapping
+     */
+    public void clear() {
+        Arrays.fill(values, MISSING);
+        size = 0;
+    }
+
+    /**
+     * method to find the slot holding a key
+     * @param key the key to look for
+     * @return the slot or -1 when missing
+     */
+    private int find(int key) {
+        int slot = mix(key) & mask;
+        while (values[slot] >= 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * method to grow the table and reinsert every entry
+     * @param capacity the new table size, a power of two
+     */
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] >= 0) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (values[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR <= expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * spread sequential ids over the table
+     * @param key the key
+     * @return scrambled hash
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
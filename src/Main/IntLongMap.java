@@ -0,0 +1,189 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * IntLongMap class is an open addressing hash map from primitive ints to primitive longs
+ * it is IntIntMap with wider values, every long is a valid value so free buckets are marked separately
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class IntLongMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public IntLongMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * IntLongMap constructor
+     * @param expectedSize the number of entries to size the table for
+     */
+    public IntLongMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * get the value mapped to a key
+     * @param key the key to look for
+     * @param missing what to return when the key is not mapped
+     * @return the value or missing
+     */
+    public long get(int key, long missing) {
+        int slot = find(key);
+        return slot < 0 ? missing : values[slot];
+    }
+
+    /**
+     * check if a key is mapped
+     * @param key the key to look for
+     * @return true if the key is mapped
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * map a key to a value, replacing any existing mapping
+     * @param key the key
+     * @param value the value
+     */
+    public void put(int key, long value) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * remove the mapping for a key
+     * @param key the key to remove
+     * @return true if the key was mapped
+     */
+    public boolean remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        // backward shift deletion, the same as IntMap
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (used[next]) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[gap] = false;
+        size--;
+        return true;
+    }
+
+    /**
+     * @return the number of mapped keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if nothing is mapped
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * remove every mapping
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * method to find the slot holding a key
+     * @param key the key to look for
+     * @return the slot or -1 when missing
+     */
+    private int find(int key) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * method to grow the table and reinsert every entry
+     * @param capacity the new table size, a power of two
+     */
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                used[slot] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR <= expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * spread sequential ids over the table
+     * @param key the key
+     * @return scrambled hash
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
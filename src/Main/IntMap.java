@@ -0,0 +1,231 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * IntMap class is a small open addressing hash map keyed by primitive ints
+ * it avoids boxing the key and the per entry node objects of a HashMap
+ * null values are not allowed, an empty value slot marks a free bucket
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ * @param <V> the type of the mapped values
+ */
+public class IntMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public IntMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * IntMap constructor
+     * @param expectedSize the number of entries to size the table for
+     */
+    public IntMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * get the value mapped to a key
+     * @param key the key to look for
+     * @return the value or null when the key is not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = find(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * check if a key is mapped
+     * @param key the key to look for
+     * @return true if the key is mapped
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * map a key to a value, replacing any existing mapping
+     * @param key the key
+     * @param value the value, must not be null
+     * @return the previous value or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("IntMap does not allow null values");
+        }
+        int slot = mix(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * remove the mapping for a key
+     * @param key the key to remove
+     * @return the removed value or null when the key was not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        // backward shift deletion keeps probe chains intact without tombstones
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (values[next] != null) {
+            int home = mix(keys[next]) & mask;
+            // move the entry into the gap if its home is not between the gap and its slot
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * @return the number of mapped keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if nothing is mapped
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * remove every mapping
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * run an action for every mapped value, in no particular order
+     * @param action the action to run
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * run an action for every mapping, in no particular order
+     * @param action the action to run with each key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * method to find the slot holding a key
+     * @param key the key to look for
+     * @return the slot or -1 when missing
+     */
+    private int find(int key) {
+        int slot = mix(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * method to grow the table and reinsert every entry
+     * @param capacity the new table size, a power of two
+     */
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR <= expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * callback for a key and its value
+     * @param <V> the type of the values
+     */
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    /**
+     * spread sequential ids over the table
+     * @param key the key
+     * @return scrambled hash
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,35 +1,308 @@
 package Main;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Class to manage the inventory of parts and products
+ * parts and products are kept in maps striped by id, so many threads can change the inventory at once.
+ * it has no JavaFX in it so it can run headless, the tables see it through Elements.ObservableInventory
  * @author Randall Adams
  * @version 1.0.0
  * @since 12/31/2020
  */
 public class Inventory {
-    /* list of all parts */
-    private ObservableList<Part> allParts = FXCollections.observableArrayList();
+    /* parts and products by id, a change to one id holds that id's stripe lock */
+    private final StripedIntMap<Part> partsById = new StripedIntMap<>();
+    private final StripedIntMap<Product> productsById = new StripedIntMap<>();
 
-    /* list of all products */
-    private ObservableList<Product> allProducts = FXCollections.observableArrayList();
+    /* trigram indexes over part and product names for substring search, each guarded by itself */
+    private final NGramIndex partNames = new NGramIndex();
+    private final NGramIndex productNames = new NGramIndex();
+
+    /* every part and product id in ascending order, for paging through the catalog, each guarded by itself */
+    private final SortedIntList partOrder = new SortedIntList();
+    private final SortedIntList productOrder = new SortedIntList();
+
+    /* every part and product sorted by name, for tables sorted by the name column, each guarded by itself */
+    private final NameOrder partNameOrder = new NameOrder();
+    private final NameOrder productNameOrder = new NameOrder();
+
+    /* parts and products ordered by stock minus min, each guarded by itself */
+    private final LowStockIndex partLowStock = new LowStockIndex();
+    private final LowStockIndex productLowStock = new LowStockIndex();
+
+    /* parts and products sorted by price, stock, min and max, for range and top-n queries, each guarded by itself */
+    private final Map<NumericField, RangeIndex> partRanges = rangeIndexes();
+    private final Map<NumericField, RangeIndex> productRanges = rangeIndexes();
+
+    /* part id -> ids of the products using it, guarded by itself */
+    private final WhereUsedIndex whereUsed = new WhereUsedIndex();
+
+    /* part, product and company names as codes, counted once for every part, product and column row using them.
+       a name is dropped from the table with its last user, and entries with equal names are given one string */
+    private final SymbolTable symbols = new SymbolTable();
+
+    /* part id -> company code and company code -> ids of the parts from it, both guarded by partsByCompany */
+    private final IntIntMap companyByPart = new IntIntMap();
+    private final WhereUsedIndex partsByCompany = new WhereUsedIndex();
+
+    /* product id -> ids of its subassemblies, and subassembly id -> ids of the products using it.
+       both guarded by subassemblies, and only changed while no other change runs */
+    private final WhereUsedIndex subassemblies = new WhereUsedIndex();
+    private final WhereUsedIndex assembliesUsing = new WhereUsedIndex();
+
+    /* keeps whereUsed current while products in the inventory change their parts */
+    private final AssociationListener associationListener = new AssociationListener() {
+        @Override
+        public void partAssociated(Product product, Part part) {
+            write(() -> {
+                synchronized (productsById.lockFor(product.getId())) {
+                    if (productsById.get(product.getId()) != product) {
+                        return null; // changed while it was being replaced or deleted
+                    }
+                    synchronized (whereUsed) {
+                        whereUsed.add(part.getId(), product.getId());
+                    }
+                    listeners.forEach(listener -> listener.partAssociated(product, part));
+                }
+                return null;
+            });
+        }
+
+        @Override
+        public void partDissociated(Product product, Part part) {
+            write(() -> {
+                synchronized (productsById.lockFor(product.getId())) {
+                    if (productsById.get(product.getId()) != product) {
+                        return null; // changed while it was being replaced or deleted
+                    }
+                    synchronized (whereUsed) {
+                        whereUsed.remove(part.getId(), product.getId());
+                    }
+                    listeners.forEach(listener -> listener.partDissociated(product, part));
+                }
+                return null;
+            });
+        }
+    };
+
+    /* id sequences, advanced past every id that is added */
+    private final IdSequence partIds = new IdSequence(0);
+    private final IdSequence productIds = new IdSequence(0);
+
+    /* told about every change, e.g. the journal, on the thread that made the change */
+    private final List<InventoryListener> listeners = new CopyOnWriteArrayList<>();
+
+    /* every change holds the read side, lockWriters takes the write side to stop all changes */
+    private final ReadWriteLock writers = new ReentrantReadWriteLock();
+
+    /* columnar copy of the parts, only built once it is asked for */
+    private PartColumns partColumns;
+
+    /* units of each product that can be built, only built once it is asked for */
+    private BuildableIndex buildableIndex;
+
+    /* material cost of each product, only built once it is asked for */
+    private CostRollup costRollup;
+
+    /**
+     * add a listener that is told about every change
+     * @param listener the listener to add
+     */
+    public void addListener(InventoryListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * remove a listener
+     * @param listener the listener to remove
+     */
+    public void removeListener(InventoryListener listener) {
+        listeners.remove(listener);
+    }
 
     /**
      * add a part
      * @param newPart the part to add
+     * @throws IllegalArgumentException if a part with the same id already exists
      */
     public void addPart(Part newPart) {
-        allParts.add(newPart);
+        int partId = newPart.getId();
+        write(() -> {
+            synchronized (partsById.lockFor(partId)) {
+                if (partsById.containsKey(partId)) {
+                    throw new IllegalArgumentException("A part with id " + partId + " already exists");
+                }
+                partsById.put(partId, newPart);
+                synchronized (partNames) {
+                    indexName(newPart);
+                }
+                synchronized (partsByCompany) {
+                    indexCompany(newPart);
+                }
+                synchronized (partOrder) {
+                    partOrder.add(partId);
+                }
+                partNameOrder.put(partId, newPart.getName());
+                partLowStock.put(partId, headroom(newPart));
+                indexRanges(newPart);
+                partIds.advancePast(partId);
+                listeners.forEach(listener -> listener.partAdded(newPart));
+            }
+            return null;
+        });
     }
 
     /**
      * add a product
      * @param newProduct the product to add
+     * @throws IllegalArgumentException if a product with the same id already exists
      */
     public void addProduct(Product newProduct) {
-        allProducts.add(newProduct);
+        int productId = newProduct.getId();
+        write(() -> {
+            synchronized (productsById.lockFor(productId)) {
+                if (productsById.containsKey(productId)) {
+                    throw new IllegalArgumentException("A product with id " + productId + " already exists");
+                }
+                productsById.put(productId, newProduct);
+                synchronized (productNames) {
+                    indexName(newProduct);
+                }
+                synchronized (productOrder) {
+                    productOrder.add(productId);
+                }
+                productNameOrder.put(productId, newProduct.getName());
+                productLowStock.put(productId, headroom(newProduct));
+                indexRanges(newProduct);
+                productIds.advancePast(productId);
+                register(newProduct);
+                listeners.forEach(listener -> listener.productAdded(newProduct));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * add many parts as one change
+     * listeners are told once and the name index is updated in one pass,
+     * instead of once per part as calling addPart in a loop would
+     * @param newParts the parts to add
+     * @throws IllegalArgumentException if a part id already exists or appears twice, nothing is added then
+     */
+    public void addParts(Collection<? extends Part> newParts) {
+        writeAll(() -> {
+            IntIntMap seen = new IntIntMap(newParts.size());
+            int maxId = -1;
+            for (Part part : newParts) {
+                if (partsById.containsKey(part.getId()) || seen.put(part.getId(), 0) != IntIntMap.MISSING) {
+                    throw new IllegalArgumentException("A part with id " + part.getId() + " already exists");
+                }
+                maxId = Math.max(maxId, part.getId());
+            }
+            synchronized (partNames) {
+                for (Part part : newParts) {
+                    partsById.put(part.getId(), part);
+                    indexName(part);
+                }
+            }
+            synchronized (partsByCompany) {
+                newParts.forEach(this::indexCompany);
+            }
+            synchronized (partOrder) {
+                newParts.forEach(part -> partOrder.add(part.getId()));
+            }
+            newParts.forEach(part -> partNameOrder.put(part.getId(), part.getName()));
+            newParts.forEach(part -> partLowStock.put(part.getId(), headroom(part)));
+            indexPartRanges(newParts);
+            partIds.advancePast(maxId);
+            listeners.forEach(listener -> listener.partsAdded(newParts));
+            return null;
+        });
+    }
+
+    /**
+     * add many products as one change
+     * @param newProducts the products to add
+     * @throws IllegalArgumentException if a product id already exists or appears twice, nothing is added then
+     */
+    public void addProducts(Collection<? extends Product> newProducts) {
+        writeAll(() -> {
+            IntIntMap seen = new IntIntMap(newProducts.size());
+            int maxId = -1;
+            for (Product product : newProducts) {
+                if (productsById.containsKey(product.getId()) || seen.put(product.getId(), 0) != IntIntMap.MISSING) {
+                    throw new IllegalArgumentException("A product with id " + product.getId() + " already exists");
+                }
+                maxId = Math.max(maxId, product.getId());
+            }
+            synchronized (productNames) {
+                for (Product product : newProducts) {
+                    productsById.put(product.getId(), product);
+                    indexName(product);
+                    register(product);
+                }
+            }
+            synchronized (productOrder) {
+                newProducts.forEach(product -> productOrder.add(product.getId()));
+            }
+            newProducts.forEach(product -> productNameOrder.put(product.getId(), product.getName()));
+            newProducts.forEach(product -> productLowStock.put(product.getId(), headroom(product)));
+            indexProductRanges(newProducts);
+            productIds.advancePast(maxId);
+            listeners.forEach(listener -> listener.productsAdded(newProducts));
+            return null;
+        });
+    }
+
+    /**
+     * get a new part id
+     * this is safe to call from any thread and never hands out the same id twice
+     * @return an unused part id
+     */
+    public int nextPartId() {
+        return partIds.next();
+    }
+
+    /**
+     * reserve a block of part ids for a bulk insert
+     * @param count the number of ids needed
+     * @return the first id of the block
+     */
+    public int reservePartIds(int count) {
+        return partIds.reserve(count);
+    }
+
+    /**
+     * get a new product id
+     * this is safe to call from any thread and never hands out the same id twice
+     * @return an unused product id
+     */
+    public int nextProductId() {
+        return productIds.next();
+    }
+
+    /**
+     * reserve a block of product ids for a bulk insert
+     * @param count the number of ids needed
+     * @return the first id of the block
+     */
+    public int reserveProductIds(int count) {
+        return productIds.reserve(count);
     }
 
     /**
@@ -38,7 +311,7 @@ public class Inventory {
      * @return Part that matches
      */
     public Part lookupPart(int partId) {
-        return allParts.stream().filter(part -> part.getId() == partId).findFirst().orElse(null);
+        return partsById.get(partId);
     }
 
     /**
@@ -47,78 +320,1168 @@ public class Inventory {
      * @return Product that matches
      */
     public Product lookupProduct(int productId) {
-        return allProducts.stream().filter(product -> product.getId() == productId).findFirst().orElse(null);
+        return productsById.get(productId);
     }
 
     /**
      * lookup parts by part name
+     * matching is a case insensitive substring search answered by the name index
      * @param partName part name to search for
-     * @return allParts that match the part name
+     * @return parts that match the part name, ordered by part id
      */
-    public ObservableList<Part> lookupPart(String partName) {
-        return allParts.filtered(part -> part.getName().toLowerCase().contains(partName.toLowerCase()));
+    public List<Part> lookupPart(String partName) {
+        int[] ids;
+        synchronized (partNames) {
+            ids = partNames.search(partName);
+        }
+        return resolve(ids, partsById);
     }
 
     /**
      * lookup products by product name
+     * matching is a case insensitive substring search answered by the name index
      * @param productName product name to search for
-     * @return allProducts that match the product name
+     * @return products that match the product name, ordered by product id
+     */
+    public List<Product> lookupProduct(String productName) {
+        int[] ids;
+        synchronized (productNames) {
+            ids = productNames.search(productName);
+        }
+        return resolve(ids, productsById);
+    }
+
+    /**
+     * lookup the outsourced parts from a company
+     * the company name is looked up once as its code, and the parts come from the ids kept for the code
+     * @param companyName the exact company name
+     * @return the outsourced parts from the company, ordered by part id
+     */
+    public List<Part> lookupPartsFromCompany(String companyName) {
+        int[] ids;
+        synchronized (partsByCompany) {
+            int code = symbols.codeOf(companyName);
+            ids = code == SymbolTable.NO_SYMBOL ? new int[0] : partsByCompany.productsUsing(code);
+        }
+        return resolve(ids, partsById);
+    }
+
+    /**
+     * lookup the products that use a part
+     * @param partId the id of the part
+     * @return products associated with the part, ordered by product id
+     */
+    public List<Product> whereUsed(int partId) {
+        int[] ids;
+        synchronized (whereUsed) {
+            ids = whereUsed.productsUsing(partId);
+        }
+        return resolve(ids, productsById);
+    }
+
+    /**
+     * check if any product uses a part
+     * @param partId the id of the part
+     * @return true if the part is associated with a product
+     */
+    public boolean isPartInUse(int partId) {
+        synchronized (whereUsed) {
+            return whereUsed.isUsed(partId);
+        }
+    }
+
+    /**
+     * use a product as a subassembly of another product, its parts and subassemblies are then part of the other product
+     * @param productId the id of the product that contains the subassembly
+     * @param subassemblyId the id of the product used as a subassembly
+     * @return true if the product did not contain the subassembly already
+     * @throws NoSuchElementException if there is no product with one of the ids
+     * @throws IllegalArgumentException if the product would end up containing itself
+     */
+    public boolean addSubassembly(int productId, int subassemblyId) {
+        return writeAll(() -> {
+            Product product = existingProduct(productId);
+            Product subassembly = existingProduct(subassemblyId);
+            synchronized (subassemblies) {
+                if (containsProduct(subassemblyId, productId)) {
+                    throw new IllegalArgumentException("Product " + productId + " cannot contain product "
+                        + subassemblyId + ", it would contain itself");
+                }
+                if (subassemblies.isUsedBy(productId, subassemblyId)) {
+                    return false;
+                }
+                subassemblies.add(productId, subassemblyId);
+                assembliesUsing.add(subassemblyId, productId);
+            }
+            listeners.forEach(listener -> listener.subassemblyAdded(product, subassembly));
+            return true;
+        });
+    }
+
+    /**
+     * stop using a product as a subassembly of another product
+     * @param productId the id of the product that contains the subassembly
+     * @param subassemblyId the id of the product used as a subassembly
+     * @return true if the product contained the subassembly
+     */
+    public boolean removeSubassembly(int productId, int subassemblyId) {
+        return writeAll(() -> {
+            synchronized (subassemblies) {
+                if (!subassemblies.isUsedBy(productId, subassemblyId)) {
+                    return false;
+                }
+                subassemblies.remove(productId, subassemblyId);
+                assembliesUsing.remove(subassemblyId, productId);
+            }
+            Product product = productsById.get(productId);
+            Product subassembly = productsById.get(subassemblyId);
+            listeners.forEach(listener -> listener.subassemblyRemoved(product, subassembly));
+            return true;
+        });
+    }
+
+    /**
+     * lookup the products a product contains as subassemblies
+     * @param productId the id of the product
+     * @return its subassemblies, ordered by product id
      */
-    public ObservableList<Product> lookupProduct(String productName) {
-        return allProducts.filtered(product -> product.getName().toLowerCase().contains(productName.toLowerCase()));
+    public List<Product> subassemblies(int productId) {
+        int[] ids;
+        synchronized (subassemblies) {
+            ids = subassemblies.productsUsing(productId);
+        }
+        return resolve(ids, productsById);
+    }
+
+    /**
+     * check if a product is used as a subassembly of another product
+     * @param productId the id of the product
+     * @return true if another product contains it
+     */
+    public boolean isProductInUse(int productId) {
+        synchronized (subassemblies) {
+            return assembliesUsing.isUsed(productId);
+        }
     }
 
     /**
      * update a part
-     * @param index the index of the part to be updated
+     * the part is found through the id index, so this does not scan the list
+     * @param partId the id of the part to be updated
      * @param selectedPart the updated part to replace the existing part
+     * @throws NoSuchElementException if there is no part with the id
+     * @throws IllegalArgumentException if the updated part has a different id
      */
-    public void updatePart(int index, Part selectedPart) {
-        // what if index isn't there?
-        allParts.set(index, selectedPart);
+    public void updatePart(int partId, Part selectedPart) {
+        if (selectedPart.getId() != partId) {
+            throw new IllegalArgumentException("Part id " + selectedPart.getId() + " does not match " + partId);
+        }
+        write(() -> {
+            synchronized (partsById.lockFor(partId)) {
+                Part previous = partsById.get(partId);
+                if (previous == null) {
+                    throw new NoSuchElementException("There is no part with id " + partId);
+                }
+                partsById.put(partId, selectedPart);
+                synchronized (partNames) {
+                    indexName(selectedPart);
+                }
+                synchronized (partsByCompany) {
+                    indexCompany(selectedPart);
+                }
+                partNameOrder.put(partId, selectedPart.getName());
+                partLowStock.put(partId, headroom(selectedPart));
+                indexRanges(selectedPart);
+                listeners.forEach(listener -> listener.partUpdated(previous, selectedPart));
+            }
+            return null;
+        });
     }
 
     /**
      * update a product
-     * @param index the index of the product to be updated
+     * the product is found through the id index, so this does not scan the list
+     * @param productId the id of the product to be updated
      * @param selectedProduct the updated product to replace existing product
+     * @throws NoSuchElementException if there is no product with the id
+     * @throws IllegalArgumentException if the updated product has a different id
+     */
+    public void updateProduct(int productId, Product selectedProduct) {
+        if (selectedProduct.getId() != productId) {
+            throw new IllegalArgumentException("Product id " + selectedProduct.getId() + " does not match " + productId);
+        }
+        write(() -> {
+            synchronized (productsById.lockFor(productId)) {
+                Product previous = productsById.get(productId);
+                if (previous == null) {
+                    throw new NoSuchElementException("There is no product with id " + productId);
+                }
+                unregister(previous);
+                productsById.put(productId, selectedProduct);
+                register(selectedProduct);
+                synchronized (productNames) {
+                    indexName(selectedProduct);
+                }
+                productNameOrder.put(productId, selectedProduct.getName());
+                productLowStock.put(productId, headroom(selectedProduct));
+                indexRanges(selectedProduct);
+                listeners.forEach(listener -> listener.productUpdated(previous, selectedProduct));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * add to or take from the stock of a part, e.g. for receiving or picking
+     * the stock is changed with compare and set, so many threads can adjust it at once without a global lock
+     * @param partId the id of the part
+     * @param delta the amount to add, negative to take stock out
+     * @return the new stock
+     * @throws NoSuchElementException if there is no part with the id
+     * @throws IllegalArgumentException if the stock would fall below min or rise above max, the stock is unchanged then
+     */
+    public int adjustPartStock(int partId, int delta) {
+        return write(() -> {
+            while (true) {
+                Part part = partsById.get(partId);
+                if (part == null) {
+                    throw new NoSuchElementException("There is no part with id " + partId);
+                }
+                long previous = part.addStock(delta);
+                if (previous == Part.OUT_OF_RANGE) {
+                    throw new IllegalArgumentException("The stock of part " + partId
+                        + " must stay between " + part.getMin() + " and " + part.getMax());
+                }
+                if (stockAdjusted(part, (int) previous, delta)) {
+                    return (int) previous + delta;
+                }
+            }
+        });
+    }
+
+    /**
+     * add to or take from the stock of a part without checking min and max, for replaying a journal
+     * adjustments made at the same time can be recorded in a different order than they were made,
+     * so the stock can pass min or max between two of them even though it never did live
+     * @param partId the id of the part
+     * @param delta the amount to add, negative to take stock out
+     * @return the new stock
+     * @throws NoSuchElementException if there is no part with the id
+     */
+    public int replayPartStock(int partId, int delta) {
+        return write(() -> {
+            while (true) {
+                Part part = partsById.get(partId);
+                if (part == null) {
+                    throw new NoSuchElementException("There is no part with id " + partId);
+                }
+                int previous = part.addStockUnchecked(delta);
+                if (stockAdjusted(part, previous, delta)) {
+                    return previous + delta;
+                }
+            }
+        });
+    }
+
+    /**
+     * take stock out of a part if enough is left above its min
+     * @param partId the id of the part
+     * @param quantity the amount to take
+     * @return true if the stock was taken, false if it would fall below min
+     * @throws NoSuchElementException if there is no part with the id
+     * @throws IllegalArgumentException if the quantity is not above 0
+     */
+    public boolean tryReservePart(int partId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("The quantity to reserve must be above 0");
+        }
+        return write(() -> {
+            while (true) {
+                Part part = partsById.get(partId);
+                if (part == null) {
+                    throw new NoSuchElementException("There is no part with id " + partId);
+                }
+                long previous = part.addStock(-quantity);
+                if (previous == Part.OUT_OF_RANGE) {
+                    return false;
+                }
+                if (stockAdjusted(part, (int) previous, -quantity)) {
+                    return true;
+                }
+            }
+        });
+    }
+
+    /**
+     * add to or take from the stock of a product
+     * the stock is changed with compare and set, so many threads can adjust it at once without a global lock
+     * @param productId the id of the product
+     * @param delta the amount to add, negative to take stock out
+     * @return the new stock
+     * @throws NoSuchElementException if there is no product with the id
+     * @throws IllegalArgumentException if the stock would fall below min or rise above max, the stock is unchanged then
+     */
+    public int adjustProductStock(int productId, int delta) {
+        return write(() -> {
+            while (true) {
+                Product product = productsById.get(productId);
+                if (product == null) {
+                    throw new NoSuchElementException("There is no product with id " + productId);
+                }
+                long previous = product.addStock(delta);
+                if (previous == Product.OUT_OF_RANGE) {
+                    throw new IllegalArgumentException("The stock of product " + productId
+                        + " must stay between " + product.getMin() + " and " + product.getMax());
+                }
+                if (stockAdjusted(product, (int) previous, delta)) {
+                    return (int) previous + delta;
+                }
+            }
+        });
+    }
+
+    /**
+     * add to or take from the stock of a product without checking min and max, for replaying a journal
+     * see replayPartStock
+     * @param productId the id of the product
+     * @param delta the amount to add, negative to take stock out
+     * @return the new stock
+     * @throws NoSuchElementException if there is no product with the id
+     */
+    public int replayProductStock(int productId, int delta) {
+        return write(() -> {
+            while (true) {
+                Product product = productsById.get(productId);
+                if (product == null) {
+                    throw new NoSuchElementException("There is no product with id " + productId);
+                }
+                int previous = product.addStockUnchecked(delta);
+                if (stockAdjusted(product, previous, delta)) {
+                    return previous + delta;
+                }
+            }
+        });
+    }
+
+    /**
+     * take stock out of a product if enough is left above its min
+     * @param productId the id of the product
+     * @param quantity the amount to take
+     * @return true if the stock was taken, false if it would fall below min
+     * @throws NoSuchElementException if there is no product with the id
+     * @throws IllegalArgumentException if the quantity is not above 0
      */
-    public void updateProduct(int index, Product selectedProduct) {
-        allProducts.set(index, selectedProduct);
+    public boolean tryReserveProduct(int productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("The quantity to reserve must be above 0");
+        }
+        return write(() -> {
+            while (true) {
+                Product product = productsById.get(productId);
+                if (product == null) {
+                    throw new NoSuchElementException("There is no product with id " + productId);
+                }
+                long previous = product.addStock(-quantity);
+                if (previous == Product.OUT_OF_RANGE) {
+                    return false;
+                }
+                if (stockAdjusted(product, (int) previous, -quantity)) {
+                    return true;
+                }
+            }
+        });
     }
 
     /**
      * delete a part from the parts list
+     * a part that is still associated with a product is not deleted
      * @param selectedPart the part to delete
      * @return boolean success/failure on deletion
      */
     public boolean deletePart(Part selectedPart) {
-        return allParts.removeIf(part -> part.getId() == selectedPart.getId());
+        int partId = selectedPart.getId();
+        return write(() -> {
+            synchronized (partsById.lockFor(partId)) {
+                Part removed;
+                synchronized (whereUsed) {
+                    if (whereUsed.isUsed(partId)) {
+                        return false;
+                    }
+                    removed = partsById.remove(partId);
+                }
+                if (removed == null) {
+                    return false;
+                }
+                synchronized (partNames) {
+                    releaseName(partNames.name(partId));
+                    partNames.remove(partId);
+                }
+                synchronized (partsByCompany) {
+                    unindexCompany(partId);
+                }
+                synchronized (partOrder) {
+                    partOrder.remove(partId);
+                }
+                partNameOrder.remove(partId);
+                partLowStock.remove(partId);
+                unindexRanges(partRanges, partId);
+                listeners.forEach(listener -> listener.partDeleted(removed));
+                return true;
+            }
+        });
     }
 
     /**
      * delete a product from the products list
+     * a product that is a subassembly of another product is not deleted, its own subassemblies are dropped
      * @param selectedProduct the product to delete
      * @return boolean success/failure on deletion
      */
     public boolean deleteProduct(Product selectedProduct) {
-        return allProducts.removeIf(product -> product.getId() == selectedProduct.getId());
+        int productId = selectedProduct.getId();
+        return write(() -> {
+            synchronized (productsById.lockFor(productId)) {
+                // subassemblies only change while no other change runs, so this cannot go stale before the removal
+                if (isProductInUse(productId)) {
+                    return false;
+                }
+                Product removed = productsById.remove(productId);
+                if (removed == null) {
+                    return false;
+                }
+                synchronized (subassemblies) {
+                    for (int subassemblyId : subassemblies.productsUsing(productId)) {
+                        subassemblies.remove(productId, subassemblyId);
+                        assembliesUsing.remove(subassemblyId, productId);
+                    }
+                }
+                synchronized (productNames) {
+                    releaseName(productNames.name(productId));
+                    productNames.remove(productId);
+                }
+                synchronized (productOrder) {
+                    productOrder.remove(productId);
+                }
+                productNameOrder.remove(productId);
+                productLowStock.remove(productId);
+                unindexRanges(productRanges, productId);
+                unregister(removed);
+                listeners.forEach(listener -> listener.productDeleted(removed));
+                return true;
+            }
+        });
+    }
+
+    /**
+     * update many parts as one change
+     * @param updatedParts the updated parts by the id of the part each replaces
+     * @throws NoSuchElementException if there is no part with one of the ids, nothing is updated then
+     * @throws IllegalArgumentException if an updated part has a different id than its key, nothing is updated then
+     */
+    public void updateParts(Map<Integer, ? extends Part> updatedParts) {
+        writeAll(() -> {
+            for (Map.Entry<Integer, ? extends Part> entry : updatedParts.entrySet()) {
+                int partId = entry.getKey();
+                if (entry.getValue().getId() != partId) {
+                    throw new IllegalArgumentException("Part id " + entry.getValue().getId() + " does not match " + partId);
+                }
+                if (!partsById.containsKey(partId)) {
+                    throw new NoSuchElementException("There is no part with id " + partId);
+                }
+            }
+            List<Part> parts = new ArrayList<>(updatedParts.values());
+            List<Part> previous = new ArrayList<>(parts.size());
+            synchronized (partNames) {
+                for (Part part : parts) {
+                    previous.add(partsById.put(part.getId(), part));
+                    indexName(part);
+                }
+            }
+            synchronized (partsByCompany) {
+                parts.forEach(this::indexCompany);
+            }
+            parts.forEach(part -> partNameOrder.put(part.getId(), part.getName()));
+            parts.forEach(part -> partLowStock.put(part.getId(), headroom(part)));
+            indexPartRanges(parts);
+            listeners.forEach(listener -> listener.partsUpdated(previous, parts));
+            return null;
+        });
+    }
+
+    /**
+     * delete every part that matches a condition as one change
+     * parts that are still associated with a product are not deleted
+     * @param condition which parts to delete
+     * @return the number of parts deleted
+     */
+    public int deleteParts(Predicate<? super Part> condition) {
+        return writeAll(() -> {
+            List<Part> deleted = new ArrayList<>();
+            synchronized (whereUsed) {
+                partsById.forEachValue(part -> {
+                    if (!whereUsed.isUsed(part.getId()) && condition.test(part)) {
+                        deleted.add(part);
+                    }
+                });
+            }
+            int[] ids = new int[deleted.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = deleted.get(i).getId();
+                partsById.remove(ids[i]);
+            }
+            synchronized (partNames) {
+                for (int partId : ids) {
+                    releaseName(partNames.name(partId));
+                }
+                partNames.removeAll(ids);
+            }
+            synchronized (partsByCompany) {
+                for (int partId : ids) {
+                    unindexCompany(partId);
+                }
+            }
+            synchronized (partOrder) {
+                partOrder.removeAll(ids);
+            }
+            for (int partId : ids) {
+                partNameOrder.remove(partId);
+                partLowStock.remove(partId);
+                unindexRanges(partRanges, partId);
+            }
+            listeners.forEach(listener -> listener.partsDeleted(deleted));
+            return ids.length;
+        });
+    }
+
+    /**
+     * @return the number of parts
+     */
+    public int partCount() {
+        return partsById.size();
+    }
+
+    /**
+     * @return the number of products
+     */
+    public int productCount() {
+        return productsById.size();
+    }
+
+    /**
+     * get a page of parts in id order, without copying the whole catalog
+     * @param from the position of the first part, 0 is the part with the lowest id
+     * @param count the most parts to return
+     * @return the parts, fewer than count at the end of the catalog
+     */
+    public List<Part> partsInIdOrder(int from, int count) {
+        int[] ids;
+        synchronized (partOrder) {
+            ids = partOrder.range(from, count);
+        }
+        return resolve(ids, partsById);
+    }
+
+    /**
+     * get a page of products in id order, without copying the whole catalog
+     * @param from the position of the first product, 0 is the product with the lowest id
+     * @param count the most products to return
+     * @return the products, fewer than count at the end of the catalog
+     */
+    public List<Product> productsInIdOrder(int from, int count) {
+        int[] ids;
+        synchronized (productOrder) {
+            ids = productOrder.range(from, count);
+        }
+        return resolve(ids, productsById);
+    }
+
+    /**
+     * get a page of parts sorted by a table column, without sorting the catalog
+     * the orders are kept sorted as the parts change, so any page is read in O(n / 512 + count) or better
+     * @param order the column to sort by, ties in id order
+     * @param descending true for the highest value first, ties then in reverse id order
+     * @param from the position of the first part
+     * @param count the most parts to return
+     * @return the parts, fewer than count at the end of the catalog
+     */
+    public List<Part> partsInOrder(ColumnOrder order, boolean descending, int from, int count) {
+        return resolve(idsInOrder(order, descending, from, count, partOrder, partNameOrder, partRanges), partsById);
+    }
+
+    /**
+     * get a page of products sorted by a table column, without sorting the catalog
+     * @param order the column to sort by, ties in id order
+     * @param descending true for the highest value first, ties then in reverse id order
+     * @param from the position of the first product
+     * @param count the most products to return
+     * @return the products, fewer than count at the end of the catalog
+     */
+    public List<Product> productsInOrder(ColumnOrder order, boolean descending, int from, int count) {
+        return resolve(idsInOrder(order, descending, from, count, productOrder, productNameOrder, productRanges),
+            productsById);
+    }
+
+    /**
+     * get the parts whose price, stock, min or max is in a range, answered by the sorted index of the field
+     * @param field the field to compare
+     * @param from the lowest value, inclusive
+     * @param to the highest value, inclusive
+     * @param limit the most parts to return
+     * @return the parts, lowest value first, ties in id order
+     */
+    public List<Part> partsInRange(NumericField field, double from, double to, int limit) {
+        return resolve(partRanges.get(field).range(from, to, limit), partsById);
+    }
+
+    /**
+     * get the products whose price, stock, min or max is in a range, answered by the sorted index of the field
+     * @param field the field to compare
+     * @param from the lowest value, inclusive
+     * @param to the highest value, inclusive
+     * @param limit the most products to return
+     * @return the products, lowest value first, ties in id order
+     */
+    public List<Product> productsInRange(NumericField field, double from, double to, int limit) {
+        return resolve(productRanges.get(field).range(from, to, limit), productsById);
+    }
+
+    /**
+     * get the parts with the lowest price, stock, min or max
+     * @param field the field to order by
+     * @param n the most parts to return
+     * @return the parts, lowest value first
+     */
+    public List<Part> lowestParts(NumericField field, int n) {
+        return resolve(partRanges.get(field).lowest(n), partsById);
     }
 
     /**
-     * get all parts
-     * @return all parts
+     * get the parts with the highest price, stock, min or max
+     * @param field the field to order by
+     * @param n the most parts to return
+     * @return the parts, highest value first
      */
-    public ObservableList<Part> getAllParts() {
-        return allParts;
+    public List<Part> highestParts(NumericField field, int n) {
+        return resolve(partRanges.get(field).highest(n), partsById);
     }
 
     /**
-     * get all products
-     * @return all products
+     * get the products with the lowest price, stock, min or max
+     * @param field the field to order by
+     * @param n the most products to return
+     * @return the products, lowest value first
      */
-    public ObservableList<Product> getAllProducts() {
-        return allProducts;
+    public List<Product> lowestProducts(NumericField field, int n) {
+        return resolve(productRanges.get(field).lowest(n), productsById);
     }
 
+    /**
+     * get the products with the highest price, stock, min or max
+     * @param field the field to order by
+     * @param n the most products to return
+     * @return the products, highest value first
+     */
+    public List<Product> highestProducts(NumericField field, int n) {
+        return resolve(productRanges.get(field).highest(n), productsById);
+    }
+
+    /**
+     * lookup parts by part name whose price, stock, min or max is in a range
+     * the name index finds the candidates and each is checked against the sorted index of the field
+     * @param partName part name to search for
+     * @param field the field to compare
+     * @param from the lowest value, inclusive
+     * @param to the highest value, inclusive
+     * @return the parts that match, lowest value first, ties in id order
+     */
+    public List<Part> lookupPart(String partName, NumericField field, double from, double to) {
+        int[] ids;
+        synchronized (partNames) {
+            ids = partNames.search(partName);
+        }
+        return resolve(partRanges.get(field).filter(ids, from, to), partsById);
+    }
+
+    /**
+     * lookup products by product name whose price, stock, min or max is in a range
+     * @param productName product name to search for
+     * @param field the field to compare
+     * @param from the lowest value, inclusive
+     * @param to the highest value, inclusive
+     * @return the products that match, lowest value first, ties in id order
+     */
+    public List<Product> lookupProduct(String productName, NumericField field, double from, double to) {
+        int[] ids;
+        synchronized (productNames) {
+            ids = productNames.search(productName);
+        }
+        return resolve(productRanges.get(field).filter(ids, from, to), productsById);
+    }
+
+    /**
+     * copy every part, including changes not yet published to getAllParts
+     * @return the parts ordered by id
+     */
+    public List<Part> copyParts() {
+        List<Part> parts = new ArrayList<>();
+        partsById.forEachValue(parts::add);
+        parts.sort(Comparator.comparingInt(Part::getId));
+        return parts;
+    }
+
+    /**
+     * copy every product, including changes not yet published to getAllProducts
+     * @return the products ordered by id
+     */
+    public List<Product> copyProducts() {
+        List<Product> products = new ArrayList<>();
+        productsById.forEachValue(products::add);
+        products.sort(Comparator.comparingInt(Product::getId));
+        return products;
+    }
+
+    /**
+     * stop every change to the inventory until unlockWriters is called, e.g. to take a consistent copy
+     * changes already in progress finish first. must not be called from a listener
+     */
+    public void lockWriters() {
+        writers.writeLock().lock();
+    }
+
+    /**
+     * let changes continue after lockWriters
+     */
+    public void unlockWriters() {
+        writers.writeLock().unlock();
+    }
+
+    /**
+     * get the parts ordered by how close their stock is to min, for top-k queries and low stock alerts
+     * it changes with every part change and stock adjustment
+     * @return the low stock index of the parts
+     */
+    public LowStockIndex getLowStockParts() {
+        return partLowStock;
+    }
+
+    /**
+     * get the products ordered by how close their stock is to min, for top-k queries and low stock alerts
+     * @return the low stock index of the products
+     */
+    public LowStockIndex getLowStockProducts() {
+        return productLowStock;
+    }
+
+    /**
+     * get the parts as primitive columns for scans and aggregations
+     * the columns are built on the first call and then kept in step with every part change,
+     * their names and company names are codes in the symbol table of the inventory
+     * @return the part columns
+     */
+    public PartColumns getPartColumns() {
+        lockWriters();
+        try {
+            if (partColumns == null) {
+                partColumns = new PartColumns(partsById.size(), symbols);
+                copyParts().forEach(partColumns::add);
+                listeners.add(partColumns);
+            }
+            return partColumns;
+        } finally {
+            unlockWriters();
+        }
+    }
+
+    /**
+     * get how many units of each product can be built from the current part stock, subassemblies included
+     * the index is built on the first call and then kept in step with every part and product change
+     * @return the buildable index
+     */
+    public BuildableIndex getBuildableIndex() {
+        lockWriters();
+        try {
+            if (buildableIndex == null) {
+                buildableIndex = new BuildableIndex();
+                copyParts().forEach(buildableIndex::partAdded);
+                List<Product> products = copyProducts();
+                products.forEach(buildableIndex::productAdded);
+                for (Product product : products) {
+                    for (Product subassembly : subassemblies(product.getId())) {
+                        buildableIndex.subassemblyAdded(product, subassembly);
+                    }
+                }
+                listeners.add(buildableIndex);
+            }
+            return buildableIndex;
+        } finally {
+            unlockWriters();
+        }
+    }
+
+    /**
+     * get the material cost and margin of each product
+     * the rollup is built on the first call and then kept in step with every part and product change
+     * @return the cost rollup
+     */
+    public CostRollup getCostRollup() {
+        lockWriters();
+        try {
+            if (costRollup == null) {
+                costRollup = new CostRollup();
+                copyParts().forEach(costRollup::partAdded);
+                List<Product> products = copyProducts();
+                products.forEach(costRollup::productAdded);
+                for (Product product : products) {
+                    for (Product subassembly : subassemblies(product.getId())) {
+                        costRollup.subassemblyAdded(product, subassembly);
+                    }
+                }
+                listeners.add(costRollup);
+            }
+            return costRollup;
+        } finally {
+            unlockWriters();
+        }
+    }
+
+    /**
+     * method to start tracking the associations of a product that joined the inventory
+     * @param product the product
+     */
+    private void register(Product product) {
+        synchronized (whereUsed) {
+            for (Part part : product.getAllAssociatedParts()) {
+                whereUsed.add(part.getId(), product.getId());
+            }
+        }
+        product.setAssociationListener(associationListener);
+    }
+
+    /**
+     * method to stop tracking the associations of a product that left the inventory
+     * @param product the product
+     */
+    private void unregister(Product product) {
+        product.setAssociationListener(null);
+        synchronized (whereUsed) {
+            for (Part part : product.getAllAssociatedParts()) {
+                whereUsed.remove(part.getId(), product.getId());
+            }
+        }
+    }
+
+    /**
+     * method to report a stock adjustment that has been made on a part
+     * the listeners are told under the id's lock, so the adjustment is ordered against updatePart.
+     * if updatePart replaced the part while it was being adjusted the adjustment went to the old part,
+     * nothing is reported then and the caller adjusts the new part instead
+     * @param part the adjusted part
+     * @param previous the stock before the adjustment
+     * @param delta the amount added
+     * @return false if the part is no longer in the inventory
+     */
+    private boolean stockAdjusted(Part part, int previous, int delta) {
+        synchronized (partsById.lockFor(part.getId())) {
+            if (partsById.get(part.getId()) != part) {
+                return false;
+            }
+            // the stock is read again, so the last adjustment reported leaves the index at the current stock
+            partLowStock.put(part.getId(), headroom(part));
+            partRanges.get(NumericField.STOCK).put(part.getId(), part.getStock());
+            listeners.forEach(listener -> listener.partStockAdjusted(part, previous, previous + delta));
+            return true;
+        }
+    }
+
+    /**
+     * method to report a stock adjustment that has been made on a product, see stockAdjusted(Part, int, int)
+     * @param product the adjusted product
+     * @param previous the stock before the adjustment
+     * @param delta the amount added
+     * @return false if the product is no longer in the inventory
+     */
+    private boolean stockAdjusted(Product product, int previous, int delta) {
+        synchronized (productsById.lockFor(product.getId())) {
+            if (productsById.get(product.getId()) != product) {
+                return false;
+            }
+            productLowStock.put(product.getId(), headroom(product));
+            productRanges.get(NumericField.STOCK).put(product.getId(), product.getStock());
+            listeners.forEach(listener -> listener.productStockAdjusted(product, previous, previous + delta));
+            return true;
+        }
+    }
+
+    /**
+     * method to put a part in the sorted index of every field
+     * @param part the part
+     */
+    private void indexRanges(Part part) {
+        partRanges.forEach((field, index) -> index.put(part.getId(), field.valueOf(part)));
+    }
+
+    /**
+     * method to put a product in the sorted index of every field
+     * @param product the product
+     */
+    private void indexRanges(Product product) {
+        productRanges.forEach((field, index) -> index.put(product.getId(), field.valueOf(product)));
+    }
+
+    /**
+     * method to put many parts in the sorted index of every field, one merge per field
+     * @param parts the parts
+     */
+    private void indexPartRanges(Collection<? extends Part> parts) {
+        int[] ids = parts.stream().mapToInt(Part::getId).toArray();
+        partRanges.forEach((field, index) -> index.putAll(ids, parts.stream().mapToDouble(field::valueOf).toArray()));
+    }
+
+    /**
+     * method to put many products in the sorted index of every field, one merge per field
+     * @param products the products
+     */
+    private void indexProductRanges(Collection<? extends Product> products) {
+        int[] ids = products.stream().mapToInt(Product::getId).toArray();
+        productRanges.forEach((field, index) -> index.putAll(ids, products.stream().mapToDouble(field::valueOf).toArray()));
+    }
+
+    /**
+     * method to take an id out of the sorted index of every field
+     * @param ranges the indexes
+     * @param id the id
+     */
+    private static void unindexRanges(Map<NumericField, RangeIndex> ranges, int id) {
+        ranges.values().forEach(index -> index.remove(id));
+    }
+
+    /**
+     * method to read a page of ids from the index that keeps a column in order
+     * @return the ids of the page
+     */
+    private static int[] idsInOrder(ColumnOrder order, boolean descending, int from, int count, SortedIntList ids,
+                                    NameOrder names, Map<NumericField, RangeIndex> ranges) {
+        if (from < 0 || count < 0) {
+            throw new IndexOutOfBoundsException("Range " + from + " + " + count + " is out of bounds");
+        }
+        switch (order) {
+            case NAME:
+                return names.page(from, count, descending);
+            case STOCK:
+                return ranges.get(NumericField.STOCK).page(from, count, descending);
+            case PRICE:
+                return ranges.get(NumericField.PRICE).page(from, count, descending);
+            default:
+                synchronized (ids) {
+                    if (!descending) {
+                        return ids.range(from, count);
+                    }
+                    // the ids ascend, so a descending page is the mirrored ascending run read backwards
+                    int end = (int) Math.max(0, ids.size() - (long) from);
+                    int[] page = ids.range(Math.max(0, end - count), Math.min(count, end));
+                    for (int i = 0, j = page.length - 1; i < j; i++, j--) {
+                        int swapped = page[i];
+                        page[i] = page[j];
+                        page[j] = swapped;
+                    }
+                    return page;
+                }
+        }
+    }
+
+    /**
+     * method to make an empty sorted index for every field
+     * @return the indexes by field
+     */
+    private static Map<NumericField, RangeIndex> rangeIndexes() {
+        Map<NumericField, RangeIndex> ranges = new EnumMap<>(NumericField.class);
+        for (NumericField field : NumericField.values()) {
+            ranges.put(field, new RangeIndex());
+        }
+        return ranges;
+    }
+
+    /**
+     * method to get how far the stock of a part is above its min
+     * @param part the part
+     * @return stock minus min, 0 or less when the part is low
+     */
+    private static long headroom(Part part) {
+        return (long) part.getStock() - part.getMin();
+    }
+
+    /**
+     * method to get how far the stock of a product is above its min
+     * @param product the product
+     * @return stock minus min, 0 or less when the product is low
+     */
+    private static long headroom(Product product) {
+        return (long) product.getStock() - product.getMin();
+    }
+
+    /**
+     * method to check if a product contains another, directly or through its subassemblies
+     * the caller holds subassemblies
+     * @param productId the product to look in
+     * @param otherId the product to look for
+     * @return true if productId is otherId or contains it
+     */
+    private boolean containsProduct(int productId, int otherId) {
+        Deque<Integer> pending = new ArrayDeque<>();
+        IntIntMap seen = new IntIntMap();
+        pending.push(productId);
+        while (!pending.isEmpty()) {
+            int id = pending.pop();
+            if (id == otherId) {
+                return true;
+            }
+            if (seen.put(id, 0) == IntIntMap.MISSING) {
+                for (int subassemblyId : subassemblies.productsUsing(id)) {
+                    pending.push(subassemblyId);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * method to index the name of a part, the caller holds partNames
+     * the part is given the table's string for its name, an equal one, so parts with the same name share it
+     * @param part the added or updated part
+     */
+    private void indexName(Part part) {
+        String name = indexName(partNames, part.getId(), part.getName());
+        if (name != part.getName()) {
+            part.setName(name);
+        }
+    }
+
+    /**
+     * method to index the name of a product, the caller holds productNames
+     * @param product the added or updated product
+     */
+    private void indexName(Product product) {
+        String name = indexName(productNames, product.getId(), product.getName());
+        if (name != product.getName()) {
+            product.setName(name);
+        }
+    }
+
+    /**
+     * method to put a name in a name index through the symbol table, the caller holds the index
+     * the new name is interned before the old one is released, so an entry that keeps its name keeps its string
+     * @param index partNames or productNames
+     * @param id the id of the part or product
+     * @param name the name
+     * @return the table's string for the name
+     */
+    private String indexName(NGramIndex index, int id, String name) {
+        String shared = symbols.symbol(symbols.intern(name));
+        String previous = index.name(id);
+        index.add(id, shared);
+        releaseName(previous);
+        return shared;
+    }
+
+    /**
+     * method to drop the reference an indexed name holds in the symbol table
+     * @param name the name held by a name index, null when there is none
+     */
+    private void releaseName(String name) {
+        if (name != null) {
+            symbols.release(symbols.codeOf(name));
+        }
+    }
+
+    /**
+     * method to keep the company of a part in the company index, the caller holds partsByCompany
+     * the new company is interned before the old one is released, so a part that keeps its company keeps its code.
+     * the part is given the table's string for its company, an equal one, so the parts from a company share it
+     * @param part the added or updated part
+     */
+    private void indexCompany(Part part) {
+        int code = SymbolTable.NO_SYMBOL;
+        if (part instanceof Outsourced) {
+            Outsourced outsourced = (Outsourced) part;
+            code = symbols.intern(outsourced.getCompanyName());
+            String companyName = symbols.symbol(code);
+            if (companyName != null && companyName != outsourced.getCompanyName()) {
+                outsourced.setCompanyName(companyName);
+            }
+        }
+        unindexCompany(part.getId());
+        if (code != SymbolTable.NO_SYMBOL) {
+            companyByPart.put(part.getId(), code);
+            partsByCompany.add(code, part.getId());
+        }
+    }
+
+    /**
+     * method to drop a part from the company index, the caller holds partsByCompany
+     * @param partId the id of the part
+     */
+    private void unindexCompany(int partId) {
+        int code = companyByPart.remove(partId);
+        if (code != IntIntMap.MISSING) {
+            partsByCompany.remove(code, partId);
+            symbols.release(code);
+        }
+    }
+
+    private Product existingProduct(int productId) {
+        Product product = productsById.get(productId);
+        if (product == null) {
+            throw new NoSuchElementException("There is no product with id " + productId);
+        }
+        return product;
+    }
+
+    /**
+     * method to run a change while holding the read side of the writers lock
+     * @param change the change
+     * @param <R> the result of the change
+     * @return what the change returned
+     */
+    private <R> R write(Supplier<R> change) {
+        Lock lock = writers.readLock();
+        lock.lock();
+        try {
+            return change.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * method to run a change while holding the write side of the writers lock, so no other change runs
+     * @param change the change
+     * @param <R> the result of the change
+     * @return what the change returned
+     */
+    private <R> R writeAll(Supplier<R> change) {
+        lockWriters();
+        try {
+            return change.get();
+        } finally {
+            unlockWriters();
+        }
+    }
+
+    /**
+     * method to turn ids from an index into items, skipping ids removed since the index was read
+     * @param ids the ids
+     * @param byId the items by id
+     * @param <T> Part or Product
+     * @return the items in the order of the ids
+     */
+    private static <T> List<T> resolve(int[] ids, StripedIntMap<T> byId) {
+        List<T> items = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            T item = byId.get(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
 }
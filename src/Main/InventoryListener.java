@@ -0,0 +1,132 @@
+package Main;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * InventoryListener is told about every change made through Inventory
+ * the calls are made while the inventory is locked, in the order the changes happened,
+ * so a listener must be quick and must not call back into the inventory from another thread.
+ * stock adjustments of the same item on different threads may arrive in either order,
+ * a listener that tracks stock should apply the difference between previous and stock.
+ * the bulk changes of Inventory arrive as one call each, by default passed on one item at a time
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public interface InventoryListener {
+    /**
+     * @param part the part that was added
+     */
+    default void partAdded(Part part) {
+    }
+
+    /**
+     * @param previous the part that was replaced
+     * @param part the part that replaced it
+     */
+    default void partUpdated(Part previous, Part part) {
+    }
+
+    /**
+     * @param part the part that was deleted
+     */
+    default void partDeleted(Part part) {
+    }
+
+    /**
+     * @param parts the parts added by one bulk change
+     */
+    default void partsAdded(Collection<? extends Part> parts) {
+        parts.forEach(this::partAdded);
+    }
+
+    /**
+     * @param previous the parts that were replaced, in the same order as parts
+     * @param parts the parts that replaced them
+     */
+    default void partsUpdated(List<? extends Part> previous, List<? extends Part> parts) {
+        for (int i = 0; i < parts.size(); i++) {
+            partUpdated(previous.get(i), parts.get(i));
+        }
+    }
+
+    /**
+     * @param parts the parts deleted by one bulk change
+     */
+    default void partsDeleted(List<? extends Part> parts) {
+        parts.forEach(this::partDeleted);
+    }
+
+    /**
+     * @param part the part whose stock was adjusted, it already holds the new stock
+     * @param previous the stock before the adjustment
+     * @param stock the stock after the adjustment
+     */
+    default void partStockAdjusted(Part part, int previous, int stock) {
+    }
+
+    /**
+     * @param product the product that was added, with its associated parts
+     */
+    default void productAdded(Product product) {
+    }
+
+    /**
+     * @param previous the product that was replaced
+     * @param product the product that replaced it, with its associated parts
+     */
+    default void productUpdated(Product previous, Product product) {
+    }
+
+    /**
+     * @param product the product that was deleted
+     */
+    default void productDeleted(Product product) {
+    }
+
+    /**
+     * @param products the products added by one bulk change, with their associated parts
+     */
+    default void productsAdded(Collection<? extends Product> products) {
+        products.forEach(this::productAdded);
+    }
+
+    /**
+     * @param product the product whose stock was adjusted, it already holds the new stock
+     * @param previous the stock before the adjustment
+     * @param stock the stock after the adjustment
+     */
+    default void productStockAdjusted(Product product, int previous, int stock) {
+    }
+
+    /**
+     * @param product the product
+     * @param part the part associated with the product
+     */
+    default void partAssociated(Product product, Part part) {
+    }
+
+    /**
+     * @param product the product
+     * @param part the part removed from the product
+     */
+    default void partDissociated(Product product, Part part) {
+    }
+
+    /**
+     * @param product the product
+     * @param subassembly the product it now contains as a subassembly
+     */
+    default void subassemblyAdded(Product product, Product subassembly) {
+    }
+
+    /**
+     * called when a subassembly is removed from a product that stays in the inventory,
+     * deleting a product drops its subassemblies without telling each one
+     * @param product the product
+     * @param subassembly the product it no longer contains
+     */
+    default void subassemblyRemoved(Product product, Product subassembly) {
+    }
+}
@@ -0,0 +1,245 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * LowStockIndex class keeps the ids of parts or products ordered by their headroom, stock minus min
+ * it is a binary min heap with the position of every id in an IntIntMap, so changing or removing an id is O(log n)
+ * and the most critical ids are read from the top without a scan. an item with a headroom of 0 or less
+ * is at or below its min, and listeners are told whenever an item crosses that line.
+ * Inventory keeps one for parts and one for products, see Inventory.getLowStockParts
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class LowStockIndex {
+    private int[] ids = new int[16];
+    private long[] headrooms = new long[16];
+    private int size;
+    private int lowCount;
+
+    /* id -> position in the heap */
+    private final IntIntMap positions = new IntIntMap();
+
+    private final List<LowStockListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * add a listener that is told when an item falls to its min or rises above it
+     * @param listener the listener to add
+     */
+    public void addListener(LowStockListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * remove a listener
+     * @param listener the listener to remove
+     */
+    public void removeListener(LowStockListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return the number of items in the index
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of items at or below their min
+     */
+    public synchronized int countAtOrBelowMin() {
+        return lowCount;
+    }
+
+    /**
+     * get the headroom of an item
+     * @param id the id of the item
+     * @return stock minus min
+     * @throws NoSuchElementException if the item is not in the index
+     */
+    public synchronized long headroom(int id) {
+        int position = positions.get(id);
+        if (position == IntIntMap.MISSING) {
+            throw new NoSuchElementException("There is no item with id " + id);
+        }
+        return headrooms[position];
+    }
+
+    /**
+     * get the items with the least headroom
+     * @param k the most ids to return
+     * @return the ids, least headroom first, ties in id order
+     */
+    public synchronized int[] mostCritical(int k) {
+        int count = Math.min(k, size);
+        int[] result = new int[count];
+        if (count == 0) {
+            return result;
+        }
+        // a second heap of heap positions, only the children of the positions taken so far can be next
+        int[] frontier = new int[count * 2 + 1];
+        int frontierSize = 0;
+        frontier[frontierSize++] = 0;
+        for (int i = 0; i < count; i++) {
+            int top = frontier[0];
+            frontier[0] = frontier[--frontierSize];
+            siftDownFrontier(frontier, frontierSize);
+            result[i] = ids[top];
+            for (int child = 2 * top + 1; child <= 2 * top + 2 && child < size; child++) {
+                frontier[frontierSize] = child;
+                siftUpFrontier(frontier, frontierSize++);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * get every item at or below its min
+     * @return the ids, least headroom first
+     */
+    public synchronized int[] atOrBelowMin() {
+        return mostCritical(lowCount);
+    }
+
+    /**
+     * add an item or change its headroom
+     * @param id the id of the item
+     * @param headroom stock minus min
+     */
+    synchronized void put(int id, long headroom) {
+        int position = positions.get(id);
+        boolean wasLow;
+        if (position == IntIntMap.MISSING) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+                headrooms = Arrays.copyOf(headrooms, size << 1);
+            }
+            position = size++;
+            ids[position] = id;
+            positions.put(id, position);
+            wasLow = false;
+        } else {
+            wasLow = headrooms[position] <= 0;
+        }
+        headrooms[position] = headroom;
+        siftDown(siftUp(position));
+        boolean low = headroom <= 0;
+        if (low != wasLow) {
+            lowCount += low ? 1 : -1;
+            listeners.forEach(listener -> listener.lowStockChanged(id, low));
+        }
+    }
+
+    /**
+     * remove an item
+     * @param id the id of the item
+     * @return true if the item was in the index
+     */
+    synchronized boolean remove(int id) {
+        int position = positions.remove(id);
+        if (position == IntIntMap.MISSING) {
+            return false;
+        }
+        boolean wasLow = headrooms[position] <= 0;
+        int last = --size;
+        if (position != last) {
+            ids[position] = ids[last];
+            headrooms[position] = headrooms[last];
+            positions.put(ids[position], position);
+            siftDown(siftUp(position));
+        }
+        if (wasLow) {
+            lowCount--;
+            listeners.forEach(listener -> listener.lowStockChanged(id, false));
+        }
+        return true;
+    }
+
+    /**
+     * method to compare two heap positions
+     * @return true if the item at a comes before the item at b
+     */
+    private boolean before(int a, int b) {
+        return headrooms[a] < headrooms[b] || headrooms[a] == headrooms[b] && ids[a] < ids[b];
+    }
+
+    private int siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!before(position, parent)) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+        return position;
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            if (left < size && before(left, smallest)) {
+                smallest = left;
+            }
+            if (left + 1 < size && before(left + 1, smallest)) {
+                smallest = left + 1;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        long headroom = headrooms[a];
+        ids[a] = ids[b];
+        headrooms[a] = headrooms[b];
+        ids[b] = id;
+        headrooms[b] = headroom;
+        positions.put(ids[a], a);
+        positions.put(ids[b], b);
+    }
+
+    private void siftUpFrontier(int[] frontier, int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!before(frontier[position], frontier[parent])) {
+                break;
+            }
+            int swapped = frontier[position];
+            frontier[position] = frontier[parent];
+            frontier[parent] = swapped;
+            position = parent;
+        }
+    }
+
+    private void siftDownFrontier(int[] frontier, int frontierSize) {
+        int position = 0;
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            if (left < frontierSize && before(frontier[left], frontier[smallest])) {
+                smallest = left;
+            }
+            if (left + 1 < frontierSize && before(frontier[left + 1], frontier[smallest])) {
+                smallest = left + 1;
+            }
+            if (smallest == position) {
+                return;
+            }
+            int swapped = frontier[position];
+            frontier[position] = frontier[smallest];
+            frontier[smallest] = swapped;
+            position = smallest;
+        }
+    }
+}
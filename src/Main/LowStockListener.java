@@ -0,0 +1,17 @@
+package Main;
+
+/**
+ * LowStockListener is told when a part or product falls to its min or rises above it again
+ * it is called while the LowStockIndex is locked, in the order the changes happened, so it must be quick
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public interface LowStockListener {
+    /**
+     * called when the stock of an item crosses its min
+     * @param id the id of the part or product
+     * @param low true if the stock is now at or below min, false if it is above min again or the item was deleted
+     */
+    void lowStockChanged(int id, boolean low);
+}
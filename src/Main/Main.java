@@ -1,18 +1,28 @@
 package Main;
+import Elements.ColumnSortPolicy;
+import Elements.ObservableInventory;
+import Elements.PageSource;
+import Elements.PagedList;
 import Elements.PartsTable;
 
 import Elements.ProductsTable;
+import Elements.TableColumns;
+import Persistence.Journal;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.geometry.HPos;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.stage.Stage;
 import javafx.scene.control.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
 /**
  * Main class to drive application
  * this class sets up the basic UI element display
@@ -22,6 +32,13 @@ import javafx.scene.control.*;
  */
 public class Main extends Application {
     private final Inventory inventory = new Inventory();
+    /* tells the tables when the inventory changes, made once the saved inventory is restored */
+    private ObservableInventory observableInventory;
+    /* where the inventory journal and snapshots are kept */
+    private final Path dataDirectory = Paths.get(System.getProperty("inventory.data", "inventory-data"));
+    private Journal journal;
+    /* true when the journal restored a saved inventory, so the defaults are not loaded */
+    private boolean restored;
 
     /**
      * Start method
@@ -30,13 +47,18 @@ public class Main extends Application {
     @Override
     public void start(Stage primaryStage) {
         int defaultPadding = 10;
+        // restore the saved inventory before the tables are built
+        openJournal();
+        observableInventory = new ObservableInventory(inventory);
+        // changes made off the FX thread reach the tables once per pulse
+        observableInventory.publishOnFxThread();
         // setup the grid
         GridPane gridpane = new GridPane();
 
         // partsTable elements
         TableView<Part> partsTable = getPartsTable(); // the parts table itself
         partsTable.setPlaceholder(new Label("No parts found."));
-        PartsTable partsTableE = new PartsTable(inventory, partsTable); // get elements
+        PartsTable partsTableE = new PartsTable(observableInventory, partsTable); // get elements
         HBox partsHeader = partsTableE.getPartsHeader(); // get header
         HBox partsFooter = partsTableE.getPartsFooter();
         // add to grid
@@ -46,7 +68,7 @@ public class Main extends Application {
 
         // productsTable elements
         TableView<Product> productsTable = getProductsTable(); // get products table
-        ProductsTable productsTableE = new ProductsTable(inventory, productsTable); // get elements
+        ProductsTable productsTableE = new ProductsTable(observableInventory, productsTable); // get elements
         productsTable.setPlaceholder(new Label("No products found."));
         HBox productsHeader = productsTableE.getProductsHeader(productsTable, inventory); // get header
         HBox productsFooter = productsTableE.getProductsFooter();
@@ -59,6 +81,7 @@ public class Main extends Application {
         Button exitBtn = new Button();
         exitBtn.setText("Exit");
         exitBtn.setOnAction(actionEvent ->  {
+            closeJournal();
             Platform.exit();
             System.exit(0);
         });
@@ -76,6 +99,55 @@ public class Main extends Application {
     }
 
 
+    /**
+     * Stop method, called when the window is closed
+     */
+    @Override
+    public void stop() {
+        closeJournal();
+    }
+
+    /**
+     * method to open the journal, which restores whatever was saved last time
+     * if it cannot be opened the application still runs, but changes are not saved
+     */
+    private void openJournal() {
+        try {
+            journal = Journal.open(dataDirectory, inventory);
+            restored = journal.wasRestored();
+        } catch (IOException e) {
+            // whatever was replayed before the failure stays, so don't add the defaults on top of it
+            restored = inventory.partCount() > 0 || inventory.productCount() > 0;
+            showError("The saved inventory could not be loaded, changes will not be saved. " + e.getMessage());
+        }
+    }
+
+    /**
+     * method to flush and close the journal
+     */
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            showError("The inventory could not be saved. " + e.getMessage());
+        }
+        journal = null;
+    }
+
+    /**
+     * method to show an error alert
+     * @param message - the message to display
+     */
+    private void showError(String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Error");
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+
     /**
      * method to get the default parts table
      * @return TableView of Parts
@@ -83,22 +155,30 @@ public class Main extends Application {
     private TableView<Part> getPartsTable() {
         // setup the inventory
         // this has to be done before loading the table
-        loadDefaultParts();
+        if (!restored) {
+            loadDefaultParts();
+        }
 
         TableView<Part> partsTable = new TableView<>();
 
         //Creating columns
-        TableColumn partIdCol = new TableColumn("Part ID");
-        partIdCol.setCellValueFactory(new PropertyValueFactory<>("id"));
-        TableColumn partNameCol = new TableColumn("Part Name");
-        partNameCol.setCellValueFactory(new PropertyValueFactory<>("name"));
-        TableColumn partStockCol = new TableColumn("Inventory Level");
-        partStockCol.setCellValueFactory(new PropertyValueFactory<>("stock"));
-        TableColumn partPriceCol = new TableColumn("Price/Cost Per Item");
-        partPriceCol.setCellValueFactory(new PropertyValueFactory<>("price"));
-
-        partsTable.setItems(inventory.getAllParts());
-        partsTable.getColumns().addAll(partIdCol, partNameCol, partStockCol, partPriceCol);
+        TableColumn<Part, Number> partIdCol = TableColumns.intColumn("Part ID", Part::getId);
+        TableColumn<Part, String> partNameCol = TableColumns.textColumn("Part Name", Part::getName);
+        TableColumn<Part, Number> partStockCol = TableColumns.intColumn("Inventory Level", Part::getStock);
+        TableColumn<Part, Number> partPriceCol = TableColumns.doubleColumn("Price/Cost Per Item", Part::getPrice);
+
+        // only the visible pages of parts are fetched, the pages are dropped whenever the parts change
+        PagedList<Part> parts = new PagedList<>(PageSource.parts(inventory));
+        observableInventory.addPartsListener(parts::refresh);
+        partsTable.setItems(parts);
+        // a header click switches to an order the inventory keeps instead of sorting the parts
+        partsTable.setSortPolicy(new ColumnSortPolicy<>(parts,
+            (order, descending) -> PageSource.parts(inventory, order, descending))
+            .sortBy(partIdCol, ColumnOrder.ID)
+            .sortBy(partNameCol, ColumnOrder.NAME)
+            .sortBy(partStockCol, ColumnOrder.STOCK)
+            .sortBy(partPriceCol, ColumnOrder.PRICE));
+        partsTable.getColumns().addAll(List.of(partIdCol, partNameCol, partStockCol, partPriceCol));
         partsTable.setMaxSize(350, 200);
         return partsTable;
     }
@@ -108,28 +188,33 @@ public class Main extends Application {
      * @return TableView of Products
      */
     private TableView<Product> getProductsTable() {
-        loadDefaultProducts();
+        if (!restored) {
+            loadDefaultProducts();
+        }
         TableView<Product> productsTable = new TableView<>();
         //Creating columns
-        TableColumn productsIdCol = new TableColumn("Product ID");
-        productsIdCol.setCellValueFactory(new PropertyValueFactory<>("id"));
-        TableColumn productNameCol = new TableColumn("Product Name");
-        productNameCol.setCellValueFactory(new PropertyValueFactory<>("name"));
-        TableColumn productStockCol = new TableColumn("Inventory Level");
-        productStockCol.setCellValueFactory(new PropertyValueFactory<>("stock"));
-        TableColumn productPriceCol = new TableColumn("Price/Cost Per Item");
-        productPriceCol.setCellValueFactory(new PropertyValueFactory<>("price"));
-
-        productsTable.setItems(inventory.getAllProducts());
-        productsTable.getColumns().addAll(productsIdCol, productNameCol, productStockCol, productPriceCol);
+        TableColumn<Product, Number> productsIdCol = TableColumns.intColumn("Product ID", Product::getId);
+        TableColumn<Product, String> productNameCol = TableColumns.textColumn("Product Name", Product::getName);
+        TableColumn<Product, Number> productStockCol = TableColumns.intColumn("Inventory Level", Product::getStock);
+        TableColumn<Product, Number> productPriceCol = TableColumns.doubleColumn("Price/Cost Per Item", Product::getPrice);
+
+        PagedList<Product> products = new PagedList<>(PageSource.products(inventory));
+        observableInventory.addProductsListener(products::refresh);
+        productsTable.setItems(products);
+        productsTable.setSortPolicy(new ColumnSortPolicy<>(products,
+            (order, descending) -> PageSource.products(inventory, order, descending))
+            .sortBy(productsIdCol, ColumnOrder.ID)
+            .sortBy(productNameCol, ColumnOrder.NAME)
+            .sortBy(productStockCol, ColumnOrder.STOCK)
+            .sortBy(productPriceCol, ColumnOrder.PRICE));
+        productsTable.getColumns().addAll(List.of(productsIdCol, productNameCol, productStockCol, productPriceCol));
         productsTable.setMaxSize(350, 200);
         return productsTable;
     }
 
     /**
      * method to load some default products
-     * there are no requirements to persist this in a remote database or file
-     * but there should be
+     * these are only loaded the first time, after that the journal restores the inventory
      */
     private void loadDefaultProducts() {
         inventory.addProduct(new Product(1000, "Giant Bike", 299.99, 5, 1, 10));
@@ -142,7 +227,7 @@ public class Main extends Application {
     private void loadDefaultParts () {
         // load data into table
         inventory.addPart(new Part(1,"Brakes", 15.00, 10, 1, 10));
-        inventory.addPart(new Part(2,"Wheel", 11.00, 16, 1, 10));
+        inventory.addPart(new Part(2,"Wheel", 11.00, 16, 1, 20));
         inventory.addPart(new Part(3,"Seat", 15.00, 10, 1, 10));
     }
     public static void main(String[] args) {
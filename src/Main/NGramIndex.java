@@ -0,0 +1,232 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * NGramIndex class is a trigram inverted index over names
+ * a substring query is answered by intersecting the posting lists of its trigrams
+ * and confirming the few remaining candidates, instead of lowercasing and scanning every name.
+ * the index keeps the name it was given, the same string the part or product holds, and lowercases
+ * one char at a time while reading it, so it does not keep a lowercase copy of every name
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class NGramIndex {
+    private static final int N = 3;
+    private static final int[] NO_IDS = new int[0];
+
+    /* name of every indexed id, as given */
+    private final IntMap<String> namesById = new IntMap<>();
+
+    /* trigram packed into a long -> ids of the names containing it */
+    private final Map<Long, SortedIntList> postings = new HashMap<>();
+
+    /**
+     * index a name
+     * @param id the id of the named entry
+     * @param name the name to index
+     */
+    public void add(int id, String name) {
+        String previous = namesById.put(id, name);
+        if (previous != null) {
+            removeGrams(id, previous);
+        }
+        for (int i = 0; i + N <= name.length(); i++) {
+            postings.computeIfAbsent(gram(name, i), key -> new SortedIntList()).add(id);
+        }
+    }
+
+    /**
+     * @param id the id of a named entry
+     * @return the name it is indexed under, or null when the id is not indexed
+     */
+    public String name(int id) {
+        return namesById.get(id);
+    }
+
+    /**
+     * remove an id from the index
+     * @param id the id to remove
+     */
+    public void remove(int id) {
+        String name = namesById.remove(id);
+        if (name != null) {
+            removeGrams(id, name);
+        }
+    }
+
+    /**
+     * remove many ids from the index at once
+     * the ids are collected per trigram first, so each posting list is compacted once
+     * instead of shifting it for every id, common trigrams are shared by most names
+     * @param ids the ids to remove, in any order
+     */
+    public void removeAll(int[] ids) {
+        Map<Long, IntBuffer> removed = new HashMap<>();
+        for (int id : ids) {
+            String name = namesById.remove(id);
+            if (name == null) {
+                continue;
+            }
+            for (int i = 0; i + N <= name.length(); i++) {
+                removed.computeIfAbsent(gram(name, i), key -> new IntBuffer()).add(id);
+            }
+        }
+        removed.forEach((key, buffer) -> {
+            SortedIntList list = postings.get(key);
+            if (list != null && list.removeAll(buffer.toArray()) > 0 && list.isEmpty()) {
+                postings.remove(key);
+            }
+        });
+    }
+
+    /**
+     * find every id whose name contains the query, ignoring case
+     * @param query the text to search for
+     * @return matching ids in ascending order
+     */
+    public int[] search(String query) {
+        String lowerQuery = lowerCase(query);
+        if (lowerQuery.length() < N) {
+            return scan(lowerQuery);
+        }
+        // collect the posting list of every trigram, any missing trigram means no match
+        int gramCount = lowerQuery.length() - N + 1;
+        SortedIntList[] lists = new SortedIntList[gramCount];
+        for (int i = 0; i < gramCount; i++) {
+            lists[i] = postings.get(gram(lowerQuery, i));
+            if (lists[i] == null) {
+                return NO_IDS;
+            }
+        }
+        // intersect starting from the shortest list, the candidates are ascending so each longer list
+        // is walked once from left to right, galloping over the ids between two candidates
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+        int[] candidates = lists[0].toArray();
+        int count = candidates.length;
+        for (int l = 1; l < lists.length && count > 0; l++) {
+            if (lists[l] == lists[l - 1]) {
+                continue; // repeated trigram in the query
+            }
+            SortedIntList list = lists[l];
+            int kept = 0;
+            int position = 0;
+            for (int i = 0; i < count && position < list.size(); i++) {
+                position = list.seek(candidates[i], position);
+                if (position < list.size() && list.get(position) == candidates[i]) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            count = kept;
+        }
+        // trigrams can all be present without being adjacent, so confirm the candidates
+        if (lowerQuery.length() > N) {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (contains(namesById.get(candidates[i]), lowerQuery)) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            count = kept;
+        }
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * method to answer queries shorter than a trigram
+     * the names are compared a char at a time, so this scan does not allocate per name
+     * @param lowerQuery the lowercase query
+     * @return matching ids in ascending order
+     */
+    private int[] scan(String lowerQuery) {
+        int[] matches = new int[namesById.size()];
+        int[] count = {0};
+        namesById.forEach((id, name) -> {
+            if (contains(name, lowerQuery)) {
+                matches[count[0]++] = id;
+            }
+        });
+        int[] result = Arrays.copyOf(matches, count[0]);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void removeGrams(int id, String name) {
+        for (int i = 0; i + N <= name.length(); i++) {
+            Long key = gram(name, i);
+            SortedIntList list = postings.get(key);
+            if (list != null && list.remove(id) && list.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * pack the lowercase trigram starting at an offset into a long
+     * @param text the text, in any case
+     * @param offset the first char of the trigram
+     * @return packed trigram
+     */
+    private static Long gram(String text, int offset) {
+        return ((long) lower(text, offset) << 32) | ((long) lower(text, offset + 1) << 16) | lower(text, offset + 2);
+    }
+
+    /**
+     * check if a name contains a lowercase query, lowercasing the name a char at a time like gram
+     * @param name the name, in any case
+     * @param lowerQuery the query, already lowercase
+     * @return boolean
+     */
+    private static boolean contains(String name, String lowerQuery) {
+        int last = name.length() - lowerQuery.length();
+        for (int start = 0; start <= last; start++) {
+            int i = 0;
+            while (i < lowerQuery.length() && lower(name, start + i) == lowerQuery.charAt(i)) {
+                i++;
+            }
+            if (i == lowerQuery.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * lowercase a query the same way names are read, a char at a time
+     * @param text the text
+     * @return the lowercase text, the same length as text
+     */
+    private static String lowerCase(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = lower(text, i);
+        }
+        return new String(chars);
+    }
+
+    private static char lower(String text, int index) {
+        return Character.toLowerCase(text.charAt(index));
+    }
+
+    /**
+     * IntBuffer class collects the ids removed from one posting list
+     */
+    private static class IntBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+}
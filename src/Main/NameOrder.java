@@ -0,0 +1,229 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * NameOrder class keeps the ids of parts or products sorted by name, for showing a table in name order
+ * names are compared the way a table column compares strings, with String.compareTo, ties in id order.
+ * the entries are kept in blocks of at most BLOCK_SIZE like RangeIndex, so a rename is O(log n) plus a
+ * shift inside one block and a page of the order is read without sorting the catalog.
+ * Inventory keeps one for the parts and one for the products
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class NameOrder {
+    private static final int BLOCK_SIZE = 512;
+
+    /* names and ids of each block, ordered by name then id */
+    private String[][] blockNames = new String[4][];
+    private int[][] blockIds = new int[4][];
+    private int[] blockSizes = new int[4];
+    private int blockCount;
+    private int size;
+
+    /* id -> the name it is sorted by */
+    private final IntMap<String> names = new IntMap<>();
+
+    /**
+     * @return the number of ids in the order
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * get a run of ids in name order, O(n / BLOCK_SIZE + count)
+     * @param from the position of the first id, 0 is the first name, or the last when descending
+     * @param count the most ids to return
+     * @param descending true to read the order from the last name back
+     * @return the ids, fewer than count at the end of the order
+     */
+    public synchronized int[] page(int from, int count, boolean descending) {
+        if (from < 0 || count < 0) {
+            throw new IndexOutOfBoundsException("Range " + from + " + " + count + " out of bounds for size " + size);
+        }
+        int[] result = new int[(int) Math.max(0, Math.min(count, (long) size - from))];
+        if (result.length == 0) {
+            return result;
+        }
+        int position = descending ? size - 1 - from : from;
+        int block = 0;
+        while (position >= blockSizes[block]) {
+            position -= blockSizes[block++];
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] = blockIds[block][position];
+            if (descending) {
+                if (--position < 0 && block > 0) {
+                    position = blockSizes[--block] - 1;
+                }
+            } else if (++position == blockSizes[block]) {
+                block++;
+                position = 0;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * add an id or change its name
+     * @param id the id of the item
+     * @param name the name
+     */
+    synchronized void put(int id, String name) {
+        String previous = names.put(id, name);
+        if (name.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            delete(previous, id);
+        }
+        insert(name, id);
+    }
+
+    /**
+     * remove an id
+     * @param id the id of the item
+     * @return true if the id was in the order
+     */
+    synchronized boolean remove(int id) {
+        String name = names.remove(id);
+        if (name == null) {
+            return false;
+        }
+        delete(name, id);
+        return true;
+    }
+
+    private void insert(String name, int id) {
+        int block;
+        if (blockCount == 0) {
+            addBlock(0, new String[BLOCK_SIZE], new int[BLOCK_SIZE], 0);
+            block = 0;
+        } else {
+            block = Math.min(firstBlockAtOrAfter(name, id), blockCount - 1);
+        }
+        int position = search(block, name, id);
+        int count = blockSizes[block];
+        System.arraycopy(blockNames[block], position, blockNames[block], position + 1, count - position);
+        System.arraycopy(blockIds[block], position, blockIds[block], position + 1, count - position);
+        blockNames[block][position] = name;
+        blockIds[block][position] = id;
+        blockSizes[block]++;
+        size++;
+        if (blockSizes[block] == BLOCK_SIZE) {
+            split(block);
+        }
+    }
+
+    private void delete(String name, int id) {
+        int block = firstBlockAtOrAfter(name, id);
+        int position = search(block, name, id);
+        int count = blockSizes[block];
+        System.arraycopy(blockNames[block], position + 1, blockNames[block], position, count - position - 1);
+        System.arraycopy(blockIds[block], position + 1, blockIds[block], position, count - position - 1);
+        blockNames[block][count - 1] = null;
+        blockSizes[block]--;
+        size--;
+        if (blockSizes[block] == 0) {
+            removeBlock(block);
+        } else if (blockSizes[block] < BLOCK_SIZE / 4) {
+            // join a small block with a neighbour, the same as RangeIndex
+            int neighbour = block + 1 < blockCount ? block + 1 : block - 1;
+            if (neighbour >= 0 && blockSizes[block] + blockSizes[neighbour] < BLOCK_SIZE / 2) {
+                join(Math.min(block, neighbour));
+            }
+        }
+    }
+
+    private void split(int block) {
+        int half = blockSizes[block] / 2;
+        int moved = blockSizes[block] - half;
+        String[] namesRight = new String[BLOCK_SIZE];
+        int[] idsRight = new int[BLOCK_SIZE];
+        System.arraycopy(blockNames[block], half, namesRight, 0, moved);
+        System.arraycopy(blockIds[block], half, idsRight, 0, moved);
+        Arrays.fill(blockNames[block], half, blockSizes[block], null);
+        addBlock(block + 1, namesRight, idsRight, moved);
+        blockSizes[block] = half;
+    }
+
+    private void join(int block) {
+        int count = blockSizes[block];
+        int next = blockSizes[block + 1];
+        System.arraycopy(blockNames[block + 1], 0, blockNames[block], count, next);
+        System.arraycopy(blockIds[block + 1], 0, blockIds[block], count, next);
+        blockSizes[block] = count + next;
+        removeBlock(block + 1);
+    }
+
+    private void addBlock(int block, String[] namesIn, int[] idsIn, int count) {
+        if (blockCount == blockNames.length) {
+            int capacity = blockCount << 1;
+            blockNames = Arrays.copyOf(blockNames, capacity);
+            blockIds = Arrays.copyOf(blockIds, capacity);
+            blockSizes = Arrays.copyOf(blockSizes, capacity);
+        }
+        System.arraycopy(blockNames, block, blockNames, block + 1, blockCount - block);
+        System.arraycopy(blockIds, block, blockIds, block + 1, blockCount - block);
+        System.arraycopy(blockSizes, block, blockSizes, block + 1, blockCount - block);
+        blockNames[block] = namesIn;
+        blockIds[block] = idsIn;
+        blockSizes[block] = count;
+        blockCount++;
+    }
+
+    private void removeBlock(int block) {
+        blockCount--;
+        System.arraycopy(blockNames, block + 1, blockNames, block, blockCount - block);
+        System.arraycopy(blockIds, block + 1, blockIds, block, blockCount - block);
+        System.arraycopy(blockSizes, block + 1, blockSizes, block, blockCount - block);
+        blockNames[blockCount] = null;
+        blockIds[blockCount] = null;
+    }
+
+    /**
+     * method to find the first block whose last entry is not before an entry
+     * @return the block, or blockCount when every entry is before it
+     */
+    private int firstBlockAtOrAfter(String name, int id) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int last = blockSizes[middle] - 1;
+            if (compare(blockNames[middle][last], blockIds[middle][last], name, id) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * method to find the first position in a block that is not before an entry
+     * @return the position, the block size when every entry is before it
+     */
+    private int search(int block, String name, int id) {
+        String[] blockName = blockNames[block];
+        int[] blockId = blockIds[block];
+        int low = 0;
+        int high = blockSizes[block];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(blockName[middle], blockId[middle], name, id) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(String nameA, int idA, String nameB, int idB) {
+        int byName = nameA.compareTo(nameB);
+        return byName != 0 ? byName : Integer.compare(idA, idB);
+    }
+}
@@ -0,0 +1,50 @@
+package Main;
+
+/**
+ * NumericField enum names the numbers of a part or product that Inventory keeps a RangeIndex on
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public enum NumericField {
+    PRICE,
+    STOCK,
+    MIN,
+    MAX;
+
+    /**
+     * get this field of a part
+     * @param part the part
+     * @return the value
+     */
+    public double valueOf(Part part) {
+        switch (this) {
+            case PRICE:
+                return part.getPrice();
+            case STOCK:
+                return part.getStock();
+            case MIN:
+                return part.getMin();
+            default:
+                return part.getMax();
+        }
+    }
+
+    /**
+     * get this field of a product
+     * @param product the product
+     * @return the value
+     */
+    public double valueOf(Product product) {
+        switch (this) {
+            case PRICE:
+                return product.getPrice();
+            case STOCK:
+                return product.getStock();
+            case MIN:
+                return product.getMin();
+            default:
+                return product.getMax();
+        }
+    }
+}
@@ -1,4 +1,6 @@
 package Main;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 /**
  * Supplied class Part.java
  */
@@ -11,10 +13,24 @@ public class Part {
     private int id;
     private String name;
     private double price;
-    private int stock;
+    /* changed with compare and set through STOCK, only by Inventory, so no adjustment is lost or missed by its indexes */
+    private volatile int stock;
     private int min;
     private int max;
 
+    /* returned by addStock when the stock would leave min to max */
+    static final long OUT_OF_RANGE = Long.MIN_VALUE;
+
+    private static final VarHandle STOCK;
+
+    static {
+        try {
+            STOCK = MethodHandles.lookup().findVarHandle(Part.class, "stock", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     public Part(int id, String name, double price, int stock, int min, int max) {
         this.id = id;
         this.name = name;
@@ -73,13 +89,6 @@ public class Part {
         return stock;
     }
 
-    /**
-     * @param stock the stock to set
-     */
-    public void setStock(int stock) {
-        this.stock = stock;
-    }
-
     /**
      * @return the min
      */
@@ -108,4 +117,31 @@ public class Part {
         this.max = max;
     }
 
+    /**
+     * method to add to the stock with compare and set, retrying while other threads change it
+     * @param delta the amount to add
+     * @return the stock before the change, or OUT_OF_RANGE if the stock would leave min to max
+     */
+    long addStock(int delta) {
+        while (true) {
+            int current = stock;
+            long next = (long) current + delta;
+            if (next < min || next > max) {
+                return OUT_OF_RANGE;
+            }
+            if (STOCK.compareAndSet(this, current, (int) next)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * method to add to the stock without checking min and max, for replaying adjustments
+     * that were recorded in a different order than they were made
+     * @param delta the amount to add
+     * @return the stock before the change
+     */
+    int addStockUnchecked(int delta) {
+        return (int) STOCK.getAndAdd(this, delta);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,403 @@
+package Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * PartColumns class stores parts as columns of primitives instead of one object per part
+ * every field is an array indexed by row, names and company names are dictionary encoded through a SymbolTable
+ * that drops a string once no row uses it.
+ * scans and aggregations are plain loops over the arrays, and a Part is only created
+ * when one is asked for. rows are unordered, removing a part moves the last row into its place.
+ *
+ * it can be used on its own for large catalogs, or kept in step with an Inventory
+ * as one of its listeners, see Inventory.getPartColumns
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class PartColumns implements InventoryListener {
+    /* part kinds stored in the kind column */
+    public static final byte PART = 0;
+    public static final byte IN_HOUSE = 1;
+    public static final byte OUTSOURCED = 2;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final SymbolTable symbols;
+    private final IntIntMap rowsById;
+
+    private byte[] kinds;
+    private int[] ids;
+    private int[] names;
+    private double[] prices;
+    private int[] stock;
+    private int[] min;
+    private int[] max;
+    private int[] machineIds;
+    private int[] companies;
+    private int size;
+
+    public PartColumns() {
+        this(DEFAULT_CAPACITY, new SymbolTable());
+    }
+
+    /**
+     * PartColumns constructor
+     * @param capacity the number of parts to size the columns for
+     * @param symbols the dictionary for names and company names, can be shared with other columns
+     */
+    public PartColumns(int capacity, SymbolTable symbols) {
+        this.symbols = symbols;
+        this.rowsById = new IntIntMap(capacity);
+        allocate(Math.max(capacity, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * add a part
+     * @param part the part to add
+     * @throws IllegalArgumentException if a part with the same id is already stored
+     */
+    public synchronized void add(Part part) {
+        if (rowsById.containsKey(part.getId())) {
+            throw new IllegalArgumentException("A part with id " + part.getId() + " already exists");
+        }
+        if (size == ids.length) {
+            allocate(size << 1);
+        }
+        rowsById.put(part.getId(), size);
+        write(size++, part);
+    }
+
+    /**
+     * replace the stored fields of a part
+     * @param part the updated part
+     * @throws NoSuchElementException if there is no part with the id
+     */
+    public synchronized void update(Part part) {
+        int row = rowsById.get(part.getId());
+        if (row == IntIntMap.MISSING) {
+            throw new NoSuchElementException("There is no part with id " + part.getId());
+        }
+        releaseStrings(row);
+        write(row, part);
+    }
+
+    /**
+     * remove a part
+     * @param partId the id of the part
+     * @return true if the part was stored
+     */
+    public synchronized boolean remove(int partId) {
+        int row = rowsById.remove(partId);
+        if (row == IntIntMap.MISSING) {
+            return false;
+        }
+        releaseStrings(row);
+        int last = --size;
+        if (row != last) {
+            kinds[row] = kinds[last];
+            ids[row] = ids[last];
+            names[row] = names[last];
+            prices[row] = prices[last];
+            stock[row] = stock[last];
+            min[row] = min[last];
+            max[row] = max[last];
+            machineIds[row] = machineIds[last];
+            companies[row] = companies[last];
+            rowsById.put(ids[row], row);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of stored parts
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param partId the id of a part
+     * @return true if the part is stored
+     */
+    public synchronized boolean contains(int partId) {
+        return rowsById.containsKey(partId);
+    }
+
+    /**
+     * create a part from its columns
+     * the part is a copy, changing it does not change the columns
+     * @param partId the id of the part
+     * @return an InHouse, Outsourced or plain Part, or null when the part is not stored
+     */
+    public synchronized Part part(int partId) {
+        int row = rowsById.get(partId);
+        return row == IntIntMap.MISSING ? null : partAt(row);
+    }
+
+    /**
+     * create the parts of a run of rows
+     * the parts are copies, changing them does not change the columns
+     * @param from the first row
+     * @param count the most rows
+     * @return the parts, fewer than count at the end of the columns
+     */
+    public synchronized List<Part> partsAt(int from, int count) {
+        int to = (int) Math.min(size, (long) from + count);
+        List<Part> parts = new ArrayList<>(Math.max(0, to - from));
+        for (int row = from; row < to; row++) {
+            parts.add(partAt(row));
+        }
+        return parts;
+    }
+
+    /**
+     * get the price of a part without creating it
+     * @param partId the id of the part
+     * @return the price
+     * @throws NoSuchElementException if there is no part with the id
+     */
+    public synchronized double price(int partId) {
+        return prices[rowOf(partId)];
+    }
+
+    /**
+     * get the stock of a part without creating it
+     * @param partId the id of the part
+     * @return the stock
+     * @throws NoSuchElementException if there is no part with the id
+     */
+    public synchronized int stock(int partId) {
+        return stock[rowOf(partId)];
+    }
+
+    /**
+     * get the name of a part without creating it
+     * @param partId the id of the part
+     * @return the name
+     * @throws NoSuchElementException if there is no part with the id
+     */
+    public synchronized String name(int partId) {
+        return symbols.symbol(names[rowOf(partId)]);
+    }
+
+    /**
+     * @return the stock of every part added up
+     */
+    public synchronized long totalStock() {
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            total += stock[row];
+        }
+        return total;
+    }
+
+    /**
+     * @return price times stock of every part added up
+     */
+    public synchronized double totalValue() {
+        double total = 0;
+        for (int row = 0; row < size; row++) {
+            total += prices[row] * stock[row];
+        }
+        return total;
+    }
+
+    /**
+     * @return the average part price, 0 when there are no parts
+     */
+    public synchronized double averagePrice() {
+        if (size == 0) {
+            return 0;
+        }
+        double total = 0;
+        for (int row = 0; row < size; row++) {
+            total += prices[row];
+        }
+        return total / size;
+    }
+
+    /**
+     * find the parts whose stock has fallen to their minimum or below
+     * @return the part ids, in no particular order
+     */
+    public synchronized int[] idsAtOrBelowMin() {
+        int[] matches = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (stock[row] <= min[row]) {
+                matches[count++] = ids[row];
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * find the parts priced in a range
+     * @param low the lowest price, inclusive
+     * @param high the highest price, inclusive
+     * @return the part ids, in no particular order
+     */
+    public synchronized int[] idsPricedBetween(double low, double high) {
+        int[] matches = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            double price = prices[row];
+            if (price >= low && price <= high) {
+                matches[count++] = ids[row];
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * find the parts with exactly a name, compared as dictionary codes
+     * @param name the name to look for
+     * @return the part ids, in no particular order
+     */
+    public synchronized int[] idsNamed(String name) {
+        int code = symbols.codeOf(name);
+        if (code == SymbolTable.NO_SYMBOL) {
+            return new int[0];
+        }
+        int[] matches = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (names[row] == code) {
+                matches[count++] = ids[row];
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * find the outsourced parts from a company, compared as dictionary codes
+     * @param companyName the company name to look for
+     * @return the part ids, in no particular order
+     */
+    public synchronized int[] idsFromCompany(String companyName) {
+        int code = symbols.codeOf(companyName);
+        if (code == SymbolTable.NO_SYMBOL) {
+            return new int[0];
+        }
+        int[] matches = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (companies[row] == code) {
+                matches[count++] = ids[row];
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    @Override
+    public void partAdded(Part part) {
+        add(part);
+    }
+
+    @Override
+    public void partUpdated(Part previous, Part part) {
+        update(part);
+    }
+
+    @Override
+    public synchronized void partStockAdjusted(Part part, int previous, int stock) {
+        this.stock[rowOf(part.getId())] += stock - previous;
+    }
+
+    @Override
+    public void partDeleted(Part part) {
+        remove(part.getId());
+    }
+
+    /**
+     * method to create the part stored in a row
+     * @param row the row
+     * @return the part
+     */
+    private Part partAt(int row) {
+        String name = symbols.symbol(names[row]);
+        switch (kinds[row]) {
+            case IN_HOUSE:
+                return new InHouse(ids[row], name, prices[row], stock[row], min[row], max[row], machineIds[row]);
+            case OUTSOURCED:
+                return new Outsourced(ids[row], name, prices[row], stock[row], min[row], max[row],
+                    symbols.symbol(companies[row]));
+            default:
+                return new Part(ids[row], name, prices[row], stock[row], min[row], max[row]);
+        }
+    }
+
+    /**
+     * method to store the fields of a part in a row
+     * @param row the row
+     * @param part the part
+     */
+    private void write(int row, Part part) {
+        ids[row] = part.getId();
+        names[row] = symbols.intern(part.getName());
+        prices[row] = part.getPrice();
+        stock[row] = part.getStock();
+        min[row] = part.getMin();
+        max[row] = part.getMax();
+        machineIds[row] = 0;
+        companies[row] = SymbolTable.NO_SYMBOL;
+        if (part instanceof InHouse) {
+            kinds[row] = IN_HOUSE;
+            machineIds[row] = ((InHouse) part).getMachineId();
+        } else if (part instanceof Outsourced) {
+            kinds[row] = OUTSOURCED;
+            companies[row] = symbols.intern(((Outsourced) part).getCompanyName());
+        } else {
+            kinds[row] = PART;
+        }
+    }
+
+    /**
+     * method to drop the references of a row to its strings before it is overwritten or removed
+     * @param row the row
+     */
+    private void releaseStrings(int row) {
+        symbols.release(names[row]);
+        symbols.release(companies[row]);
+    }
+
+    private int rowOf(int partId) {
+        int row = rowsById.get(partId);
+        if (row == IntIntMap.MISSING) {
+            throw new NoSuchElementException("There is no part with id " + partId);
+        }
+        return row;
+    }
+
+    /**
+     * method to create or grow the columns
+     * @param capacity the number of rows
+     */
+    private void allocate(int capacity) {
+        if (ids == null) {
+            kinds = new byte[capacity];
+            ids = new int[capacity];
+            names = new int[capacity];
+            prices = new double[capacity];
+            stock = new int[capacity];
+            min = new int[capacity];
+            max = new int[capacity];
+            machineIds = new int[capacity];
+            companies = new int[capacity];
+        } else {
+            kinds = Arrays.copyOf(kinds, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            stock = Arrays.copyOf(stock, capacity);
+            min = Arrays.copyOf(min, capacity);
+            max = Arrays.copyOf(max, capacity);
+            machineIds = Arrays.copyOf(machineIds, capacity);
+            companies = Arrays.copyOf(companies, capacity);
+        }
+    }
+}
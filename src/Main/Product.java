@@ -1,7 +1,12 @@
 package Main;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Class for managing products
@@ -10,14 +15,32 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @since 12/31/2020
  */
 public class Product {
-    private ObservableList<Part> associatedParts;
+    /* the associated parts in the order they were added, replaced on every change and read without a lock */
+    private volatile AssociatedParts associatedParts = AssociatedParts.EMPTY;
+    /* id index over associatedParts for constant time duplicate checks, guarded by the product */
+    private IntMap<Part> associatedPartsById;
+    private volatile AssociationListener associationListener;
     private int id;
     private String name;
     private double price;
-    private int stock;
+    /* changed with compare and set through STOCK, only by Inventory, so no adjustment is lost or missed by its indexes */
+    private volatile int stock;
     private int min;
     private int max;
 
+    /* returned by addStock when the stock would leave min to max */
+    static final long OUT_OF_RANGE = Long.MIN_VALUE;
+
+    private static final VarHandle STOCK;
+
+    static {
+        try {
+            STOCK = MethodHandles.lookup().findVarHandle(Product.class, "stock", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     public Product (int id, String name, double price, int stock, int min, int max) {
         this.id = id;
         this.name = name;
@@ -25,7 +48,7 @@ public class Product {
         this.stock = stock;
         this.min = min;
         this.max = max;
-        this.associatedParts = FXCollections.observableArrayList();
+        this.associatedPartsById = new IntMap<>();
     }
 
     /**
@@ -82,14 +105,6 @@ public class Product {
         return stock;
     }
 
-    /**
-     * setter for stock
-     * @param stock the stock value to set
-     */
-    public void setStock (int stock) {
-        this.stock = stock;
-    }
-
     /**
      * getter for min
      * @return product min
@@ -125,18 +140,39 @@ public class Product {
 
     /**
      * method to add a part to the product
+     * changes to the associated parts are made while holding the product, so many threads can make them,
+     * and the listener is told before the next change so it sees them in order
      * @param part the part to add
      */
-    public void addAssociatedPart(Part part) {
-        AtomicBoolean partAlreadyAssociated = new AtomicBoolean(false);
-        associatedParts.forEach(aPart -> {
-            if (aPart.getId() == part.getId()) {
-                partAlreadyAssociated.set(true);
-            }
-        });
+    public synchronized void addAssociatedPart(Part part) {
+        if (associatedPartsById.containsKey(part.getId())) {
+            return;
+        }
+        associatedPartsById.put(part.getId(), part);
+        associatedParts = associatedParts.plus(part);
+        AssociationListener listener = associationListener;
+        if (listener != null) {
+            listener.partAssociated(this, part);
+        }
+    }
 
-        if (!partAlreadyAssociated.get()) {
-            associatedParts.add(part);
+    /**
+     * method to add many parts to the product at once
+     * parts that are already associated are skipped and the list fires a single change
+     * @param parts the parts to add
+     */
+    public synchronized void addAssociatedParts(Collection<? extends Part> parts) {
+        List<Part> added = new ArrayList<>(parts.size());
+        for (Part part : parts) {
+            if (!associatedPartsById.containsKey(part.getId())) {
+                associatedPartsById.put(part.getId(), part);
+                added.add(part);
+            }
+        }
+        associatedParts = associatedParts.plus(added);
+        AssociationListener listener = associationListener;
+        if (listener != null) {
+            added.forEach(part -> listener.partAssociated(this, part));
         }
     }
 
@@ -145,15 +181,123 @@ public class Product {
      * @param selectedAssociatedPart
      * @return boolean regarding success of deletion
      */
-    public boolean deleteAssociatedPart(Part selectedAssociatedPart) {
-        return associatedParts.removeIf(part -> part.getId() == selectedAssociatedPart.getId());
+    public synchronized boolean deleteAssociatedPart(Part selectedAssociatedPart) {
+        Part removed = associatedPartsById.remove(selectedAssociatedPart.getId());
+        if (removed == null) {
+            return false;
+        }
+        associatedParts = associatedParts.minus(removed);
+        AssociationListener listener = associationListener;
+        if (listener != null) {
+            listener.partDissociated(this, removed);
+        }
+        return true;
     }
 
     /**
      * method to get all the associated parts from parts list
+     * the list is read only and does not change, later changes to the product are not seen in it.
+     * it is safe to read while other threads change the product, use addAssociatedPart and deleteAssociatedPart to change it
      * @return all parts associated with product
      */
-    public ObservableList<Part> getAllAssociatedParts() {
+    public List<Part> getAllAssociatedParts() {
         return associatedParts;
     }
+
+    /**
+     * set the listener told about association changes
+     * the inventory sets this while the product is in it
+     * @param associationListener the listener, or null
+     */
+    void setAssociationListener(AssociationListener associationListener) {
+        this.associationListener = associationListener;
+    }
+
+    /**
+     * method to add to the stock with compare and set, retrying while other threads change it
+     * @param delta the amount to add
+     * @return the stock before the change, or OUT_OF_RANGE if the stock would leave min to max
+     */
+    long addStock(int delta) {
+        while (true) {
+            int current = stock;
+            long next = (long) current + delta;
+            if (next < min || next > max) {
+                return OUT_OF_RANGE;
+            }
+            if (STOCK.compareAndSet(this, current, (int) next)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * method to add to the stock without checking min and max, for replaying adjustments
+     * that were recorded in a different order than they were made
+     * @param delta the amount to add
+     * @return the stock before the change
+     */
+    int addStockUnchecked(int delta) {
+        return (int) STOCK.getAndAdd(this, delta);
+    }
+
+    /**
+     * AssociatedParts class is one version of the associated parts of a product
+     * a version never changes, adding a part writes past the end of the shared array and publishes a longer version,
+     * so adds are constant time and readers holding an older version never see the new part.
+     * a removal copies the array
+     */
+    private static final class AssociatedParts extends AbstractList<Part> implements RandomAccess {
+        private static final AssociatedParts EMPTY = new AssociatedParts(new Part[0], 0);
+
+        private final Part[] parts;
+        private final int size;
+
+        private AssociatedParts(Part[] parts, int size) {
+            this.parts = parts;
+            this.size = size;
+        }
+
+        @Override
+        public Part get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+            }
+            return parts[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private AssociatedParts plus(Part part) {
+            Part[] grown = size < parts.length ? parts : Arrays.copyOf(parts, Math.max(4, size << 1));
+            grown[size] = part;
+            return new AssociatedParts(grown, size + 1);
+        }
+
+        private AssociatedParts plus(List<Part> added) {
+            if (added.isEmpty()) {
+                return this;
+            }
+            Part[] grown = size + added.size() <= parts.length ? parts
+                : Arrays.copyOf(parts, Math.max(size + added.size(), size << 1));
+            for (int i = 0; i < added.size(); i++) {
+                grown[size + i] = added.get(i);
+            }
+            return new AssociatedParts(grown, size + added.size());
+        }
+
+        private AssociatedParts minus(Part part) {
+            Part[] kept = new Part[size - 1];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (parts[i] != part) {
+                    kept[count++] = parts[i];
+                }
+            }
+            return new AssociatedParts(kept, count);
+        }
+    }
 }
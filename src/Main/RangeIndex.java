@@ -0,0 +1,567 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * RangeIndex class keeps the ids of parts or products sorted by one number, e.g. price or stock
+ * the entries are kept in order in blocks of at most BLOCK_SIZE, with a binary search over the blocks
+ * and then within a block. changing an id is O(log n) plus a shift inside one block, and a range or
+ * top-n query reads k entries after one O(log n) search, without a scan of the catalog.
+ * the value of every id is also kept in an IntLongMap, so an id can be moved without knowing its old value.
+ * Inventory keeps one for each NumericField of the parts and of the products
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class RangeIndex {
+    /* a full block is split in two, so blocks stay between a quarter and all of this */
+    private static final int BLOCK_SIZE = 512;
+    /* never a sorted key, the values are never NaN */
+    private static final long NO_KEY = Long.MIN_VALUE;
+
+    /* sortable keys and ids of each block, ordered by key then id */
+    private long[][] blockKeys = new long[4][];
+    private int[][] blockIds = new int[4][];
+    private int[] blockSizes = new int[4];
+    /* the last entry of each block, so finding a block does not touch the blocks it passes over */
+    private long[] lastKeys = new long[4];
+    private int[] lastIds = new int[4];
+    private int blockCount;
+    private int size;
+
+    /* id -> sortable key */
+    private final IntLongMap keys = new IntLongMap();
+
+    /**
+     * @return the number of ids in the index
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * get the value an id is indexed by
+     * @param id the id of the item
+     * @return the value
+     * @throws NoSuchElementException if the id is not in the index
+     */
+    public synchronized double valueOf(int id) {
+        long key = keys.get(id, NO_KEY);
+        if (key == NO_KEY) {
+            throw new NoSuchElementException("There is no item with id " + id);
+        }
+        return decode(key);
+    }
+
+    /**
+     * get the ids whose value is in a range
+     * @param from the lowest value, inclusive
+     * @param to the highest value, inclusive
+     * @param limit the most ids to return
+     * @return the ids, lowest value first, ties in id order
+     */
+    public synchronized int[] range(double from, double to, int limit) {
+        IntBuffer result = new IntBuffer(limit);
+        if (!(from <= to) || limit <= 0) {
+            return result.toArray();
+        }
+        long low = encode(from);
+        long high = encode(to);
+        int block = firstBlockAtOrAfter(low, Integer.MIN_VALUE);
+        int position = block < blockCount ? search(block, low, Integer.MIN_VALUE) : 0;
+        for (; block < blockCount; block++, position = 0) {
+            long[] blockKey = blockKeys[block];
+            int[] blockId = blockIds[block];
+            for (; position < blockSizes[block]; position++) {
+                if (blockKey[position] > high || result.size == limit) {
+                    return result.toArray();
+                }
+                result.add(blockId[position]);
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * get the ids with the lowest values
+     * @param n the most ids to return
+     * @return the ids, lowest value first, ties in id order
+     */
+    public synchronized int[] lowest(int n) {
+        return range(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, n);
+    }
+
+    /**
+     * get the ids with the highest values
+     * @param n the most ids to return
+     * @return the ids, highest value first, ties in reverse id order
+     */
+    public synchronized int[] highest(int n) {
+        IntBuffer result = new IntBuffer(n);
+        for (int block = blockCount - 1; block >= 0 && result.size < n; block--) {
+            for (int position = blockSizes[block] - 1; position >= 0 && result.size < n; position--) {
+                result.add(blockIds[block][position]);
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * get a run of ids in value order, e.g. a page of a table sorted by this field
+     * the block holding the first id is found by counting block sizes, so this is O(n / BLOCK_SIZE + count)
+     * @param from the position of the first id, 0 is the lowest value, or the highest when descending
+     * @param count the most ids to return
+     * @param descending true to read the order from the highest value back
+     * @return the ids, fewer than count at the end of the order
+     */
+    public synchronized int[] page(int from, int count, boolean descending) {
+        if (from < 0 || count < 0) {
+            throw new IndexOutOfBoundsException("Range " + from + " + " + count + " out of bounds for size " + size);
+        }
+        int[] result = new int[(int) Math.max(0, Math.min(count, (long) size - from))];
+        if (result.length == 0) {
+            return result;
+        }
+        int position = descending ? size - 1 - from : from;
+        int block = 0;
+        while (position >= blockSizes[block]) {
+            position -= blockSizes[block++];
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] = blockIds[block][position];
+            if (descending) {
+                if (--position < 0 && block > 0) {
+                    position = blockSizes[--block] - 1;
+                }
+            } else if (++position == blockSizes[block]) {
+                block++;
+                position = 0;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * keep the ids whose value is in a range, e.g. the ids found by a name search
+     * every candidate is looked up by id, so this is cheaper than range when the candidates are few
+     * @param candidates the ids to check, in any order
+     * @param from the lowest value, inclusive
+     * @param to the highest value, inclusive
+     * @return the candidates in the range, lowest value first, ties in id order
+     */
+    public synchronized int[] filter(int[] candidates, double from, double to) {
+        long[] matchKeys = new long[candidates.length];
+        int[] matchIds = new int[candidates.length];
+        int count = 0;
+        if (from <= to) {
+            long low = encode(from);
+            long high = encode(to);
+            for (int id : candidates) {
+                long key = keys.get(id, NO_KEY);
+                if (key != NO_KEY && key >= low && key <= high) {
+                    matchKeys[count] = key;
+                    matchIds[count++] = id;
+                }
+            }
+        }
+        sort(matchKeys, matchIds, count);
+        return Arrays.copyOf(matchIds, count);
+    }
+
+    /**
+     * add an id or change its value
+     * @param id the id of the item
+     * @param value the value, must not be NaN
+     */
+    synchronized void put(int id, double value) {
+        long key = encode(value);
+        long previous = keys.get(id, NO_KEY);
+        if (previous == key) {
+            return;
+        }
+        keys.put(id, key);
+        if (previous != NO_KEY) {
+            int block = firstBlockAtOrAfter(previous, id);
+            int position = search(block, previous, id);
+            if (move(block, position, key, id)) {
+                return;
+            }
+            deleteAt(block, position);
+        }
+        insert(key, id);
+    }
+
+    /**
+     * add or change many ids at once
+     * a large batch is sorted and merged with the index in one pass, instead of one insert per id
+     * @param ids the ids of the items, each only once
+     * @param values the value of each id, must not be NaN
+     */
+    synchronized void putAll(int[] ids, double[] values) {
+        long[] addedKeys = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            addedKeys[i] = encode(values[i]);
+        }
+        if (ids.length < size / 16) {
+            for (int i = 0; i < ids.length; i++) {
+                put(ids[i], values[i]);
+            }
+            return;
+        }
+        int[] addedIds = ids.clone();
+        for (int i = 0; i < ids.length; i++) {
+            long previous = keys.get(ids[i], NO_KEY);
+            if (previous != NO_KEY) {
+                delete(previous, ids[i]);
+            }
+            keys.put(ids[i], addedKeys[i]);
+        }
+        sort(addedKeys, addedIds, ids.length);
+        merge(addedKeys, addedIds);
+    }
+
+    /**
+     * remove an id
+     * @param id the id of the item
+     * @return true if the id was in the index
+     */
+    synchronized boolean remove(int id) {
+        long key = keys.get(id, NO_KEY);
+        if (key == NO_KEY) {
+            return false;
+        }
+        keys.remove(id);
+        delete(key, id);
+        return true;
+    }
+
+    /**
+     * method to turn a double into a long with the same order, so keys compare as longs
+     * @param value the value, -0.0 is the same as 0.0
+     * @return the sortable key
+     */
+    static long encode(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("A NaN value cannot be indexed");
+        }
+        long bits = Double.doubleToLongBits(value + 0.0);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * method to turn a sortable key back into its double
+     * @param key the key
+     * @return the value
+     */
+    static double decode(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    private void insert(long key, int id) {
+        int block;
+        if (blockCount == 0) {
+            addBlock(0, new long[BLOCK_SIZE], new int[BLOCK_SIZE], 0);
+            block = 0;
+        } else {
+            block = Math.min(firstBlockAtOrAfter(key, id), blockCount - 1);
+        }
+        int position = search(block, key, id);
+        int count = blockSizes[block];
+        System.arraycopy(blockKeys[block], position, blockKeys[block], position + 1, count - position);
+        System.arraycopy(blockIds[block], position, blockIds[block], position + 1, count - position);
+        blockKeys[block][position] = key;
+        blockIds[block][position] = id;
+        blockSizes[block]++;
+        size++;
+        updateLast(block);
+        if (blockSizes[block] == BLOCK_SIZE) {
+            split(block);
+        }
+    }
+
+    /**
+     * method to move an entry to its new key inside the block it is in, e.g. when a stock goes up or down by one.
+     * only the entries between the old and the new position are shifted
+     * @param block the block of the entry
+     * @param from the position of the entry
+     * @return false if the new key belongs in another block, nothing is moved then
+     */
+    private boolean move(int block, int from, long key, int id) {
+        long[] blockKey = blockKeys[block];
+        int[] blockId = blockIds[block];
+        if (block > 0 && compare(key, id, lastKeys[block - 1], lastIds[block - 1]) < 0) {
+            return false;
+        }
+        if (block < blockCount - 1 && compare(key, id, blockKeys[block + 1][0], blockIds[block + 1][0]) > 0) {
+            return false;
+        }
+        int to = search(block, key, id);
+        if (to > from) {
+            System.arraycopy(blockKey, from + 1, blockKey, from, to - 1 - from);
+            System.arraycopy(blockId, from + 1, blockId, from, to - 1 - from);
+            to--;
+        } else {
+            System.arraycopy(blockKey, to, blockKey, to + 1, from - to);
+            System.arraycopy(blockId, to, blockId, to + 1, from - to);
+        }
+        blockKey[to] = key;
+        blockId[to] = id;
+        updateLast(block);
+        return true;
+    }
+
+    private void delete(long key, int id) {
+        int block = firstBlockAtOrAfter(key, id);
+        deleteAt(block, search(block, key, id));
+    }
+
+    private void deleteAt(int block, int position) {
+        int count = blockSizes[block];
+        System.arraycopy(blockKeys[block], position + 1, blockKeys[block], position, count - position - 1);
+        System.arraycopy(blockIds[block], position + 1, blockIds[block], position, count - position - 1);
+        blockSizes[block]--;
+        size--;
+        if (blockSizes[block] == 0) {
+            removeBlock(block);
+            return;
+        }
+        updateLast(block);
+        if (blockSizes[block] < BLOCK_SIZE / 4) {
+            // join a small block with a neighbour so deletes do not leave many nearly empty blocks
+            int neighbour = block + 1 < blockCount ? block + 1 : block - 1;
+            if (neighbour >= 0 && blockSizes[block] + blockSizes[neighbour] < BLOCK_SIZE / 2) {
+                join(Math.min(block, neighbour));
+            }
+        }
+    }
+
+    /**
+     * method to merge sorted entries that are not in the index with every entry of the index
+     * @param addedKeys the keys, sorted with the ids
+     * @param addedIds the ids
+     */
+    private void merge(long[] addedKeys, int[] addedIds) {
+        long[][] oldKeys = blockKeys;
+        int[][] oldIds = blockIds;
+        int[] oldSizes = blockSizes;
+        int oldCount = blockCount;
+        blockKeys = new long[4][];
+        blockIds = new int[4][];
+        blockSizes = new int[4];
+        lastKeys = new long[4];
+        lastIds = new int[4];
+        blockCount = 0;
+        int total = size + addedKeys.length;
+        // fill the new blocks three quarters full, so the next inserts do not split at once
+        int fill = BLOCK_SIZE * 3 / 4;
+        long[] keysOut = null;
+        int[] idsOut = null;
+        int out = fill;
+        int block = 0;
+        int position = 0;
+        int added = 0;
+        for (int i = 0; i < total; i++) {
+            while (block < oldCount && position == oldSizes[block]) {
+                block++;
+                position = 0;
+            }
+            long key;
+            int id;
+            if (block < oldCount && (added == addedKeys.length
+                || compare(oldKeys[block][position], oldIds[block][position], addedKeys[added], addedIds[added]) < 0)) {
+                key = oldKeys[block][position];
+                id = oldIds[block][position++];
+            } else {
+                key = addedKeys[added];
+                id = addedIds[added++];
+            }
+            if (out == fill) {
+                if (keysOut != null) {
+                    addBlock(blockCount, keysOut, idsOut, out);
+                }
+                keysOut = new long[BLOCK_SIZE];
+                idsOut = new int[BLOCK_SIZE];
+                out = 0;
+            }
+            keysOut[out] = key;
+            idsOut[out++] = id;
+        }
+        if (keysOut != null) {
+            addBlock(blockCount, keysOut, idsOut, out);
+        }
+        size = total;
+    }
+
+    private void split(int block) {
+        int half = blockSizes[block] / 2;
+        long[] keysRight = new long[BLOCK_SIZE];
+        int[] idsRight = new int[BLOCK_SIZE];
+        System.arraycopy(blockKeys[block], half, keysRight, 0, blockSizes[block] - half);
+        System.arraycopy(blockIds[block], half, idsRight, 0, blockSizes[block] - half);
+        addBlock(block + 1, keysRight, idsRight, blockSizes[block] - half);
+        blockSizes[block] = half;
+        updateLast(block);
+    }
+
+    private void join(int block) {
+        int count = blockSizes[block];
+        int next = blockSizes[block + 1];
+        System.arraycopy(blockKeys[block + 1], 0, blockKeys[block], count, next);
+        System.arraycopy(blockIds[block + 1], 0, blockIds[block], count, next);
+        blockSizes[block] = count + next;
+        removeBlock(block + 1);
+        updateLast(block);
+    }
+
+    private void addBlock(int block, long[] keysIn, int[] idsIn, int count) {
+        if (blockCount == blockKeys.length) {
+            int capacity = blockCount << 1;
+            blockKeys = Arrays.copyOf(blockKeys, capacity);
+            blockIds = Arrays.copyOf(blockIds, capacity);
+            blockSizes = Arrays.copyOf(blockSizes, capacity);
+            lastKeys = Arrays.copyOf(lastKeys, capacity);
+            lastIds = Arrays.copyOf(lastIds, capacity);
+        }
+        System.arraycopy(blockKeys, block, blockKeys, block + 1, blockCount - block);
+        System.arraycopy(blockIds, block, blockIds, block + 1, blockCount - block);
+        System.arraycopy(blockSizes, block, blockSizes, block + 1, blockCount - block);
+        System.arraycopy(lastKeys, block, lastKeys, block + 1, blockCount - block);
+        System.arraycopy(lastIds, block, lastIds, block + 1, blockCount - block);
+        blockKeys[block] = keysIn;
+        blockIds[block] = idsIn;
+        blockSizes[block] = count;
+        blockCount++;
+        if (count > 0) {
+            updateLast(block);
+        }
+    }
+
+    private void removeBlock(int block) {
+        blockCount--;
+        System.arraycopy(blockKeys, block + 1, blockKeys, block, blockCount - block);
+        System.arraycopy(blockIds, block + 1, blockIds, block, blockCount - block);
+        System.arraycopy(blockSizes, block + 1, blockSizes, block, blockCount - block);
+        System.arraycopy(lastKeys, block + 1, lastKeys, block, blockCount - block);
+        System.arraycopy(lastIds, block + 1, lastIds, block, blockCount - block);
+        blockKeys[blockCount] = null;
+        blockIds[blockCount] = null;
+    }
+
+    private void updateLast(int block) {
+        lastKeys[block] = blockKeys[block][blockSizes[block] - 1];
+        lastIds[block] = blockIds[block][blockSizes[block] - 1];
+    }
+
+    /**
+     * method to find the first block whose last entry is not before an entry
+     * @return the block, or blockCount when every entry is before it
+     */
+    private int firstBlockAtOrAfter(long key, int id) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(lastKeys[middle], lastIds[middle], key, id) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * method to find the first position in a block that is not before an entry
+     * @return the position, the block size when every entry is before it
+     */
+    private int search(int block, long key, int id) {
+        long[] blockKey = blockKeys[block];
+        int[] blockId = blockIds[block];
+        // the keys are searched first and the ids only among equal keys, most probes then touch one array
+        int low = 0;
+        int high = blockSizes[block];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (blockKey[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        high = blockSizes[block];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (blockKey[middle] == key && blockId[middle] < id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(long keyA, int idA, long keyB, int idB) {
+        int byKey = Long.compare(keyA, keyB);
+        return byKey != 0 ? byKey : Integer.compare(idA, idB);
+    }
+
+    /**
+     * method to sort keys and ids together by key then id, a merge sort so a sorted batch stays O(n)
+     */
+    private static void sort(long[] sortKeys, int[] sortIds, int count) {
+        if (count < 2) {
+            return;
+        }
+        long[] keysTemp = new long[count];
+        int[] idsTemp = new int[count];
+        for (int width = 1; width < count; width <<= 1) {
+            for (int left = 0; left < count; left += width << 1) {
+                int middle = Math.min(left + width, count);
+                int right = Math.min(left + (width << 1), count);
+                if (middle == right
+                    || compare(sortKeys[middle - 1], sortIds[middle - 1], sortKeys[middle], sortIds[middle]) <= 0) {
+                    System.arraycopy(sortKeys, left, keysTemp, left, right - left);
+                    System.arraycopy(sortIds, left, idsTemp, left, right - left);
+                    continue;
+                }
+                int a = left;
+                int b = middle;
+                for (int out = left; out < right; out++) {
+                    if (b == right || a < middle && compare(sortKeys[a], sortIds[a], sortKeys[b], sortIds[b]) <= 0) {
+                        keysTemp[out] = sortKeys[a];
+                        idsTemp[out] = sortIds[a++];
+                    } else {
+                        keysTemp[out] = sortKeys[b];
+                        idsTemp[out] = sortIds[b++];
+                    }
+                }
+            }
+            System.arraycopy(keysTemp, 0, sortKeys, 0, count);
+            System.arraycopy(idsTemp, 0, sortIds, 0, count);
+        }
+    }
+
+    /**
+     * IntBuffer class collects ids for a query result without knowing how many there are
+     */
+    private static class IntBuffer {
+        private int[] values;
+        private int size;
+
+        IntBuffer(int limit) {
+            values = new int[Math.max(0, Math.min(limit, 64))];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, size << 1));
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+}
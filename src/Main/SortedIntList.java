@@ -0,0 +1,164 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * SortedIntList class is a growable array of distinct ints kept in ascending order
+ * it is used for posting lists where ids mostly arrive in increasing order,
+ * so adding the newest id is an append
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class SortedIntList {
+    private int[] values;
+    private int size;
+
+    public SortedIntList() {
+        this.values = new int[4];
+    }
+
+    /**
+     * add a value if it is not already present
+     * a value above the last one is appended, a lower value shifts every value after it,
+     * which is fine while ids are handed out in increasing order and only restored or imported ids come in low
+     * @param value the value to add
+     * @return true if the value was added
+     */
+    public boolean add(int value) {
+        int position;
+        if (size == 0 || values[size - 1] < value) {
+            position = size;
+        } else {
+            position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return false;
+            }
+            position = -position - 1;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        System.arraycopy(values, position, values, position + 1, size - position);
+        values[position] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * remove a value
+     * @param value the value to remove
+     * @return true if the value was present
+     */
+    public boolean remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * remove many values in one pass, cheaper than removing them one at a time
+     * @param removed the values to remove, in any order
+     * @return the number of values that were present
+     */
+    public int removeAll(int[] removed) {
+        int[] sorted = removed.clone();
+        Arrays.sort(sorted);
+        int write = 0;
+        int next = 0;
+        for (int read = 0; read < size; read++) {
+            int value = values[read];
+            while (next < sorted.length && sorted[next] < value) {
+                next++;
+            }
+            if (next < sorted.length && sorted[next] == value) {
+                continue;
+            }
+            values[write++] = value;
+        }
+        int count = size - write;
+        size = write;
+        return count;
+    }
+
+    /**
+     * @param value the value to look for
+     * @return true if the value is present
+     */
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    /**
+     * find the first value that is not below a value, galloping forward from a position
+     * the step doubles until it passes the value and the last step is binary searched,
+     * so a walk over ascending values costs the log of the distance moved each time, not of the whole list
+     * @param value the value to look for
+     * @param from the position to start at, the values before it are taken to be lower
+     * @return the position of the first value at or above value, size when there is none
+     */
+    public int seek(int value, int from) {
+        if (from >= size || values[from] >= value) {
+            return from;
+        }
+        // values[low] < value holds throughout
+        int low = from;
+        int step = 1;
+        while (low + step < size && values[low + step] < value) {
+            low += step;
+            step <<= 1;
+        }
+        int position = Arrays.binarySearch(values, low + 1, Math.min(size, low + step + 1), value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * @param index the position to read
+     * @return the value at the position
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if there are no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * copy a run of values
+     * @param from the position of the first value
+     * @param count the most values to copy
+     * @return the values, fewer than count at the end of the list
+     */
+    public int[] range(int from, int count) {
+        if (from < 0 || count < 0) {
+            throw new IndexOutOfBoundsException("Range " + from + " + " + count + " out of bounds for size " + size);
+        }
+        int to = (int) Math.min(size, (long) from + count);
+        return from >= to ? new int[0] : Arrays.copyOfRange(values, from, to);
+    }
+
+    /**
+     * @return a copy of the values in ascending order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
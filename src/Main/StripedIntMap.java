@@ -0,0 +1,120 @@
+package Main;
+
+import java.util.function.Consumer;
+
+/**
+ * StripedIntMap class is an IntMap split into stripes that are locked separately
+ * a key always lives in the same stripe, so threads working on different ids rarely wait for each other.
+ * callers that need several steps on one key to be atomic can hold lockFor(key) around them,
+ * the map's own methods take the same lock
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ * @param <V> the type of the mapped values
+ */
+public class StripedIntMap<V> {
+    private static final int STRIPES = 64;
+
+    private final IntMap<V>[] stripes;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StripedIntMap() {
+        stripes = new IntMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new IntMap<>();
+        }
+    }
+
+    /**
+     * get the lock guarding a key
+     * @param key the key
+     * @return the object to synchronize on
+     */
+    public Object lockFor(int key) {
+        return stripe(key);
+    }
+
+    /**
+     * get the value mapped to a key
+     * @param key the key to look for
+     * @return the value or null when the key is not mapped
+     */
+    public V get(int key) {
+        IntMap<V> stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    /**
+     * check if a key is mapped
+     * @param key the key to look for
+     * @return true if the key is mapped
+     */
+    public boolean containsKey(int key) {
+        IntMap<V> stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.containsKey(key);
+        }
+    }
+
+    /**
+     * map a key to a value, replacing any existing mapping
+     * @param key the key
+     * @param value the value, must not be null
+     * @return the previous value or null
+     */
+    public V put(int key, V value) {
+        IntMap<V> stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.put(key, value);
+        }
+    }
+
+    /**
+     * remove the mapping for a key
+     * @param key the key to remove
+     * @return the removed value or null when the key was not mapped
+     */
+    public V remove(int key) {
+        IntMap<V> stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    /**
+     * @return the number of mapped keys, only exact while nothing is changing the map
+     */
+    public int size() {
+        int size = 0;
+        for (IntMap<V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * run an action for every mapped value, one stripe at a time, in no particular order
+     * @param action the action to run
+     */
+    public void forEachValue(Consumer<? super V> action) {
+        for (IntMap<V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.forEachValue(action);
+            }
+        }
+    }
+
+    /**
+     * method to find the stripe of a key
+     * @param key the key
+     * @return the stripe
+     */
+    private IntMap<V> stripe(int key) {
+        int h = key * 0x9E3779B9;
+        return stripes[(h >>> 26) & (STRIPES - 1)];
+    }
+}
@@ -0,0 +1,107 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SymbolTable class dictionary encodes strings as small int codes
+ * every distinct string is stored once, columns hold its code instead of a reference,
+ * and two values are equal exactly when their codes are equal.
+ * the table counts the references to every string, intern adds one and release drops one.
+ * a string whose last reference is released is dropped and its code is handed out again,
+ * so a table kept by a long running inventory only holds the strings that are still used
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class SymbolTable {
+    /* code returned for strings that are not in the table, and the code of null */
+    public static final int NO_SYMBOL = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    /* code -> string, null for a free code */
+    private String[] symbols = new String[16];
+    /* code -> number of references to the string */
+    private int[] references = new int[16];
+    /* codes released by their last reference, handed out before new ones */
+    private int[] freeCodes = new int[16];
+    private int freeCount;
+    /* codes handed out so far, free or not */
+    private int used;
+
+    /**
+     * get the code of a string, adding it to the table the first time it is seen
+     * every call is a reference to the string, drop it with release
+     * @param symbol the string to encode
+     * @return the code of the string, NO_SYMBOL for null
+     */
+    public synchronized int intern(String symbol) {
+        if (symbol == null) {
+            return NO_SYMBOL;
+        }
+        Integer code = codes.get(symbol);
+        if (code == null) {
+            code = freeCount > 0 ? freeCodes[--freeCount] : newCode();
+            symbols[code] = symbol;
+            codes.put(symbol, code);
+        }
+        references[code]++;
+        return code;
+    }
+
+    /**
+     * drop a reference taken by intern, the string is dropped with its last reference
+     * @param code the code returned by intern, NO_SYMBOL is ignored
+     */
+    public synchronized void release(int code) {
+        if (code == NO_SYMBOL) {
+            return;
+        }
+        if (code < 0 || code >= used || references[code] == 0) {
+            throw new IllegalArgumentException("Code " + code + " is not in use");
+        }
+        if (--references[code] == 0) {
+            codes.remove(symbols[code]);
+            symbols[code] = null;
+            if (freeCount == freeCodes.length) {
+                freeCodes = Arrays.copyOf(freeCodes, freeCount << 1);
+            }
+            freeCodes[freeCount++] = code;
+        }
+    }
+
+    /**
+     * get the code of a string without adding it
+     * @param symbol the string to look for
+     * @return the code or NO_SYMBOL when the string is not in the table
+     */
+    public synchronized int codeOf(String symbol) {
+        Integer code = symbol == null ? null : codes.get(symbol);
+        return code == null ? NO_SYMBOL : code;
+    }
+
+    /**
+     * decode a code
+     * @param code a code returned by intern and not released since
+     * @return the string for the code, null for NO_SYMBOL
+     */
+    public synchronized String symbol(int code) {
+        return code == NO_SYMBOL ? null : symbols[code];
+    }
+
+    /**
+     * @return the number of distinct strings in the table
+     */
+    public synchronized int size() {
+        return codes.size();
+    }
+
+    private int newCode() {
+        if (used == symbols.length) {
+            symbols = Arrays.copyOf(symbols, used << 1);
+            references = Arrays.copyOf(references, used << 1);
+        }
+        return used++;
+    }
+}
@@ -0,0 +1,104 @@
+package Main;
+
+/**
+ * Validation class holds the rules a part or product has to pass before it is saved
+ * they are the rules of the part and product forms, shared with anything else that creates parts and products
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class Validation {
+    private Validation() {
+    }
+
+    /**
+     * check a part against the part form rules
+     * @param inHouse true for an InHouse part
+     * @param outsourced true for an Outsourced part
+     * @param name the part name
+     * @param stock the inventory level
+     * @param price the price/cost
+     * @param min the min
+     * @param max the max
+     * @param machineId the machine id of an InHouse part, otherwise null
+     * @param companyName the company name of an Outsourced part, otherwise null
+     * @return the first problem found, or null when the part is valid
+     */
+    public static String partError(boolean inHouse, boolean outsourced, String name, int stock, double price,
+                                   int min, int max, Integer machineId, String companyName) {
+        boolean partSourceValid = inHouse || outsourced;
+        boolean partMachineOrCompanyNameValid =
+            (inHouse && machineId != null && machineId > 999)
+            ||
+            (outsourced && companyName != null && companyName.length() > 0);
+
+        if (!partSourceValid) {
+            return "Please select a part source (InHouse or Outsourced)";
+        }
+        String error = partError(name, stock, price, min, max);
+        if (error != null) {
+            return error;
+        } else if (!partMachineOrCompanyNameValid) {
+            return "Please provide a valid " + (outsourced ? "company name" : "machine id");
+        }
+        return null;
+    }
+
+    /**
+     * check a part without a source, like the parts the inventory starts with, against the part form rules
+     * @param name the part name
+     * @param stock the inventory level
+     * @param price the price/cost
+     * @param min the min
+     * @param max the max
+     * @return the first problem found, or null when the part is valid
+     */
+    public static String partError(String name, int stock, double price, int min, int max) {
+        boolean partNameValid = name.length() > 0;
+        boolean partCostValid = price >= 0;
+        boolean partMaxValid = max >= 1;
+        boolean partMinValid = min >= 0;
+        boolean partMinMaxValid = partMaxValid && partMinValid && max >= min;
+        boolean partInventoryValid = stock <= max && stock >= min;
+
+        if (!partNameValid) {
+            return "Please provide a valid part name";
+        } else if (!partInventoryValid) {
+            return "Please provide a valid inventory level. It must be between the min and max";
+        } else if (!partCostValid) {
+            return "Please provide a valid part cost";
+        } else if (!partMinMaxValid) {
+            return "Please provide a valid min/max value.";
+        }
+        return null;
+    }
+
+    /**
+     * check a product against the product form rules
+     * @param name the product name
+     * @param stock the inventory level
+     * @param price the price/cost
+     * @param min the min
+     * @param max the max
+     * @return the first problem found, or null when the product is valid
+     */
+    public static String productError(String name, int stock, double price, int min, int max) {
+        boolean productNameValid = name.length() > 0;
+        boolean productCostValid = price >= 0;
+        boolean productMaxValid = max >= 0;
+        boolean productMinValid = min >= 0;
+        boolean productMinMaxValid = productMaxValid && productMinValid && max >= min;
+        boolean productInventoryValid = stock <= max && stock >= min;
+
+        if (!productNameValid) {
+            return "Please provide a valid product name";
+        } else if (!productInventoryValid) {
+            return "Please provide a valid product inventory. It must be between min and max";
+        } else if (!productCostValid) {
+            return "Pleae provide a valid cost";
+        } else if (!productMinMaxValid) {
+            return "Please provide valid min/max values";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package Main;
+
+/**
+ * WhereUsedIndex class is the reverse of the product to part associations
+ * it maps a part id to the ids of the products that use the part
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class WhereUsedIndex {
+    private static final int[] NO_IDS = new int[0];
+
+    /* part id -> ids of the products using it */
+    private final IntMap<SortedIntList> productsByPart = new IntMap<>();
+
+    /**
+     * record that a product uses a part
+     * @param partId the part id
+     * @param productId the product id
+     */
+    public void add(int partId, int productId) {
+        SortedIntList productIds = productsByPart.get(partId);
+        if (productIds == null) {
+            productIds = new SortedIntList();
+            productsByPart.put(partId, productIds);
+        }
+        productIds.add(productId);
+    }
+
+    /**
+     * record that a product no longer uses a part
+     * @param partId the part id
+     * @param productId the product id
+     */
+    public void remove(int partId, int productId) {
+        SortedIntList productIds = productsByPart.get(partId);
+        if (productIds != null && productIds.remove(productId) && productIds.isEmpty()) {
+            productsByPart.remove(partId);
+        }
+    }
+
+    /**
+     * @param partId the part id
+     * @return ids of the products using the part, in ascending order
+     */
+    public int[] productsUsing(int partId) {
+        SortedIntList productIds = productsByPart.get(partId);
+        return productIds == null ? NO_IDS : productIds.toArray();
+    }
+
+    /**
+     * @param partId the part id
+     * @param productId the product id
+     * @return true if the product uses the part
+     */
+    public boolean isUsedBy(int partId, int productId) {
+        SortedIntList productIds = productsByPart.get(partId);
+        return productIds != null && productIds.contains(productId);
+    }
+
+    /**
+     * @param partId the part id
+     * @return true if any product uses the part
+     */
+    public boolean isUsed(int partId) {
+        return productsByPart.containsKey(partId);
+    }
+}
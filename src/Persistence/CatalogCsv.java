@@ -0,0 +1,482 @@
+package Persistence;
+
+import Main.InHouse;
+import Main.IntIntMap;
+import Main.Inventory;
+import Main.Outsourced;
+import Main.Part;
+import Main.Product;
+import Main.Validation;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * CatalogCsv class streams parts and products between the inventory and CSV files
+ * imports are read in chunks of CHUNK_SIZE rows into reused row buffers, each chunk is validated in parallel
+ * with the rules of the part and product forms and then added to the inventory as one bulk change,
+ * so only one chunk is ever held in memory next to the inventory itself.
+ *
+ * parts: type,id,name,price,stock,min,max,machineId,companyName where type is InHouse, Outsourced or Part,
+ * a Part has neither a machine id nor a company name.
+ * products: id,name,price,stock,min,max,partIds where partIds are separated by semicolons.
+ * an empty id gets a new id from the inventory, rows whose id is already used are rejected
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class CatalogCsv {
+    /* rows validated and added together */
+    public static final int CHUNK_SIZE = 10_000;
+
+    /* problems kept in a report, the rest are only counted */
+    private static final int MAX_ERRORS = 100;
+
+    private static final String IN_HOUSE = "InHouse";
+    private static final String OUTSOURCED = "Outsourced";
+    private static final String PART = "Part";
+
+    private CatalogCsv() {
+    }
+
+    /**
+     * write every part to a CSV file
+     * @param inventory the inventory
+     * @param path the file to write
+     * @return the number of rows written and how fast
+     * @throws IOException if the file cannot be written
+     */
+    public static Report exportParts(Inventory inventory, Path path) throws IOException {
+        try (Writer out = new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8)) {
+            return exportParts(inventory, out);
+        }
+    }
+
+    /**
+     * write every part as CSV
+     * @param inventory the inventory
+     * @param out where to write, flushed but not closed
+     * @return the number of rows written and how fast
+     * @throws IOException if the write fails
+     */
+    public static Report exportParts(Inventory inventory, Writer out) throws IOException {
+        Report report = new Report();
+        CsvWriter csv = new CsvWriter(out);
+        csv.field("type").field("id").field("name").field("price").field("stock").field("min").field("max")
+            .field("machineId").field("companyName").endRecord();
+        for (Part part : inventory.copyParts()) {
+            csv.field(part instanceof InHouse ? IN_HOUSE : part instanceof Outsourced ? OUTSOURCED : PART)
+                .field(part.getId())
+                .field(part.getName())
+                .field(part.getPrice())
+                .field(part.getStock())
+                .field(part.getMin())
+                .field(part.getMax());
+            if (part instanceof InHouse) {
+                csv.field(((InHouse) part).getMachineId()).empty();
+            } else if (part instanceof Outsourced) {
+                csv.empty().field(((Outsourced) part).getCompanyName());
+            } else {
+                csv.empty().empty();
+            }
+            csv.endRecord();
+            report.accepted();
+        }
+        csv.flush();
+        return report.finish();
+    }
+
+    /**
+     * write every product and its associated part ids to a CSV file
+     * @param inventory the inventory
+     * @param path the file to write
+     * @return the number of rows written and how fast
+     * @throws IOException if the file cannot be written
+     */
+    public static Report exportProducts(Inventory inventory, Path path) throws IOException {
+        try (Writer out = new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8)) {
+            return exportProducts(inventory, out);
+        }
+    }
+
+    /**
+     * write every product and its associated part ids as CSV
+     * @param inventory the inventory
+     * @param out where to write, flushed but not closed
+     * @return the number of rows written and how fast
+     * @throws IOException if the write fails
+     */
+    public static Report exportProducts(Inventory inventory, Writer out) throws IOException {
+        Report report = new Report();
+        CsvWriter csv = new CsvWriter(out);
+        csv.field("id").field("name").field("price").field("stock").field("min").field("max").field("partIds")
+            .endRecord();
+        for (Product product : inventory.copyProducts()) {
+            csv.field(product.getId())
+                .field(product.getName())
+                .field(product.getPrice())
+                .field(product.getStock())
+                .field(product.getMin())
+                .field(product.getMax())
+                .field(RecordCodec.associatedPartIds(product))
+                .endRecord();
+            report.accepted();
+        }
+        csv.flush();
+        return report.finish();
+    }
+
+    /**
+     * add the parts in a CSV file to the inventory
+     * @param inventory the inventory
+     * @param path the file to read
+     * @return how many rows were imported and rejected, and how fast
+     * @throws IOException if the file cannot be read
+     */
+    public static Report importParts(Inventory inventory, Path path) throws IOException {
+        try (Reader in = new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8)) {
+            return importParts(inventory, in);
+        }
+    }
+
+    /**
+     * add the parts in CSV text to the inventory
+     * @param inventory the inventory
+     * @param in where to read, not closed
+     * @return how many rows were imported and rejected, and how fast
+     * @throws IOException if the read fails
+     */
+    public static Report importParts(Inventory inventory, Reader in) throws IOException {
+        Report report = new Report();
+        CsvReader csv = new CsvReader(in);
+        PartRow[] rows = new PartRow[CHUNK_SIZE];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new PartRow();
+        }
+        int count = 0;
+        while (csv.next()) {
+            if (isBlank(csv) || (csv.recordNumber() == 1 && csv.fieldEquals(0, "type"))) {
+                continue;
+            }
+            rows[count++].read(csv);
+            if (count == rows.length) {
+                importParts(inventory, rows, count, report);
+                count = 0;
+            }
+        }
+        importParts(inventory, rows, count, report);
+        return report.finish();
+    }
+
+    /**
+     * add the products in a CSV file to the inventory
+     * the parts they use must already be in the inventory
+     * @param inventory the inventory
+     * @param path the file to read
+     * @return how many rows were imported and rejected, and how fast
+     * @throws IOException if the file cannot be read
+     */
+    public static Report importProducts(Inventory inventory, Path path) throws IOException {
+        try (Reader in = new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8)) {
+            return importProducts(inventory, in);
+        }
+    }
+
+    /**
+     * add the products in CSV text to the inventory
+     * the parts they use must already be in the inventory
+     * @param inventory the inventory
+     * @param in where to read, not closed
+     * @return how many rows were imported and rejected, and how fast
+     * @throws IOException if the read fails
+     */
+    public static Report importProducts(Inventory inventory, Reader in) throws IOException {
+        Report report = new Report();
+        CsvReader csv = new CsvReader(in);
+        ProductRow[] rows = new ProductRow[CHUNK_SIZE];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new ProductRow();
+        }
+        int count = 0;
+        while (csv.next()) {
+            if (isBlank(csv) || (csv.recordNumber() == 1 && csv.fieldEquals(0, "id"))) {
+                continue;
+            }
+            rows[count++].read(csv);
+            if (count == rows.length) {
+                importProducts(inventory, rows, count, report);
+                count = 0;
+            }
+        }
+        importProducts(inventory, rows, count, report);
+        return report.finish();
+    }
+
+    /**
+     * method to validate a chunk of part rows in parallel and add the valid ones
+     * @param inventory the inventory
+     * @param rows the row buffers
+     * @param count the number of rows filled
+     * @param report where to count the rows
+     */
+    private static void importParts(Inventory inventory, PartRow[] rows, int count, Report report) {
+        IntStream.range(0, count).parallel().forEach(i -> rows[i].validate(inventory));
+        int nextId = inventory.reservePartIds(countMissingIds(rows, count));
+        IntIntMap seen = new IntIntMap(count);
+        List<Part> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PartRow row = rows[i];
+            if (row.error == null) {
+                if (!row.hasId) {
+                    row.id = nextId++;
+                } else if (seen.put(row.id, i) != IntIntMap.MISSING) {
+                    row.error = "A part with id " + row.id + " already exists";
+                }
+            }
+            if (row.error != null) {
+                report.rejected(row.record, row.error);
+            } else {
+                parts.add(row.toPart());
+                report.accepted();
+            }
+        }
+        inventory.addParts(parts);
+    }
+
+    /**
+     * method to validate a chunk of product rows in parallel and add the valid ones
+     * @param inventory the inventory
+     * @param rows the row buffers
+     * @param count the number of rows filled
+     * @param report where to count the rows
+     */
+    private static void importProducts(Inventory inventory, ProductRow[] rows, int count, Report report) {
+        IntStream.range(0, count).parallel().forEach(i -> rows[i].validate(inventory));
+        int nextId = inventory.reserveProductIds(countMissingIds(rows, count));
+        IntIntMap seen = new IntIntMap(count);
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ProductRow row = rows[i];
+            if (row.error == null) {
+                if (!row.hasId) {
+                    row.id = nextId++;
+                } else if (seen.put(row.id, i) != IntIntMap.MISSING) {
+                    row.error = "A product with id " + row.id + " already exists";
+                }
+            }
+            if (row.error != null) {
+                report.rejected(row.record, row.error);
+            } else {
+                products.add(row.toProduct());
+                report.accepted();
+            }
+        }
+        inventory.addProducts(products);
+    }
+
+    private static int countMissingIds(Row[] rows, int count) {
+        int missing = 0;
+        for (int i = 0; i < count; i++) {
+            if (rows[i].error == null && !rows[i].hasId) {
+                missing++;
+            }
+        }
+        return missing;
+    }
+
+    private static boolean isBlank(CsvReader csv) {
+        return csv.fieldCount() == 1 && csv.isEmpty(0);
+    }
+
+    /**
+     * the fields every row buffer has, reused from chunk to chunk
+     */
+    private abstract static class Row {
+        long record;
+        boolean hasId;
+        int id;
+        String name;
+        double price;
+        int stock;
+        int min;
+        int max;
+        String error;
+    }
+
+    /**
+     * a part row, parsed on the reading thread and validated on any thread
+     */
+    private static final class PartRow extends Row {
+        boolean inHouse;
+        boolean outsourced;
+        boolean plain;
+        Integer machineId;
+        String companyName;
+
+        void read(CsvReader csv) {
+            record = csv.recordNumber();
+            error = null;
+            try {
+                inHouse = csv.fieldEquals(0, IN_HOUSE);
+                outsourced = csv.fieldEquals(0, OUTSOURCED);
+                plain = csv.fieldEquals(0, PART);
+                hasId = !csv.isEmpty(1);
+                id = hasId ? csv.intField(1) : 0;
+                name = csv.field(2);
+                price = csv.doubleField(3);
+                stock = csv.intField(4);
+                min = csv.intField(5);
+                max = csv.intField(6);
+                machineId = inHouse ? csv.intField(7) : null;
+                companyName = outsourced ? csv.field(8) : null;
+            } catch (NumberFormatException e) {
+                error = e.getMessage();
+            }
+        }
+
+        void validate(Inventory inventory) {
+            if (error == null) {
+                error = plain ? Validation.partError(name, stock, price, min, max)
+                    : Validation.partError(inHouse, outsourced, name, stock, price, min, max, machineId, companyName);
+            }
+            if (error == null && hasId && inventory.lookupPart(id) != null) {
+                error = "A part with id " + id + " already exists";
+            }
+        }
+
+        Part toPart() {
+            if (inHouse) {
+                return new InHouse(id, name, price, stock, min, max, machineId);
+            } else if (plain) {
+                return new Part(id, name, price, stock, min, max);
+            }
+            return new Outsourced(id, name, price, stock, min, max, companyName);
+        }
+    }
+
+    /**
+     * a product row, parsed on the reading thread and validated on any thread
+     */
+    private static final class ProductRow extends Row {
+        int[] partIds;
+        List<Part> parts = new ArrayList<>();
+
+        void read(CsvReader csv) {
+            record = csv.recordNumber();
+            error = null;
+            try {
+                hasId = !csv.isEmpty(0);
+                id = hasId ? csv.intField(0) : 0;
+                name = csv.field(1);
+                price = csv.doubleField(2);
+                stock = csv.intField(3);
+                min = csv.intField(4);
+                max = csv.intField(5);
+                partIds = csv.intsField(6);
+            } catch (NumberFormatException e) {
+                error = e.getMessage();
+            }
+        }
+
+        void validate(Inventory inventory) {
+            if (error == null) {
+                error = Validation.productError(name, stock, price, min, max);
+            }
+            if (error == null && hasId && inventory.lookupProduct(id) != null) {
+                error = "A product with id " + id + " already exists";
+            }
+            parts.clear();
+            for (int i = 0; error == null && i < partIds.length; i++) {
+                Part part = inventory.lookupPart(partIds[i]);
+                if (part == null) {
+                    error = "There is no part with id " + partIds[i];
+                } else {
+                    parts.add(part);
+                }
+            }
+        }
+
+        Product toProduct() {
+            Product product = new Product(id, name, price, stock, min, max);
+            product.addAssociatedParts(parts);
+            return product;
+        }
+    }
+
+    /**
+     * what an import or export did: rows accepted and rejected, the first problems found, and the throughput
+     */
+    public static final class Report {
+        private final long started = System.nanoTime();
+        private long elapsedNanos;
+        private long accepted;
+        private long rejected;
+        private final List<String> errors = new ArrayList<>();
+
+        private void accepted() {
+            accepted++;
+        }
+
+        private void rejected(long record, String error) {
+            rejected++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add("Record " + record + ": " + error);
+            }
+        }
+
+        private Report finish() {
+            elapsedNanos = System.nanoTime() - started;
+            return this;
+        }
+
+        /**
+         * @return rows imported or written
+         */
+        public long getAccepted() {
+            return accepted;
+        }
+
+        /**
+         * @return rows that failed validation
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * @return the first problems found, with their record numbers
+         */
+        public List<String> getErrors() {
+            return Collections.unmodifiableList(errors);
+        }
+
+        /**
+         * @return how long the import or export took in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * @return rows read or written per second
+         */
+        public double rowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : (accepted + rejected) * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d rows accepted, %d rejected, %.0f rows/s", accepted, rejected, rowsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package Persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * CsvReader class reads comma separated records one at a time into reusable buffers
+ * the characters of the current record are kept in one growing char array with the start and end of each field,
+ * so reading a record allocates nothing and numbers are parsed straight from the buffer.
+ * fields may be quoted with double quotes, a doubled quote inside a quoted field is a literal quote
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    /* the current record, fields are data[starts[i], ends[i]) */
+    private char[] data = new char[256];
+    private CharBuffer view = CharBuffer.wrap(data);
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int fieldCount;
+    private int length;
+    private long recordNumber;
+
+    /**
+     * CsvReader constructor
+     * @param in where to read, the reader does its own buffering
+     */
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * read the next record
+     * @return false at the end of the input
+     * @throws IOException if the read fails
+     */
+    public boolean next() throws IOException {
+        fieldCount = 0;
+        length = 0;
+        int c = read();
+        if (c < 0) {
+            return false;
+        }
+        recordNumber++;
+        boolean quoted = false;
+        int fieldStart = 0;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException("Unterminated quote in record " + recordNumber);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                endField(fieldStart);
+                fieldStart = length;
+            } else if (c == '\n' || c < 0) {
+                break;
+            } else if (c != '\r') {
+                append((char) c);
+            }
+            c = read();
+        }
+        endField(fieldStart);
+        return true;
+    }
+
+    /**
+     * @return the number of fields in the current record
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * @return the number of the current record, counting from 1
+     */
+    public long recordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * @param field the field index
+     * @return true if the field is missing or empty
+     */
+    public boolean isEmpty(int field) {
+        return field >= fieldCount || starts[field] == ends[field];
+    }
+
+    /**
+     * @param field the field index
+     * @return the field as a string, empty when the field is missing
+     */
+    public String field(int field) {
+        if (field >= fieldCount) {
+            return "";
+        }
+        return new String(data, starts[field], ends[field] - starts[field]);
+    }
+
+    /**
+     * check a field against a string without creating a string for the field
+     * @param field the field index
+     * @param value the string to compare with
+     * @return true if the field equals the string, ignoring case
+     */
+    public boolean fieldEquals(int field, String value) {
+        if (field >= fieldCount || ends[field] - starts[field] != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char a = data[starts[field] + i];
+            char b = value.charAt(i);
+            if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param field the field index
+     * @return the field as an int
+     * @throws NumberFormatException if the field is not an int
+     */
+    public int intField(int field) {
+        if (isEmpty(field)) {
+            throw new NumberFormatException("Field " + (field + 1) + " of record " + recordNumber + " is empty");
+        }
+        return Integer.parseInt(view, starts[field], ends[field], 10);
+    }
+
+    /**
+     * @param field the field index
+     * @return the field as a double
+     * @throws NumberFormatException if the field is not a number
+     */
+    public double doubleField(int field) {
+        return Double.parseDouble(field(field));
+    }
+
+    /**
+     * parse a field holding ints separated by semicolons
+     * @param field the field index
+     * @return the numbers, empty when the field is empty
+     * @throws NumberFormatException if one of the values is not an int
+     */
+    public int[] intsField(int field) {
+        if (isEmpty(field)) {
+            return new int[0];
+        }
+        int count = 1;
+        for (int i = starts[field]; i < ends[field]; i++) {
+            if (data[i] == ';') {
+                count++;
+            }
+        }
+        int[] values = new int[count];
+        int valueStart = starts[field];
+        int index = 0;
+        for (int i = starts[field]; i <= ends[field]; i++) {
+            if (i == ends[field] || data[i] == ';') {
+                values[index++] = Integer.parseInt(view, valueStart, i, 10);
+                valueStart = i + 1;
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private void append(char c) {
+        if (length == data.length) {
+            data = Arrays.copyOf(data, length << 1);
+            view = CharBuffer.wrap(data);
+        }
+        data[length++] = c;
+    }
+
+    private void endField(int fieldStart) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount << 1);
+            ends = Arrays.copyOf(ends, fieldCount << 1);
+        }
+        starts[fieldCount] = fieldStart;
+        ends[fieldCount] = length;
+        fieldCount++;
+    }
+}
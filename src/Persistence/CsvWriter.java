@@ -0,0 +1,143 @@
+package Persistence;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CsvWriter class writes comma separated records, quoting fields only when they need it
+ * numbers are written without creating strings for them
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class CsvWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer out;
+    private final StringBuilder record = new StringBuilder(256);
+    private boolean started;
+
+    /**
+     * CsvWriter constructor
+     * @param out where to write, the writer does its own buffering
+     */
+    public CsvWriter(Writer out) {
+        this.out = new BufferedWriter(out, BUFFER_SIZE);
+    }
+
+    /**
+     * add a text field to the current record
+     * @param value the text, null is written as an empty field
+     * @return this writer
+     */
+    public CsvWriter field(String value) {
+        separate();
+        if (value == null) {
+            return this;
+        }
+        if (needsQuotes(value)) {
+            record.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    record.append('"');
+                }
+                record.append(c);
+            }
+            record.append('"');
+        } else {
+            record.append(value);
+        }
+        return this;
+    }
+
+    /**
+     * add an int field to the current record
+     * @param value the number
+     * @return this writer
+     */
+    public CsvWriter field(int value) {
+        separate();
+        record.append(value);
+        return this;
+    }
+
+    /**
+     * add a double field to the current record
+     * @param value the number
+     * @return this writer
+     */
+    public CsvWriter field(double value) {
+        separate();
+        record.append(value);
+        return this;
+    }
+
+    /**
+     * add an empty field to the current record
+     * @return this writer
+     */
+    public CsvWriter empty() {
+        separate();
+        return this;
+    }
+
+    /**
+     * add a field of ints separated by semicolons
+     * @param values the numbers
+     * @return this writer
+     */
+    public CsvWriter field(int[] values) {
+        separate();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                record.append(';');
+            }
+            record.append(values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * finish the current record
+     * @throws IOException if the write fails
+     */
+    public void endRecord() throws IOException {
+        record.append('\n');
+        out.append(record);
+        record.setLength(0);
+        started = false;
+    }
+
+    /**
+     * write out everything buffered
+     * @throws IOException if the write fails
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void separate() {
+        if (started) {
+            record.append(',');
+        }
+        started = true;
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,681 @@
+package Persistence;
+
+import Main.Inventory;
+import Main.InventoryListener;
+import Main.Part;
+import Main.Product;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Journal class is an append only write-ahead log of every inventory change
+ * each change is framed as [length][crc32][record] and appended to an in memory batch.
+ * a background thread writes and forces a whole batch at a time (group commit),
+ * so many changes share one fsync and callers never wait on the disk.
+ * every SNAPSHOT_INTERVAL records the journal rolls to a new segment and the inventory
+ * is written to a MappedSnapshot, so a restart maps the snapshot and replays only the newest segment
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class Journal implements InventoryListener, Closeable {
+    /* record types */
+    static final byte ADD_PART = 1;
+    static final byte UPDATE_PART = 2;
+    static final byte DELETE_PART = 3;
+    static final byte ADD_PRODUCT = 4;
+    static final byte UPDATE_PRODUCT = 5;
+    static final byte DELETE_PRODUCT = 6;
+    static final byte ASSOCIATE = 7;
+    static final byte DISSOCIATE = 8;
+    static final byte ADJUST_PART_STOCK = 9;
+    static final byte ADJUST_PRODUCT_STOCK = 10;
+    static final byte ADD_SUBASSEMBLY = 11;
+    static final byte REMOVE_SUBASSEMBLY = 12;
+
+    private static final int SNAPSHOT_INTERVAL = 250_000;
+    private static final int MAX_RECORD_LENGTH = 1 << 24;
+    private static final String JOURNAL_PREFIX = "journal-";
+    private static final String JOURNAL_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final Inventory inventory;
+    private final boolean restored;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dataReady = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    /* records waiting for the flusher, swapped with spare for every batch */
+    private RecordBuffer pending = new RecordBuffer();
+    private RecordBuffer spare = new RecordBuffer();
+    /* encodes the appended records, used under lock */
+    private final RecordEncoder encoder = new RecordEncoder();
+    private FileChannel channel;
+    private long generation;
+    private long appended;
+    private long durable;
+    private long recordsSinceSnapshot;
+    private IOException failure;
+    private boolean closed;
+
+    private final Thread flusher;
+    private final Object snapshotLock = new Object();
+    private final ExecutorService snapshotter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inventory-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean snapshotRequested = new AtomicBoolean();
+
+    private Journal(Path directory, Inventory inventory, long generation, boolean restored) throws IOException {
+        this.directory = directory;
+        this.inventory = inventory;
+        this.generation = generation;
+        this.restored = restored;
+        this.channel = openSegment(generation);
+        this.flusher = new Thread(this::flushLoop, "inventory-journal");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * open the journal in a directory
+     * the latest snapshot and the journal segments after it are replayed into the inventory,
+     * then the journal starts recording the inventory's changes
+     * @param directory the directory holding the journal, created if missing
+     * @param inventory the inventory to restore and record, normally empty
+     * @return the open journal
+     * @throws IOException if the directory cannot be read or a record cannot be applied
+     */
+    public static Journal open(Path directory, Inventory inventory) throws IOException {
+        Files.createDirectories(directory);
+        long[] snapshots = generations(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        long[] segments = generations(directory, JOURNAL_PREFIX, JOURNAL_SUFFIX);
+        long generation = 0;
+        if (snapshots.length > 0) {
+            generation = snapshots[snapshots.length - 1];
+            Path path = file(directory, SNAPSHOT_PREFIX, generation, SNAPSHOT_SUFFIX);
+            try (MappedSnapshot snapshot = MappedSnapshot.open(path)) {
+                snapshot.loadInto(inventory);
+            }
+        } else if (segments.length > 0) {
+            generation = segments[0];
+        }
+        for (long segment : segments) {
+            if (segment >= generation) {
+                Path path = file(directory, JOURNAL_PREFIX, segment, JOURNAL_SUFFIX);
+                long valid = replay(path, inventory);
+                // a crash can leave a torn record at the end, cut it off so appends start clean
+                if (valid < Files.size(path)) {
+                    try (FileChannel torn = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                        torn.truncate(valid);
+                    }
+                }
+                generation = segment;
+            }
+        }
+        Journal journal = new Journal(directory, inventory, generation, snapshots.length > 0 || segments.length > 0);
+        inventory.addListener(journal);
+        return journal;
+    }
+
+    /**
+     * @return true if open found an existing journal or snapshot to restore from
+     */
+    public boolean wasRestored() {
+        return restored;
+    }
+
+    @Override
+    public void partAdded(Part part) {
+        append(ADD_PART, out -> RecordCodec.writePart(out, part));
+    }
+
+    @Override
+    public void partUpdated(Part previous, Part part) {
+        append(UPDATE_PART, out -> RecordCodec.writePart(out, part));
+    }
+
+    @Override
+    public void partStockAdjusted(Part part, int previous, int stock) {
+        // the difference is recorded, since adjustments of one part may be reported out of order
+        append(ADJUST_PART_STOCK, out -> {
+            out.writeInt(part.getId());
+            out.writeInt(stock - previous);
+        });
+    }
+
+    @Override
+    public void partDeleted(Part part) {
+        append(DELETE_PART, out -> out.writeInt(part.getId()));
+    }
+
+    @Override
+    public void productAdded(Product product) {
+        append(ADD_PRODUCT, out -> RecordCodec.writeProduct(out, product, RecordCodec.associatedPartIds(product)));
+    }
+
+    @Override
+    public void productUpdated(Product previous, Product product) {
+        append(UPDATE_PRODUCT, out -> RecordCodec.writeProduct(out, product, RecordCodec.associatedPartIds(product)));
+    }
+
+    @Override
+    public void productStockAdjusted(Product product, int previous, int stock) {
+        append(ADJUST_PRODUCT_STOCK, out -> {
+            out.writeInt(product.getId());
+            out.writeInt(stock - previous);
+        });
+    }
+
+    @Override
+    public void productDeleted(Product product) {
+        append(DELETE_PRODUCT, out -> out.writeInt(product.getId()));
+    }
+
+    @Override
+    public void partAssociated(Product product, Part part) {
+        append(ASSOCIATE, out -> {
+            out.writeInt(product.getId());
+            out.writeInt(part.getId());
+        });
+    }
+
+    @Override
+    public void partDissociated(Product product, Part part) {
+        append(DISSOCIATE, out -> {
+            out.writeInt(product.getId());
+            out.writeInt(part.getId());
+        });
+    }
+
+    @Override
+    public void subassemblyAdded(Product product, Product subassembly) {
+        append(ADD_SUBASSEMBLY, out -> {
+            out.writeInt(product.getId());
+            out.writeInt(subassembly.getId());
+        });
+    }
+
+    @Override
+    public void subassemblyRemoved(Product product, Product subassembly) {
+        append(REMOVE_SUBASSEMBLY, out -> {
+            out.writeInt(product.getId());
+            out.writeInt(subassembly.getId());
+        });
+    }
+
+    /**
+     * wait until every change recorded so far is on disk
+     * @throws IOException if writing the journal failed
+     */
+    public void sync() throws IOException {
+        lock.lock();
+        try {
+            long target = appended;
+            while (durable < target && failure == null) {
+                flushed.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * write a snapshot of the inventory and drop the journal segments it replaces
+     * changes to the inventory only wait while it is copied and the journal rolls over
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            List<Part> parts;
+            List<Product> products;
+            List<int[]> associations;
+            List<int[]> subassemblies;
+            long snapshotGeneration;
+            inventory.lockWriters();
+            try {
+                // stock is adjusted in place, so the snapshot is written from copies taken at the cut.
+                // the live parts would show adjustments that are also in the new segment
+                parts = inventory.copyParts();
+                parts.replaceAll(RecordCodec::copyOf);
+                products = inventory.copyProducts();
+                associations = new ArrayList<>(products.size());
+                subassemblies = new ArrayList<>(products.size());
+                for (Product product : products) {
+                    associations.add(RecordCodec.associatedPartIds(product));
+                    subassemblies.add(inventory.subassemblies(product.getId()).stream()
+                        .mapToInt(Product::getId).toArray());
+                }
+                products.replaceAll(RecordCodec::copyOf);
+                // everything before the copy must be in the old segment, everything after in the new one
+                sync();
+                snapshotGeneration = rollOver();
+            } finally {
+                inventory.unlockWriters();
+            }
+            Path target = file(directory, SNAPSHOT_PREFIX, snapshotGeneration, SNAPSHOT_SUFFIX);
+            Path temp = directory.resolve(target.getFileName() + ".tmp");
+            MappedSnapshot.write(temp, parts, products, associations, subassemblies);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            deleteBefore(snapshotGeneration);
+        }
+    }
+
+    /**
+     * stop recording, write a final snapshot so the next start is quick, and close the files
+     * @throws IOException if the final writes fail
+     */
+    @Override
+    public void close() throws IOException {
+        inventory.removeListener(this);
+        snapshotter.shutdown();
+        try {
+            snapshotter.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean dirty;
+        lock.lock();
+        try {
+            dirty = recordsSinceSnapshot > 0;
+        } finally {
+            lock.unlock();
+        }
+        if (dirty) {
+            snapshot();
+        }
+        sync();
+        lock.lock();
+        try {
+            closed = true;
+            dataReady.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    /**
+     * method to encode a record and add it to the pending batch
+     * @param type the record type
+     * @param body writes the record body
+     */
+    private void append(byte type, RecordWriter body) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            encoder.frame(pending, type, body);
+            appended++;
+            if (++recordsSinceSnapshot == SNAPSHOT_INTERVAL) {
+                requestSnapshot();
+            }
+            dataReady.signal();
+        } catch (IOException e) {
+            // the record buffers are in memory, so this cannot really happen
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * the loop of the flusher thread, writes and forces one batch at a time
+     */
+    private void flushLoop() {
+        while (true) {
+            RecordBuffer batch;
+            FileChannel target;
+            long batchEnd;
+            lock.lock();
+            try {
+                while (pending.size() == 0 && !closed) {
+                    dataReady.awaitUninterruptibly();
+                }
+                if (pending.size() == 0) {
+                    return;
+                }
+                batch = pending;
+                pending = spare;
+                spare = null;
+                target = channel;
+                batchEnd = appended;
+            } finally {
+                lock.unlock();
+            }
+            IOException error = null;
+            try {
+                write(target, batch);
+                target.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+            lock.lock();
+            try {
+                batch.reset();
+                spare = batch;
+                durable = batchEnd;
+                if (error != null && failure == null) {
+                    failure = error;
+                }
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * method to start a new journal segment, the caller has synced the old one
+     * @return the generation of the new segment
+     * @throws IOException if the segment cannot be created
+     */
+    private long rollOver() throws IOException {
+        lock.lock();
+        try {
+            channel.close();
+            generation++;
+            channel = openSegment(generation);
+            recordsSinceSnapshot = 0;
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requestSnapshot() {
+        if (snapshotRequested.compareAndSet(false, true)) {
+            snapshotter.execute(() -> {
+                try {
+                    snapshot();
+                } catch (IOException e) {
+                    lock.lock();
+                    try {
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                } finally {
+                    snapshotRequested.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * method to remove the snapshots and segments older than a snapshot
+     * @param snapshotGeneration the generation of the newest snapshot
+     * @throws IOException if a file cannot be deleted
+     */
+    private void deleteBefore(long snapshotGeneration) throws IOException {
+        for (long old : generations(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (old < snapshotGeneration) {
+                Files.deleteIfExists(file(directory, SNAPSHOT_PREFIX, old, SNAPSHOT_SUFFIX));
+            }
+        }
+        for (long old : generations(directory, JOURNAL_PREFIX, JOURNAL_SUFFIX)) {
+            if (old < snapshotGeneration) {
+                Files.deleteIfExists(file(directory, JOURNAL_PREFIX, old, JOURNAL_SUFFIX));
+            }
+        }
+    }
+
+    private FileChannel openSegment(long segment) throws IOException {
+        return FileChannel.open(file(directory, JOURNAL_PREFIX, segment, JOURNAL_SUFFIX),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * method to apply every intact record of a file to the inventory
+     * replay stops at the first torn or corrupt record
+     * @param path the journal segment or snapshot
+     * @param inventory the inventory to apply the records to
+     * @return the length of the intact prefix of the file
+     * @throws IOException if the file cannot be read or a record cannot be applied
+     */
+    static long replay(Path path, Inventory inventory) throws IOException {
+        long valid = 0;
+        CRC32 checksum = new CRC32();
+        byte[] body = new byte[256];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            while (true) {
+                int length;
+                int expected;
+                try {
+                    length = in.readInt();
+                    expected = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_LENGTH) {
+                        break;
+                    }
+                    if (body.length < length) {
+                        body = new byte[Math.max(length, body.length * 2)];
+                    }
+                    in.readFully(body, 0, length);
+                } catch (EOFException e) {
+                    break;
+                }
+                checksum.reset();
+                checksum.update(body, 0, length);
+                if ((int) checksum.getValue() != expected) {
+                    break;
+                }
+                apply(new DataInputStream(new ByteArrayInputStream(body, 0, length)), inventory);
+                valid += 8 + length;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * method to apply a single record to the inventory
+     * @param in the record
+     * @param inventory the inventory
+     * @throws IOException if the record cannot be decoded
+     */
+    private static void apply(DataInput in, Inventory inventory) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case ADD_PART:
+                inventory.addPart(RecordCodec.readPart(in));
+                break;
+            case UPDATE_PART: {
+                Part part = RecordCodec.readPart(in);
+                inventory.updatePart(part.getId(), part);
+                break;
+            }
+            case DELETE_PART: {
+                Part part = inventory.lookupPart(in.readInt());
+                if (part != null) {
+                    inventory.deletePart(part);
+                }
+                break;
+            }
+            case ADJUST_PART_STOCK: {
+                int partId = in.readInt();
+                int delta = in.readInt();
+                if (inventory.lookupPart(partId) != null) {
+                    inventory.replayPartStock(partId, delta);
+                }
+                break;
+            }
+            case ADD_PRODUCT:
+                inventory.addProduct(RecordCodec.readProduct(in, inventory));
+                break;
+            case UPDATE_PRODUCT: {
+                Product product = RecordCodec.readProduct(in, inventory);
+                inventory.updateProduct(product.getId(), product);
+                break;
+            }
+            case DELETE_PRODUCT: {
+                Product product = inventory.lookupProduct(in.readInt());
+                if (product != null) {
+                    inventory.deleteProduct(product);
+                }
+                break;
+            }
+            case ADJUST_PRODUCT_STOCK: {
+                int productId = in.readInt();
+                int delta = in.readInt();
+                if (inventory.lookupProduct(productId) != null) {
+                    inventory.replayProductStock(productId, delta);
+                }
+                break;
+            }
+            case ASSOCIATE:
+            case DISSOCIATE: {
+                Product product = inventory.lookupProduct(in.readInt());
+                Part part = inventory.lookupPart(in.readInt());
+                if (product != null && part != null) {
+                    if (type == ASSOCIATE) {
+                        product.addAssociatedPart(part);
+                    } else {
+                        product.deleteAssociatedPart(part);
+                    }
+                }
+                break;
+            }
+            case ADD_SUBASSEMBLY:
+            case REMOVE_SUBASSEMBLY: {
+                int productId = in.readInt();
+                int subassemblyId = in.readInt();
+                if (inventory.lookupProduct(productId) != null && inventory.lookupProduct(subassemblyId) != null) {
+                    if (type == ADD_SUBASSEMBLY) {
+                        inventory.addSubassembly(productId, subassemblyId);
+                    } else {
+                        inventory.removeSubassembly(productId, subassemblyId);
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    private static void write(FileChannel out, RecordBuffer batch) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(batch.buffer(), 0, batch.size());
+        while (bytes.hasRemaining()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Path file(Path directory, String prefix, long generation, String suffix) {
+        return directory.resolve(prefix + String.format("%012d", generation) + suffix);
+    }
+
+    /**
+     * method to list the generations of the files with a prefix and suffix
+     * @return the generations in ascending order
+     */
+    private static long[] generations(Path directory, String prefix, String suffix) throws IOException {
+        List<Long> found = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            for (Path path : files) {
+                String name = path.getFileName().toString();
+                try {
+                    found.add(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())));
+                } catch (NumberFormatException e) {
+                    // not one of ours
+                }
+            }
+        }
+        long[] result = found.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * writes the body of a record
+     */
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * frames records as [length][crc32][type][body]
+     */
+    private static final class RecordEncoder {
+        private final RecordBuffer scratch = new RecordBuffer();
+        private final DataOutputStream out = new DataOutputStream(scratch);
+        private final CRC32 checksum = new CRC32();
+
+        /**
+         * encode a record and append it to a batch
+         * @param batch the batch to append to
+         * @param type the record type
+         * @param writer writes the record body
+         * @throws IOException if the body cannot be written
+         */
+        private void frame(RecordBuffer batch, byte type, RecordWriter writer) throws IOException {
+            scratch.reset();
+            out.writeByte(type);
+            writer.write(out);
+            out.flush();
+            checksum.reset();
+            checksum.update(scratch.buffer(), 0, scratch.size());
+            batch.writeInt(scratch.size());
+            batch.writeInt((int) checksum.getValue());
+            batch.write(scratch.buffer(), 0, scratch.size());
+        }
+    }
+
+    /**
+     * a byte buffer that can be reused and written out without copying
+     */
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        private RecordBuffer() {
+            super(1 << 12);
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+
+        private void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+    }
+}
@@ -0,0 +1,530 @@
+package Persistence;
+
+import Main.InHouse;
+import Main.Inventory;
+import Main.Outsourced;
+import Main.Part;
+import Main.Product;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MappedSnapshot class is a compact fixed layout snapshot of the inventory that is read through FileChannel.map
+ * every part and product is a fixed size record, so a field is read straight from the mapped file
+ * at a computed offset instead of parsing the file record by record.
+ * parts are stored sorted by id, so a part can be found by binary search without loading anything.
+ *
+ * layout, little endian:
+ * header | parts (PART_SIZE each) | products (PRODUCT_SIZE each) | associated part ids (int each)
+ *   | subassemblies ([int product id][int subassembly id] each) | strings
+ * strings are [int length][utf-8 bytes], stored once and referenced by their offset in the string section.
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class MappedSnapshot implements Closeable {
+    private static final int MAGIC = 0x494E5653; // INVS
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int NO_STRING = -1;
+
+    /* part record: id, kind, price, stock, min, max, machineId, name, companyName */
+    private static final int PART_SIZE = 40;
+    private static final int PART_ID = 0;
+    private static final int PART_KIND = 4;
+    private static final int PART_PRICE = 8;
+    private static final int PART_STOCK = 16;
+    private static final int PART_MIN = 20;
+    private static final int PART_MAX = 24;
+    private static final int PART_MACHINE_ID = 28;
+    private static final int PART_NAME = 32;
+    private static final int PART_COMPANY = 36;
+
+    /* product record: id, price, stock, min, max, name, first association, association count */
+    private static final int PRODUCT_SIZE = 40;
+    private static final int PRODUCT_ID = 0;
+    private static final int PRODUCT_PRICE = 8;
+    private static final int PRODUCT_STOCK = 16;
+    private static final int PRODUCT_MIN = 20;
+    private static final int PRODUCT_MAX = 24;
+    private static final int PRODUCT_NAME = 28;
+    private static final int PRODUCT_FIRST_PART = 32;
+    private static final int PRODUCT_PART_COUNT = 36;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int partCount;
+    private final int productCount;
+    private final int partsOffset;
+    private final int productsOffset;
+    private final int associationsOffset;
+    private final int subassemblyCount;
+    private final int subassembliesOffset;
+    private final int stringsOffset;
+
+    private MappedSnapshot(FileChannel channel, ByteBuffer buffer) throws IOException {
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an inventory snapshot");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        this.partCount = buffer.getInt(8);
+        this.productCount = buffer.getInt(12);
+        this.partsOffset = HEADER_SIZE;
+        this.productsOffset = partsOffset + partCount * PART_SIZE;
+        this.associationsOffset = productsOffset + productCount * PRODUCT_SIZE;
+        this.subassemblyCount = buffer.getInt(20);
+        this.subassembliesOffset = associationsOffset + buffer.getInt(16) * Integer.BYTES;
+        this.stringsOffset = subassembliesOffset + subassemblyCount * 2 * Integer.BYTES;
+    }
+
+    /**
+     * map a snapshot file
+     * @param path the snapshot file
+     * @return the mapped snapshot, close it to release the file
+     * @throws IOException if the file cannot be mapped or is not a snapshot
+     */
+    public static MappedSnapshot open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + path + " is larger than 2GB");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedSnapshot(channel, mapped.order(ByteOrder.LITTLE_ENDIAN));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * write a snapshot file
+     * @param path the file to write, replaced if it exists
+     * @param parts the parts, written sorted by id
+     * @param products the products
+     * @param associations the associated part ids of each product, in the same order as products
+     * @param subassemblies the subassembly ids of each product, in the same order as products
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, List<Part> parts, List<Product> products, List<int[]> associations,
+            List<int[]> subassemblies) throws IOException {
+        List<Part> sortedParts = new ArrayList<>(parts);
+        sortedParts.sort(Comparator.comparingInt(Part::getId));
+        StringHeap strings = new StringHeap();
+        int associationCount = 0;
+        for (int[] partIds : associations) {
+            associationCount += partIds.length;
+        }
+        int subassemblyCount = 0;
+        for (int[] subassemblyIds : subassemblies) {
+            subassemblyCount += subassemblyIds.length;
+        }
+        int[] partNames = new int[sortedParts.size()];
+        int[] companyNames = new int[sortedParts.size()];
+        for (int i = 0; i < sortedParts.size(); i++) {
+            Part part = sortedParts.get(i);
+            partNames[i] = strings.add(part.getName());
+            companyNames[i] = part instanceof Outsourced ? strings.add(((Outsourced) part).getCompanyName()) : NO_STRING;
+        }
+        int[] productNames = new int[products.size()];
+        for (int i = 0; i < products.size(); i++) {
+            productNames[i] = strings.add(products.get(i).getName());
+        }
+        long size = HEADER_SIZE + (long) sortedParts.size() * PART_SIZE + (long) products.size() * PRODUCT_SIZE
+            + (long) associationCount * Integer.BYTES + (long) subassemblyCount * 2 * Integer.BYTES + strings.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot would be larger than 2GB");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            ByteBuffer out = mapped.order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(MAGIC).putInt(VERSION).putInt(sortedParts.size()).putInt(products.size()).putInt(associationCount)
+                .putInt(subassemblyCount);
+            out.position(HEADER_SIZE);
+            for (int i = 0; i < sortedParts.size(); i++) {
+                Part part = sortedParts.get(i);
+                out.putInt(part.getId());
+                out.putInt(RecordCodec.kindOf(part));
+                out.putDouble(part.getPrice());
+                out.putInt(part.getStock());
+                out.putInt(part.getMin());
+                out.putInt(part.getMax());
+                out.putInt(part instanceof InHouse ? ((InHouse) part).getMachineId() : 0);
+                out.putInt(partNames[i]);
+                out.putInt(companyNames[i]);
+            }
+            int firstPart = 0;
+            for (int i = 0; i < products.size(); i++) {
+                Product product = products.get(i);
+                out.putInt(product.getId());
+                out.putInt(0);
+                out.putDouble(product.getPrice());
+                out.putInt(product.getStock());
+                out.putInt(product.getMin());
+                out.putInt(product.getMax());
+                out.putInt(productNames[i]);
+                out.putInt(firstPart);
+                out.putInt(associations.get(i).length);
+                firstPart += associations.get(i).length;
+            }
+            for (int[] partIds : associations) {
+                for (int partId : partIds) {
+                    out.putInt(partId);
+                }
+            }
+            for (int i = 0; i < products.size(); i++) {
+                for (int subassemblyId : subassemblies.get(i)) {
+                    out.putInt(products.get(i).getId());
+                    out.putInt(subassemblyId);
+                }
+            }
+            out.put(strings.buffer(), 0, strings.size());
+            mapped.force();
+        }
+    }
+
+    /**
+     * @return the number of parts
+     */
+    public int partCount() {
+        return partCount;
+    }
+
+    /**
+     * @return the number of products
+     */
+    public int productCount() {
+        return productCount;
+    }
+
+    /**
+     * find a part by id without loading the snapshot
+     * @param partId the part id
+     * @return the index of the part, or -1 if it is not in the snapshot
+     */
+    public int findPart(int partId) {
+        int low = 0;
+        int high = partCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int id = partId(mid);
+            if (id < partId) {
+                low = mid + 1;
+            } else if (id > partId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the id of the part
+     */
+    public int partId(int index) {
+        return buffer.getInt(partOffset(index) + PART_ID);
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the kind of the part, see RecordCodec
+     */
+    public byte partKind(int index) {
+        return (byte) buffer.getInt(partOffset(index) + PART_KIND);
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the price of the part
+     */
+    public double partPrice(int index) {
+        return buffer.getDouble(partOffset(index) + PART_PRICE);
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the stock of the part
+     */
+    public int partStock(int index) {
+        return buffer.getInt(partOffset(index) + PART_STOCK);
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the min of the part
+     */
+    public int partMin(int index) {
+        return buffer.getInt(partOffset(index) + PART_MIN);
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the max of the part
+     */
+    public int partMax(int index) {
+        return buffer.getInt(partOffset(index) + PART_MAX);
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the machine id of the part
+     */
+    public int partMachineId(int index) {
+        return buffer.getInt(partOffset(index) + PART_MACHINE_ID);
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the name of the part
+     */
+    public String partName(int index) {
+        return string(buffer.getInt(partOffset(index) + PART_NAME));
+    }
+
+    /**
+     * @param index the index of the part
+     * @return the company name of an outsourced part, otherwise null
+     */
+    public String partCompanyName(int index) {
+        return string(buffer.getInt(partOffset(index) + PART_COMPANY));
+    }
+
+    /**
+     * materialize a part
+     * @param index the index of the part
+     * @return the part, an InHouse or Outsourced when that is what was saved
+     */
+    public Part part(int index) {
+        int id = partId(index);
+        String name = partName(index);
+        double price = partPrice(index);
+        int stock = partStock(index);
+        int min = partMin(index);
+        int max = partMax(index);
+        switch (partKind(index)) {
+            case RecordCodec.IN_HOUSE:
+                return new InHouse(id, name, price, stock, min, max, partMachineId(index));
+            case RecordCodec.OUTSOURCED:
+                return new Outsourced(id, name, price, stock, min, max, partCompanyName(index));
+            default:
+                return new Part(id, name, price, stock, min, max);
+        }
+    }
+
+    /**
+     * @param index the index of the product
+     * @return the id of the product
+     */
+    public int productId(int index) {
+        return buffer.getInt(productOffset(index) + PRODUCT_ID);
+    }
+
+    /**
+     * @param index the index of the product
+     * @return the price of the product
+     */
+    public double productPrice(int index) {
+        return buffer.getDouble(productOffset(index) + PRODUCT_PRICE);
+    }
+
+    /**
+     * @param index the index of the product
+     * @return the stock of the product
+     */
+    public int productStock(int index) {
+        return buffer.getInt(productOffset(index) + PRODUCT_STOCK);
+    }
+
+    /**
+     * @param index the index of the product
+     * @return the min of the product
+     */
+    public int productMin(int index) {
+        return buffer.getInt(productOffset(index) + PRODUCT_MIN);
+    }
+
+    /**
+     * @param index the index of the product
+     * @return the max of the product
+     */
+    public int productMax(int index) {
+        return buffer.getInt(productOffset(index) + PRODUCT_MAX);
+    }
+
+    /**
+     * @param index the index of the product
+     * @return the name of the product
+     */
+    public String productName(int index) {
+        return string(buffer.getInt(productOffset(index) + PRODUCT_NAME));
+    }
+
+    /**
+     * @param index the index of the product
+     * @return ids of the parts associated with the product
+     */
+    public int[] productPartIds(int index) {
+        int first = buffer.getInt(productOffset(index) + PRODUCT_FIRST_PART);
+        int[] partIds = new int[buffer.getInt(productOffset(index) + PRODUCT_PART_COUNT)];
+        for (int i = 0; i < partIds.length; i++) {
+            partIds[i] = buffer.getInt(associationsOffset + (first + i) * Integer.BYTES);
+        }
+        return partIds;
+    }
+
+    /**
+     * @return the number of subassemblies, counting each product and subassembly pair once
+     */
+    public int subassemblyCount() {
+        return subassemblyCount;
+    }
+
+    /**
+     * @param index the index of the pair
+     * @return the id of the product that contains the subassembly
+     */
+    public int subassemblyProductId(int index) {
+        return buffer.getInt(subassemblyOffset(index));
+    }
+
+    /**
+     * @param index the index of the pair
+     * @return the id of the product used as a subassembly
+     */
+    public int subassemblyId(int index) {
+        return buffer.getInt(subassemblyOffset(index) + Integer.BYTES);
+    }
+
+    /**
+     * add every part, then every product and then every subassembly of the snapshot to an inventory
+     * parts and products are each added as one bulk change
+     * @param inventory the inventory, normally empty
+     */
+    public void loadInto(Inventory inventory) {
+        List<Part> parts = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            parts.add(part(i));
+        }
+        inventory.addParts(parts);
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product(productId(i), productName(i), productPrice(i), productStock(i),
+                productMin(i), productMax(i));
+            List<Part> associatedParts = new ArrayList<>();
+            for (int partId : productPartIds(i)) {
+                Part part = inventory.lookupPart(partId);
+                if (part != null) {
+                    associatedParts.add(part);
+                }
+            }
+            product.addAssociatedParts(associatedParts);
+            products.add(product);
+        }
+        inventory.addProducts(products);
+        for (int i = 0; i < subassemblyCount; i++) {
+            inventory.addSubassembly(subassemblyProductId(i), subassemblyId(i));
+        }
+    }
+
+    /**
+     * release the file, the mapping itself is released when it is garbage collected
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int partOffset(int index) {
+        if (index < 0 || index >= partCount) {
+            throw new IndexOutOfBoundsException("Part " + index + " out of bounds for " + partCount + " parts");
+        }
+        return partsOffset + index * PART_SIZE;
+    }
+
+    private int productOffset(int index) {
+        if (index < 0 || index >= productCount) {
+            throw new IndexOutOfBoundsException("Product " + index + " out of bounds for " + productCount + " products");
+        }
+        return productsOffset + index * PRODUCT_SIZE;
+    }
+
+    private int subassemblyOffset(int index) {
+        if (index < 0 || index >= subassemblyCount) {
+            throw new IndexOutOfBoundsException("Subassembly " + index + " out of bounds for " + subassemblyCount
+                + " subassemblies");
+        }
+        return subassembliesOffset + index * 2 * Integer.BYTES;
+    }
+
+    /**
+     * method to decode a string from the string section
+     * @param reference offset of the string in the string section
+     * @return the string, or null for NO_STRING
+     */
+    private String string(int reference) {
+        if (reference == NO_STRING) {
+            return null;
+        }
+        int position = stringsOffset + reference;
+        int length = buffer.getInt(position);
+        byte[] bytes = new byte[length];
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(position + Integer.BYTES);
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * the string section being built by write, every distinct string is stored once
+     */
+    private static final class StringHeap extends ByteArrayOutputStream {
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        private int add(String value) {
+            if (value == null) {
+                return NO_STRING;
+            }
+            Integer offset = offsets.get(value);
+            if (offset == null) {
+                offset = count;
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                // little endian, like the rest of the file
+                write(bytes.length);
+                write(bytes.length >>> 8);
+                write(bytes.length >>> 16);
+                write(bytes.length >>> 24);
+                write(bytes, 0, bytes.length);
+                offsets.put(value, offset);
+            }
+            return offset;
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
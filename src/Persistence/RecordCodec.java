@@ -0,0 +1,169 @@
+package Persistence;
+
+import Main.InHouse;
+import Main.Inventory;
+import Main.Outsourced;
+import Main.Part;
+import Main.Product;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * RecordCodec class writes and reads parts and products as compact binary records
+ * used by the journal and its snapshots
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class RecordCodec {
+    /* part kinds, stored in front of every part */
+    public static final byte PART = 0;
+    public static final byte IN_HOUSE = 1;
+    public static final byte OUTSOURCED = 2;
+
+    private RecordCodec() {
+    }
+
+    /**
+     * write a part, including its machine id or company name
+     * @param out where to write
+     * @param part the part to write
+     * @throws IOException if the write fails
+     */
+    public static void writePart(DataOutput out, Part part) throws IOException {
+        out.writeByte(kindOf(part));
+        out.writeInt(part.getId());
+        out.writeUTF(part.getName());
+        out.writeDouble(part.getPrice());
+        out.writeInt(part.getStock());
+        out.writeInt(part.getMin());
+        out.writeInt(part.getMax());
+        if (part instanceof InHouse) {
+            out.writeInt(((InHouse) part).getMachineId());
+        } else if (part instanceof Outsourced) {
+            out.writeUTF(((Outsourced) part).getCompanyName());
+        }
+    }
+
+    /**
+     * read a part written by writePart
+     * @param in where to read
+     * @return the part, an InHouse or Outsourced when that is what was written
+     * @throws IOException if the read fails or the record is not a part
+     */
+    public static Part readPart(DataInput in) throws IOException {
+        byte kind = in.readByte();
+        int id = in.readInt();
+        String name = in.readUTF();
+        double price = in.readDouble();
+        int stock = in.readInt();
+        int min = in.readInt();
+        int max = in.readInt();
+        switch (kind) {
+            case IN_HOUSE:
+                return new InHouse(id, name, price, stock, min, max, in.readInt());
+            case OUTSOURCED:
+                return new Outsourced(id, name, price, stock, min, max, in.readUTF());
+            case PART:
+                return new Part(id, name, price, stock, min, max);
+            default:
+                throw new IOException("Unknown part kind " + kind);
+        }
+    }
+
+    /**
+     * write a product and the ids of its associated parts
+     * @param out where to write
+     * @param product the product to write
+     * @param partIds ids of the parts associated with the product
+     * @throws IOException if the write fails
+     */
+    public static void writeProduct(DataOutput out, Product product, int[] partIds) throws IOException {
+        out.writeInt(product.getId());
+        out.writeUTF(product.getName());
+        out.writeDouble(product.getPrice());
+        out.writeInt(product.getStock());
+        out.writeInt(product.getMin());
+        out.writeInt(product.getMax());
+        out.writeInt(partIds.length);
+        for (int partId : partIds) {
+            out.writeInt(partId);
+        }
+    }
+
+    /**
+     * read a product written by writeProduct
+     * associated parts are resolved through the inventory, ids it does not know are skipped
+     * @param in where to read
+     * @param inventory the inventory holding the associated parts
+     * @return the product
+     * @throws IOException if the read fails
+     */
+    public static Product readProduct(DataInput in, Inventory inventory) throws IOException {
+        Product product = new Product(in.readInt(), in.readUTF(), in.readDouble(), in.readInt(), in.readInt(), in.readInt());
+        int partCount = in.readInt();
+        for (int i = 0; i < partCount; i++) {
+            Part part = inventory.lookupPart(in.readInt());
+            if (part != null) {
+                product.addAssociatedPart(part);
+            }
+        }
+        return product;
+    }
+
+    /**
+     * copy a part, so its fields can be read later without seeing changes made since
+     * @param part the part
+     * @return a part of the same kind with the same fields
+     */
+    public static Part copyOf(Part part) {
+        if (part instanceof InHouse) {
+            return new InHouse(part.getId(), part.getName(), part.getPrice(), part.getStock(), part.getMin(),
+                part.getMax(), ((InHouse) part).getMachineId());
+        } else if (part instanceof Outsourced) {
+            return new Outsourced(part.getId(), part.getName(), part.getPrice(), part.getStock(), part.getMin(),
+                part.getMax(), ((Outsourced) part).getCompanyName());
+        }
+        return new Part(part.getId(), part.getName(), part.getPrice(), part.getStock(), part.getMin(), part.getMax());
+    }
+
+    /**
+     * copy the fields of a product, its associated parts are not copied, see associatedPartIds
+     * @param product the product
+     * @return a product with the same fields and no associated parts
+     */
+    public static Product copyOf(Product product) {
+        return new Product(product.getId(), product.getName(), product.getPrice(), product.getStock(),
+            product.getMin(), product.getMax());
+    }
+
+    /**
+     * get the ids of the parts associated with a product
+     * @param product the product
+     * @return the part ids in association order
+     */
+    public static int[] associatedPartIds(Product product) {
+        List<Part> parts = product.getAllAssociatedParts();
+        int[] partIds = new int[parts.size()];
+        for (int i = 0; i < partIds.length; i++) {
+            partIds[i] = parts.get(i).getId();
+        }
+        return partIds;
+    }
+
+    /**
+     * @param part a part
+     * @return the kind stored for the part
+     */
+    public static byte kindOf(Part part) {
+        if (part instanceof InHouse) {
+            return IN_HOUSE;
+        } else if (part instanceof Outsourced) {
+            return OUTSOURCED;
+        }
+        return PART;
+    }
+}
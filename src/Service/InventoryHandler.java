@@ -0,0 +1,559 @@
+package Service;
+
+import Main.InHouse;
+import Main.Inventory;
+import Main.Outsourced;
+import Main.Part;
+import Main.Product;
+import Main.Validation;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * InventoryHandler class answers the HTTP requests of the service from an Inventory
+ *
+ *   GET    /parts?name=&limit=  or  /parts?from=&count=    search by name, or page in id order
+ *   GET    /parts?company=&limit=                         the outsourced parts from a company, exact name
+ *   POST   /parts                                         add a part, the id is optional
+ *   GET    /parts/{id}                                    PUT replaces it, DELETE deletes it
+ *   GET    /parts/{id}/products                           the products using the part
+ *   POST   /parts/{id}/stock      {"delta": n}            adjust the stock
+ *   POST   /parts/{id}/reserve    {"quantity": n}         take stock if enough is left above min
+ *   the same for /products, plus
+ *   GET    /products/{id}/parts                           the parts of the product
+ *   PUT    /products/{id}/parts/{partId}                  associate a part, DELETE dissociates it
+ *   GET    /products/{id}/subassemblies                   the products it contains as subassemblies
+ *   PUT    /products/{id}/subassemblies/{subId}           add a subassembly, DELETE removes it
+ *
+ * bodies are JSON objects, a part has name, price, stock, min, max and machineId or companyName,
+ * a product has name, price, stock, min, max and optionally parts, a list of part ids.
+ * the same rules as the forms apply. a missing item is 404, a bad request 400 and a conflict,
+ * like adding an id that is taken, deleting a part or product that is still used,
+ * a subassembly that would contain itself or adjusting stock past min or max, is 409
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class InventoryHandler implements HttpHandler {
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 10_000;
+
+    private final Inventory inventory;
+
+    /**
+     * InventoryHandler constructor
+     * @param inventory the inventory to serve
+     */
+    InventoryHandler(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            Response response;
+            try {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                response = route(exchange.getRequestMethod(), segments(exchange.getRequestURI().getRawPath()),
+                    query(exchange.getRequestURI().getRawQuery()), body);
+            } catch (NoSuchElementException e) {
+                response = Response.error(404, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                response = Response.error(400, e.getMessage());
+            } catch (IllegalStateException e) {
+                response = Response.error(409, e.getMessage());
+            }
+            send(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * method to find the endpoint for a request and run it
+     * @param method the HTTP method
+     * @param path the path segments
+     * @param query the query parameters
+     * @param body the request body
+     * @return the response
+     */
+    private Response route(String method, String[] path, Map<String, String> query, String body) {
+        if (!path[0].equals("parts") && !path[0].equals("products")) {
+            throw new NoSuchElementException("There is no endpoint " + String.join("/", path));
+        }
+        boolean parts = path[0].equals("parts");
+        if (path.length == 1) {
+            switch (method) {
+                case "GET":
+                    return parts ? Response.ok(partList(findParts(query))) : Response.ok(productList(findProducts(query)));
+                case "POST":
+                    return Response.created(parts ? addPart(JsonReader.parseObject(body)) : addProduct(JsonReader.parseObject(body)));
+                default:
+                    return Response.notAllowed();
+            }
+        }
+        int id = id(path[1]);
+        if (path.length == 2) {
+            switch (method) {
+                case "GET":
+                    return Response.ok(parts ? part(existingPart(id)) : product(existingProduct(id)));
+                case "PUT":
+                    return Response.ok(parts ? updatePart(id, JsonReader.parseObject(body))
+                        : updateProduct(id, JsonReader.parseObject(body)));
+                case "DELETE":
+                    if (parts) {
+                        deletePart(id);
+                    } else {
+                        deleteProduct(id);
+                    }
+                    return Response.noContent();
+                default:
+                    return Response.notAllowed();
+            }
+        }
+        String action = path[2];
+        if (path.length == 3 && action.equals("stock")) {
+            if (!method.equals("POST")) {
+                return Response.notAllowed();
+            }
+            return Response.ok(adjustStock(parts, id, integer(JsonReader.parseObject(body), "delta")));
+        }
+        if (path.length == 3 && action.equals("reserve")) {
+            if (!method.equals("POST")) {
+                return Response.notAllowed();
+            }
+            return Response.ok(reserve(parts, id, integer(JsonReader.parseObject(body), "quantity")));
+        }
+        if (path.length == 3 && parts && action.equals("products")) {
+            if (!method.equals("GET")) {
+                return Response.notAllowed();
+            }
+            existingPart(id);
+            return Response.ok(productList(inventory.whereUsed(id)));
+        }
+        if (!parts && action.equals("parts")) {
+            if (path.length == 3) {
+                if (!method.equals("GET")) {
+                    return Response.notAllowed();
+                }
+                return Response.ok(partList(existingProduct(id).getAllAssociatedParts()));
+            }
+            if (path.length == 4) {
+                switch (method) {
+                    case "PUT":
+                        return Response.ok(associate(id, id(path[3]), true));
+                    case "DELETE":
+                        return Response.ok(associate(id, id(path[3]), false));
+                    default:
+                        return Response.notAllowed();
+                }
+            }
+        }
+        if (!parts && action.equals("subassemblies")) {
+            if (path.length == 3) {
+                if (!method.equals("GET")) {
+                    return Response.notAllowed();
+                }
+                existingProduct(id);
+                return Response.ok(productList(inventory.subassemblies(id)));
+            }
+            if (path.length == 4) {
+                switch (method) {
+                    case "PUT":
+                        return Response.ok(subassembly(id, id(path[3]), true));
+                    case "DELETE":
+                        return Response.ok(subassembly(id, id(path[3]), false));
+                    default:
+                        return Response.notAllowed();
+                }
+            }
+        }
+        throw new NoSuchElementException("There is no endpoint " + String.join("/", path));
+    }
+
+    private List<Part> findParts(Map<String, String> query) {
+        String name = query.get("name");
+        if (name != null) {
+            return limit(inventory.lookupPart(name), query);
+        }
+        String company = query.get("company");
+        if (company != null) {
+            return limit(inventory.lookupPartsFromCompany(company), query);
+        }
+        return inventory.partsInIdOrder(integer(query, "from", 0), integer(query, "count", DEFAULT_LIMIT, MAX_LIMIT));
+    }
+
+    private List<Product> findProducts(Map<String, String> query) {
+        String name = query.get("name");
+        if (name != null) {
+            return limit(inventory.lookupProduct(name), query);
+        }
+        return inventory.productsInIdOrder(integer(query, "from", 0), integer(query, "count", DEFAULT_LIMIT, MAX_LIMIT));
+    }
+
+    private String addPart(Map<String, Object> body) {
+        int partId = body.containsKey("id") ? integer(body, "id") : inventory.nextPartId();
+        Part part = readPart(partId, body);
+        try {
+            // the inventory checks the id under its own lock, another request may take it after any check made here
+            inventory.addPart(part);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+        return part(part);
+    }
+
+    private String updatePart(int partId, Map<String, Object> body) {
+        Part part = readPart(partId, body);
+        inventory.updatePart(partId, part);
+        return part(part);
+    }
+
+    private void deletePart(int partId) {
+        Part part = existingPart(partId);
+        if (!inventory.deletePart(part)) {
+            throw new IllegalStateException("Part " + partId + " is still associated with a product");
+        }
+    }
+
+    private String addProduct(Map<String, Object> body) {
+        int productId = body.containsKey("id") ? integer(body, "id") : inventory.nextProductId();
+        Product product = readProduct(productId, body, Collections.emptyList());
+        try {
+            inventory.addProduct(product);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+        return product(product);
+    }
+
+    private String updateProduct(int productId, Map<String, Object> body) {
+        // without a parts list the product keeps the parts it has, like the product form
+        List<Part> currentParts = existingProduct(productId).getAllAssociatedParts();
+        Product product = readProduct(productId, body, currentParts);
+        inventory.updateProduct(productId, product);
+        return product(product);
+    }
+
+    private void deleteProduct(int productId) {
+        Product product = existingProduct(productId);
+        if (!product.getAllAssociatedParts().isEmpty()) {
+            throw new IllegalStateException("Product " + productId + " still has associated parts");
+        }
+        if (!inventory.deleteProduct(product)) {
+            throw new IllegalStateException("Product " + productId + " is still a subassembly of another product");
+        }
+    }
+
+    private String adjustStock(boolean parts, int id, int delta) {
+        int stock;
+        try {
+            stock = parts ? inventory.adjustPartStock(id, delta) : inventory.adjustProductStock(id, delta);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+        return new JsonWriter().beginObject().name("id").value(id).name("stock").value(stock).endObject().toString();
+    }
+
+    private String reserve(boolean parts, int id, int quantity) {
+        boolean reserved = parts ? inventory.tryReservePart(id, quantity) : inventory.tryReserveProduct(id, quantity);
+        int stock = parts ? existingPart(id).getStock() : existingProduct(id).getStock();
+        return new JsonWriter().beginObject().name("id").value(id).name("reserved").value(reserved)
+            .name("stock").value(stock).endObject().toString();
+    }
+
+    /**
+     * method to associate a part with a product or dissociate it
+     */
+    private String associate(int productId, int partId, boolean add) {
+        Product product = existingProduct(productId);
+        Part part = existingPart(partId);
+        if (add) {
+            product.addAssociatedPart(part);
+        } else if (!product.deleteAssociatedPart(part)) {
+            throw new NoSuchElementException("Part " + partId + " is not associated with product " + productId);
+        }
+        return product(product);
+    }
+
+    private String subassembly(int productId, int subassemblyId, boolean add) {
+        existingProduct(productId);
+        existingProduct(subassemblyId);
+        if (add) {
+            try {
+                inventory.addSubassembly(productId, subassemblyId);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException(e.getMessage());
+            }
+        } else if (!inventory.removeSubassembly(productId, subassemblyId)) {
+            throw new NoSuchElementException("Product " + subassemblyId + " is not a subassembly of product " + productId);
+        }
+        return productList(inventory.subassemblies(productId));
+    }
+
+    private Part readPart(int partId, Map<String, Object> body) {
+        String name = string(body, "name");
+        double price = number(body, "price");
+        int stock = integer(body, "stock");
+        int min = integer(body, "min");
+        int max = integer(body, "max");
+        Integer machineId = body.containsKey("machineId") ? integer(body, "machineId") : null;
+        String companyName = body.containsKey("companyName") ? string(body, "companyName") : null;
+        if (machineId != null && companyName != null) {
+            throw new IllegalArgumentException("A part has either a machineId or a companyName, not both");
+        }
+        String error = Validation.partError(machineId != null, companyName != null, name, stock, price, min, max,
+            machineId, companyName);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        return companyName != null
+            ? new Outsourced(partId, name, price, stock, min, max, companyName)
+            : new InHouse(partId, name, price, stock, min, max, machineId);
+    }
+
+    private Product readProduct(int productId, Map<String, Object> body, List<Part> currentParts) {
+        String name = string(body, "name");
+        double price = number(body, "price");
+        int stock = integer(body, "stock");
+        int min = integer(body, "min");
+        int max = integer(body, "max");
+        String error = Validation.productError(name, stock, price, min, max);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        Product product = new Product(productId, name, price, stock, min, max);
+        if (!body.containsKey("parts")) {
+            product.addAssociatedParts(currentParts);
+            return product;
+        }
+        if (!(body.get("parts") instanceof List)) {
+            throw new IllegalArgumentException("parts must be a list of part ids");
+        }
+        List<Part> associated = new ArrayList<>();
+        for (Object value : (List<?>) body.get("parts")) {
+            int partId = integer(value, "parts");
+            Part part = inventory.lookupPart(partId);
+            if (part == null) {
+                throw new IllegalArgumentException("There is no part with id " + partId);
+            }
+            associated.add(part);
+        }
+        product.addAssociatedParts(associated);
+        return product;
+    }
+
+    private Part existingPart(int partId) {
+        Part part = inventory.lookupPart(partId);
+        if (part == null) {
+            throw new NoSuchElementException("There is no part with id " + partId);
+        }
+        return part;
+    }
+
+    private Product existingProduct(int productId) {
+        Product product = inventory.lookupProduct(productId);
+        if (product == null) {
+            throw new NoSuchElementException("There is no product with id " + productId);
+        }
+        return product;
+    }
+
+    private static String part(Part part) {
+        JsonWriter json = new JsonWriter();
+        writePart(json, part);
+        return json.toString();
+    }
+
+    private static String product(Product product) {
+        JsonWriter json = new JsonWriter();
+        writeProduct(json, product);
+        return json.toString();
+    }
+
+    private static String partList(List<Part> parts) {
+        JsonWriter json = new JsonWriter().beginArray();
+        parts.forEach(part -> writePart(json, part));
+        return json.endArray().toString();
+    }
+
+    private static String productList(List<Product> products) {
+        JsonWriter json = new JsonWriter().beginArray();
+        products.forEach(product -> writeProduct(json, product));
+        return json.endArray().toString();
+    }
+
+    private static void writePart(JsonWriter json, Part part) {
+        json.beginObject()
+            .name("id").value(part.getId())
+            .name("name").value(part.getName())
+            .name("price").value(part.getPrice())
+            .name("stock").value(part.getStock())
+            .name("min").value(part.getMin())
+            .name("max").value(part.getMax());
+        if (part instanceof InHouse) {
+            json.name("machineId").value(((InHouse) part).getMachineId());
+        } else if (part instanceof Outsourced) {
+            json.name("companyName").value(((Outsourced) part).getCompanyName());
+        }
+        json.endObject();
+    }
+
+    private static void writeProduct(JsonWriter json, Product product) {
+        json.beginObject()
+            .name("id").value(product.getId())
+            .name("name").value(product.getName())
+            .name("price").value(product.getPrice())
+            .name("stock").value(product.getStock())
+            .name("min").value(product.getMin())
+            .name("max").value(product.getMax())
+            .name("parts").beginArray();
+        for (Part part : product.getAllAssociatedParts()) {
+            json.value(part.getId());
+        }
+        json.endArray().endObject();
+    }
+
+    private static <T> List<T> limit(List<T> items, Map<String, String> query) {
+        int limit = integer(query, "limit", DEFAULT_LIMIT, MAX_LIMIT);
+        return items.size() <= limit ? items : items.subList(0, limit);
+    }
+
+    private static String string(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException(name + " must be a string");
+        }
+        return (String) value;
+    }
+
+    private static double number(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (!(value instanceof Double)) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+        return (Double) value;
+    }
+
+    private static int integer(Map<String, Object> body, String name) {
+        return integer(body.get(name), name);
+    }
+
+    private static int integer(Object value, String name) {
+        if (!(value instanceof Double)) {
+            throw new IllegalArgumentException(name + " must be a whole number");
+        }
+        double number = (Double) value;
+        if (number != Math.rint(number) || number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(name + " must be a whole number");
+        }
+        return (int) number;
+    }
+
+    private static int integer(Map<String, String> query, String name, int defaultValue) {
+        return integer(query, name, defaultValue, Integer.MAX_VALUE);
+    }
+
+    private static int integer(Map<String, String> query, String name, int defaultValue, int max) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value);
+            if (number < 0) {
+                throw new IllegalArgumentException(name + " must not be negative");
+            }
+            return Math.min(number, max);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number");
+        }
+    }
+
+    private static int id(String segment) {
+        try {
+            return Integer.parseInt(segment);
+        } catch (NumberFormatException e) {
+            throw new NoSuchElementException("There is no item with id " + segment);
+        }
+    }
+
+    private static String[] segments(String path) {
+        String trimmed = path.replaceAll("^/+|/+$", "");
+        return trimmed.split("/+");
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> parameters = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        if (response.status == 405) {
+            exchange.getResponseHeaders().set("Allow", "GET, POST, PUT, DELETE");
+        }
+        if (response.body == null) {
+            exchange.sendResponseHeaders(response.status, -1);
+            return;
+        }
+        byte[] bytes = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Response class is the status and JSON body of a response
+     */
+    private static final class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        private static Response ok(String body) {
+            return new Response(200, body);
+        }
+
+        private static Response created(String body) {
+            return new Response(201, body);
+        }
+
+        private static Response noContent() {
+            return new Response(204, null);
+        }
+
+        private static Response notAllowed() {
+            return error(405, "Method not allowed");
+        }
+
+        private static Response error(int status, String message) {
+            return new Response(status, new JsonWriter().beginObject().name("error").value(message).endObject().toString());
+        }
+    }
+}
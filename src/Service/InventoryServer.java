@@ -0,0 +1,139 @@
+package Service;
+
+import Main.Inventory;
+import Persistence.Journal;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * InventoryServer class serves an Inventory over HTTP with the server built into the JDK
+ * every request runs on its own virtual thread when the JDK has them (Java 21 and later),
+ * otherwise on a cached pool of platform threads. the build targets Java 11, so the virtual thread
+ * executor is looked up by reflection. the endpoints are listed in InventoryHandler.
+ *
+ * run it headless, without the JavaFX window, e.g.
+ *   java -cp target/InventoryManagement-1.0.0.jar Service.InventoryServer 8080
+ * the inventory is restored from and journaled to the same data directory as the application
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class InventoryServer {
+    /* connections waiting to be accepted, bursts of thousands of clients are expected */
+    private static final int BACKLOG = 16_384;
+
+    static {
+        // the JDK server writes the headers and the body of a response separately, with Nagle's algorithm
+        // the body then waits for the client's delayed ack, about 40 ms on every keep-alive request
+        defaultProperty("sun.net.httpserver.nodelay", "true");
+        // by default it closes all but 200 idle keep-alive connections, so busy clients keep reconnecting
+        defaultProperty("sun.net.httpserver.maxIdleConnections", Integer.toString(BACKLOG));
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+
+    /**
+     * InventoryServer constructor, the server is bound but not started
+     * @param inventory the inventory to serve
+     * @param address the address to listen on, port 0 picks a free port
+     * @throws IOException if the address cannot be bound
+     */
+    public InventoryServer(Inventory inventory, InetSocketAddress address) throws IOException {
+        ExecutorService virtual = virtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-request");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(address, BACKLOG);
+        InventoryHandler handler = new InventoryHandler(inventory);
+        server.createContext("/parts", handler);
+        server.createContext("/products", handler);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * start answering requests
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * stop the server, waiting for the requests in progress
+     * @param delaySeconds the most seconds to wait
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /**
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return true if requests run on virtual threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * method to get an executor that starts a virtual thread per task
+     * @return the executor, or null when the JDK has no virtual threads
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // before Java 21, or a preview release with virtual threads turned off
+            return null;
+        }
+    }
+
+    private static void defaultProperty(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+
+    /**
+     * start the service
+     * @param args the port to listen on, 8080 when not given
+     * @throws IOException if the journal cannot be opened or the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("inventory.port", 8080);
+        Path dataDirectory = Paths.get(System.getProperty("inventory.data", "inventory-data"));
+        Inventory inventory = new Inventory();
+        Journal journal = Journal.open(dataDirectory, inventory);
+        InventoryServer server = new InventoryServer(inventory, new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.err.println("The inventory could not be saved. " + e.getMessage());
+            }
+        }, "inventory-shutdown"));
+        server.start();
+        System.out.println("Inventory service listening on port " + server.getPort() + " with "
+            + inventory.partCount() + " parts and " + inventory.productCount() + " products, requests run on "
+            + (server.usesVirtualThreads() ? "virtual threads" : "a thread pool"));
+    }
+}
@@ -0,0 +1,153 @@
+package Service;
+
+/**
+ * JsonWriter class builds a JSON document in a StringBuilder
+ * commas are put in from what was written last, so callers only open, name and close
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+public class JsonWriter {
+    private final StringBuilder out = new StringBuilder(256);
+
+    /**
+     * @return this writer
+     */
+    public JsonWriter beginObject() {
+        separate();
+        out.append('{');
+        return this;
+    }
+
+    /**
+     * @return this writer
+     */
+    public JsonWriter endObject() {
+        out.append('}');
+        return this;
+    }
+
+    /**
+     * @return this writer
+     */
+    public JsonWriter beginArray() {
+        separate();
+        out.append('[');
+        return this;
+    }
+
+    /**
+     * @return this writer
+     */
+    public JsonWriter endArray() {
+        out.append(']');
+        return this;
+    }
+
+    /**
+     * start a member of the current object, the value is written next
+     * @param name the member name
+     * @return this writer
+     */
+    public JsonWriter name(String name) {
+        value(name);
+        out.append(':');
+        return this;
+    }
+
+    /**
+     * @param value a string, null is written as null
+     * @return this writer
+     */
+    public JsonWriter value(String value) {
+        separate();
+        if (value == null) {
+            out.append("null");
+            return this;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+        return this;
+    }
+
+    /**
+     * @param value a number
+     * @return this writer
+     */
+    public JsonWriter value(long value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * @param value a number, NaN and infinities are written as null
+     * @return this writer
+     */
+    public JsonWriter value(double value) {
+        separate();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append("null");
+        } else {
+            out.append(value);
+        }
+        return this;
+    }
+
+    /**
+     * @param value a boolean
+     * @return this writer
+     */
+    public JsonWriter value(boolean value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * @return the document written so far
+     */
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    /**
+     * method to put in a comma unless the value starts a document, an object, an array or follows a name
+     */
+    private void separate() {
+        if (out.length() == 0) {
+            return;
+        }
+        char last = out.charAt(out.length() - 1);
+        if (last != '{' && last != '[' && last != ':') {
+            out.append(',');
+        }
+    }
+}
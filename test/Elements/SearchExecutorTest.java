@@ -0,0 +1,98 @@
+package Elements;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * SearchExecutorTest checks that a query extending the previous one narrows its result instead of searching again
+ * the results are published on the search thread, there is no FX toolkit in the tests
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class SearchExecutorTest {
+  private final ObservableList<String> allItems =
+    FXCollections.observableArrayList("Brake Pad", "Brake Cable", "Wheel", "Front Brake", "Seat");
+  private final AtomicInteger nameLookups = new AtomicInteger();
+  private final BlockingQueue<ObservableList<String>> published = new LinkedBlockingQueue<>();
+  private final SearchExecutor<String> search = new SearchExecutor<>(allItems,
+    id -> id < allItems.size() ? allItems.get(id) : null, this::lookup, name -> name, published::add, Runnable::run);
+
+  @Test
+  void longerQueryNarrowsThePreviousResult() throws InterruptedException {
+    search.search("brake");
+    assertEquals(List.of("Brake Pad", "Brake Cable", "Front Brake"), next());
+    search.search("brake c");
+    assertEquals(List.of("Brake Cable"), next());
+    assertEquals(1, nameLookups.get());
+
+    // not an extension of the last query, so the inventory is searched again
+    search.search("seat");
+    assertEquals(List.of("Seat"), next());
+    assertEquals(2, nameLookups.get());
+  }
+
+  @Test
+  void changedItemsAreSearchedAgain() throws InterruptedException {
+    search.search("brake");
+    assertEquals(3, next().size());
+
+    // the shown query is looked up again rather than narrowed from the result cached before the edit
+    allItems.add("Rear Brake");
+    assertEquals(List.of("Brake Pad", "Brake Cable", "Front Brake", "Rear Brake"), next());
+    assertEquals(2, nameLookups.get());
+    search.search("r brake");
+    assertEquals(List.of("Rear Brake"), next());
+    assertEquals(2, nameLookups.get());
+  }
+
+  @Test
+  void numbersAndEmptyQueries() throws InterruptedException {
+    search.search("2");
+    assertEquals(List.of("Wheel"), next());
+    search.search("99");
+    assertEquals(List.of(), next());
+    search.search("");
+    assertSame(allItems, published.poll(5, TimeUnit.SECONDS));
+    assertEquals(0, nameLookups.get());
+  }
+
+  @Test
+  void publishedResultIsACopy() throws InterruptedException {
+    search.search("brake");
+    ObservableList<String> first = next();
+    first.sort(null);
+    search.search("brake ");
+    ObservableList<String> second = next();
+
+    // sorting the shown list did not reorder the cached result the second query narrowed
+    assertEquals(List.of("Brake Pad", "Brake Cable"), second);
+    assertNotSame(first, second);
+  }
+
+  private List<String> lookup(String query) {
+    nameLookups.incrementAndGet();
+    String lowerQuery = query.toLowerCase();
+    return allItems.stream().filter(name -> name.toLowerCase().contains(lowerQuery)).collect(Collectors.toList());
+  }
+
+  private ObservableList<String> next() throws InterruptedException {
+    ObservableList<String> result = published.poll(5, TimeUnit.SECONDS);
+    if (result == null) {
+      throw new AssertionError("no result was published");
+    }
+    return result;
+  }
+}
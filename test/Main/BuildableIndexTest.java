@@ -0,0 +1,100 @@
+package Main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * BuildableIndexTest works out the units that can be built from part stock, through subassemblies
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class BuildableIndexTest {
+
+    @Test
+    void unitsAreTheLowestPartStock() {
+        Inventory inventory = catalog();
+        inventory.addProduct(new Product(12, "Empty", 1.00, 0, 0, 10));
+        BuildableIndex index = inventory.getBuildableIndex();
+
+        assertEquals(7, index.buildable(10));
+        assertEquals(9, index.buildable(11));
+        assertEquals(0, index.buildable(12));
+        assertThrows(NoSuchElementException.class, () -> index.buildable(99));
+
+        inventory.adjustPartStock(2, -5);
+        assertEquals(2, index.buildable(10));
+        assertEquals(9, index.buildable(11));
+    }
+
+    @Test
+    void subassembliesNeedTheirOwnParts() {
+        Inventory inventory = catalog();
+        BuildableIndex index = inventory.getBuildableIndex();
+
+        inventory.addSubassembly(11, 10);
+        // the cart and the wheel both take a bolt, so a cart needs two of the 10
+        assertEquals(5, index.buildable(11));
+
+        inventory.addProduct(new Product(12, "Trailer", 50.00, 0, 0, 10));
+        inventory.addSubassembly(12, 11);
+        assertEquals(5, index.buildable(12));
+
+        // a stock change two levels down reaches the top
+        inventory.adjustPartStock(2, -5);
+        assertEquals(2, index.buildable(12));
+
+        inventory.removeSubassembly(11, 10);
+        assertEquals(9, index.buildable(11));
+        assertEquals(9, index.buildable(12));
+    }
+
+    @Test
+    void indexBuiltLaterSeesExistingSubassemblies() {
+        Inventory inventory = catalog();
+        inventory.addSubassembly(11, 10);
+
+        assertEquals(5, inventory.getBuildableIndex().buildable(11));
+    }
+
+    @Test
+    void partChangesAreFollowed() {
+        Inventory inventory = catalog();
+        BuildableIndex index = inventory.getBuildableIndex();
+        inventory.addSubassembly(11, 10);
+
+        // without the bolt of the wheel a cart needs one bolt, one gear and one nut
+        inventory.lookupProduct(10).deleteAssociatedPart(inventory.lookupPart(1));
+        assertEquals(7, index.buildable(11));
+
+        inventory.updatePart(3, new Part(3, "Gear", 5.00, 4, 0, 100));
+        assertEquals(4, index.buildable(11));
+
+        inventory.removeSubassembly(11, 10);
+        inventory.deleteProduct(inventory.lookupProduct(10));
+        assertEquals(1, index.size());
+        assertThrows(NoSuchElementException.class, () -> index.buildable(10));
+    }
+
+    /**
+     * a wheel of a bolt and a nut, and a cart of a bolt and a gear
+     */
+    private static Inventory catalog() {
+        Inventory inventory = new Inventory();
+        inventory.addPart(new Part(1, "Bolt", 1.00, 10, 0, 100));
+        inventory.addPart(new Part(2, "Nut", 2.00, 7, 0, 100));
+        inventory.addPart(new Part(3, "Gear", 5.00, 9, 0, 100));
+        Product wheel = new Product(10, "Wheel", 5.00, 0, 0, 10);
+        wheel.addAssociatedParts(List.of(inventory.lookupPart(1), inventory.lookupPart(2)));
+        inventory.addProduct(wheel);
+        Product cart = new Product(11, "Cart", 100.00, 0, 0, 10);
+        cart.addAssociatedParts(List.of(inventory.lookupPart(1), inventory.lookupPart(3)));
+        inventory.addProduct(cart);
+        return inventory;
+    }
+}
@@ -0,0 +1,93 @@
+package Main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * CostRollupTest rolls part prices up through subassemblies and checks that changes below a product reach it
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class CostRollupTest {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void costsIncludeSubassemblies() {
+        Inventory inventory = catalog();
+        CostRollup rollup = inventory.getCostRollup();
+
+        assertEquals(3.00, rollup.cost(10), DELTA);
+        assertEquals(6.00, rollup.cost(11), DELTA);
+        inventory.addSubassembly(11, 10);
+        assertEquals(9.00, rollup.cost(11), DELTA);
+        assertEquals(91.00, rollup.margin(11), DELTA);
+        assertThrows(NoSuchElementException.class, () -> rollup.cost(99));
+    }
+
+    @Test
+    void priceChangeReachesEveryProductAbove() {
+        Inventory inventory = catalog();
+        inventory.addSubassembly(11, 10);
+        inventory.addProduct(new Product(12, "Trailer", 50.00, 0, 0, 10));
+        inventory.addSubassembly(12, 11);
+        CostRollup rollup = inventory.getCostRollup();
+        assertEquals(9.00, rollup.cost(12), DELTA);
+
+        inventory.updatePart(2, new Part(2, "Nut", 12.00, 7, 0, 100));
+
+        assertEquals(13.00, rollup.cost(10), DELTA);
+        assertEquals(19.00, rollup.cost(11), DELTA);
+        assertEquals(19.00, rollup.cost(12), DELTA);
+    }
+
+    @Test
+    void removingASubassemblyDropsItsCost() {
+        Inventory inventory = catalog();
+        CostRollup rollup = inventory.getCostRollup();
+        inventory.addSubassembly(11, 10);
+        assertEquals(9.00, rollup.cost(11), DELTA);
+
+        inventory.removeSubassembly(11, 10);
+        assertEquals(6.00, rollup.cost(11), DELTA);
+
+        Product cart = inventory.lookupProduct(11);
+        cart.deleteAssociatedPart(inventory.lookupPart(3));
+        assertEquals(1.00, rollup.cost(11), DELTA);
+    }
+
+    @Test
+    void marginReportIsLowestFirst() {
+        Inventory inventory = catalog();
+        inventory.addSubassembly(11, 10);
+
+        List<CostRollup.Margin> report = inventory.getCostRollup().marginReport();
+
+        assertEquals(2, report.size());
+        assertEquals(10, report.get(0).getProductId());
+        assertEquals(2.00, report.get(0).getMargin(), DELTA);
+        assertEquals(11, report.get(1).getProductId());
+    }
+
+    /**
+     * a wheel of a bolt and a nut, and a cart of a bolt and a gear
+     */
+    private static Inventory catalog() {
+        Inventory inventory = new Inventory();
+        inventory.addPart(new Part(1, "Bolt", 1.00, 10, 0, 100));
+        inventory.addPart(new Part(2, "Nut", 2.00, 7, 0, 100));
+        inventory.addPart(new Part(3, "Gear", 5.00, 9, 0, 100));
+        Product wheel = new Product(10, "Wheel", 5.00, 0, 0, 10);
+        wheel.addAssociatedParts(List.of(inventory.lookupPart(1), inventory.lookupPart(2)));
+        inventory.addProduct(wheel);
+        Product cart = new Product(11, "Cart", 100.00, 0, 0, 10);
+        cart.addAssociatedParts(List.of(inventory.lookupPart(1), inventory.lookupPart(3)));
+        inventory.addProduct(cart);
+        return inventory;
+    }
+}
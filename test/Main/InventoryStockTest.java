@@ -0,0 +1,93 @@
+package Main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * InventoryStockTest adjusts and reserves stock up to min and max
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class InventoryStockTest {
+
+    @Test
+    void adjustStopsAtMinAndMax() {
+        Inventory inventory = new Inventory();
+        inventory.addPart(new Part(1, "Bolt", 0.10, 5, 1, 10));
+
+        assertEquals(1, inventory.adjustPartStock(1, -4));
+        assertThrows(IllegalArgumentException.class, () -> inventory.adjustPartStock(1, -1));
+        assertEquals(1, inventory.lookupPart(1).getStock());
+        assertEquals(10, inventory.adjustPartStock(1, 9));
+        assertThrows(IllegalArgumentException.class, () -> inventory.adjustPartStock(1, 1));
+        assertEquals(10, inventory.lookupPart(1).getStock());
+        assertThrows(NoSuchElementException.class, () -> inventory.adjustPartStock(2, 1));
+    }
+
+    @Test
+    void adjustProductStopsAtMinAndMax() {
+        Inventory inventory = new Inventory();
+        inventory.addProduct(new Product(1, "Bike", 100.00, 2, 2, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> inventory.adjustProductStock(1, -1));
+        assertEquals(3, inventory.adjustProductStock(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> inventory.adjustProductStock(1, 1));
+        assertEquals(3, inventory.lookupProduct(1).getStock());
+    }
+
+    @Test
+    void reserveLeavesMinInStock() {
+        Inventory inventory = new Inventory();
+        inventory.addPart(new Part(1, "Bolt", 0.10, 5, 1, 10));
+        inventory.addProduct(new Product(1, "Bike", 100.00, 3, 0, 5));
+
+        assertFalse(inventory.tryReservePart(1, 5));
+        assertEquals(5, inventory.lookupPart(1).getStock());
+        assertTrue(inventory.tryReservePart(1, 4));
+        assertEquals(1, inventory.lookupPart(1).getStock());
+        assertFalse(inventory.tryReservePart(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> inventory.tryReservePart(1, 0));
+        assertTrue(inventory.tryReserveProduct(1, 3));
+        assertFalse(inventory.tryReserveProduct(1, 1));
+        assertEquals(0, inventory.lookupProduct(1).getStock());
+    }
+
+    @Test
+    void concurrentReservesNeverPassMin() throws Exception {
+        Inventory inventory = new Inventory();
+        inventory.addPart(new Part(1, "Bolt", 0.10, 10_000, 100, 10_000));
+        AtomicInteger reserved = new AtomicInteger();
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                done.add(threads.submit(() -> {
+                    while (inventory.tryReservePart(1, 1)) {
+                        reserved.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : done) {
+                future.get();
+            }
+        } finally {
+            threads.shutdown();
+        }
+
+        assertEquals(9_900, reserved.get());
+        assertEquals(100, inventory.lookupPart(1).getStock());
+    }
+}
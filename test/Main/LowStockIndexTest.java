@@ -0,0 +1,75 @@
+package Main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * LowStockIndexTest orders items by headroom and reports when they cross their min
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class LowStockIndexTest {
+
+    @Test
+    void mostCriticalComesFirst() {
+        LowStockIndex index = new LowStockIndex();
+        index.put(1, 5);
+        index.put(2, 0);
+        index.put(3, 2);
+        index.put(4, 2);
+        index.put(5, -1);
+
+        assertArrayEquals(new int[] {5, 2, 3}, index.mostCritical(3));
+        assertArrayEquals(new int[] {5, 2}, index.atOrBelowMin());
+        assertEquals(2, index.countAtOrBelowMin());
+        index.put(1, -3);
+        index.remove(5);
+        assertArrayEquals(new int[] {1, 2, 3, 4}, index.mostCritical(10));
+        assertEquals(4, index.size());
+        assertEquals(-3, index.headroom(1));
+        assertThrows(NoSuchElementException.class, () -> index.headroom(5));
+    }
+
+    @Test
+    void listenersHearOnlyCrossings() {
+        LowStockIndex index = new LowStockIndex();
+        List<String> heard = new ArrayList<>();
+        index.addListener((id, low) -> heard.add(id + (low ? " low" : " ok")));
+
+        index.put(1, 3);
+        index.put(1, 0);
+        index.put(1, -2);
+        index.put(1, 1);
+        index.put(2, 0);
+        index.remove(2);
+        index.put(3, 0);
+        index.remove(3);
+
+        assertEquals(List.of("1 low", "1 ok", "2 low", "2 ok", "3 low", "3 ok"), heard);
+        assertEquals(0, index.countAtOrBelowMin());
+    }
+
+    @Test
+    void inventoryStockChangesMoveParts() {
+        Inventory inventory = new Inventory();
+        inventory.addPart(new Part(1, "Bolt", 0.10, 5, 1, 10));
+        inventory.addPart(new Part(2, "Nut", 0.10, 3, 1, 10));
+        LowStockIndex lowStock = inventory.getLowStockParts();
+
+        assertArrayEquals(new int[] {2, 1}, lowStock.mostCritical(2));
+        inventory.adjustPartStock(1, -4);
+        assertArrayEquals(new int[] {1}, lowStock.atOrBelowMin());
+        inventory.updatePart(2, new Part(2, "Nut", 0.10, 1, 1, 10));
+        assertArrayEquals(new int[] {1, 2}, lowStock.atOrBelowMin());
+        inventory.deletePart(inventory.lookupPart(1));
+        assertArrayEquals(new int[] {2}, lowStock.atOrBelowMin());
+    }
+}
@@ -0,0 +1,80 @@
+package Main;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * NGramIndexTest adds, renames and removes names and searches them by substring
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class NGramIndexTest {
+
+    @Test
+    void findsSubstringsIgnoringCase() {
+        NGramIndex index = new NGramIndex();
+        index.add(1, "Brake Pad");
+        index.add(2, "Wheel");
+        index.add(3, "Front BRAKE");
+
+        assertArrayEquals(new int[] {1, 3}, index.search("brake"));
+        assertArrayEquals(new int[] {1, 3}, index.search("BrAkE"));
+        assertArrayEquals(new int[] {2}, index.search("heel"));
+        assertArrayEquals(new int[0], index.search("chain"));
+        // shorter than a trigram, answered by a scan
+        assertArrayEquals(new int[] {1, 3}, index.search("br"));
+        assertArrayEquals(new int[] {1, 2, 3}, index.search(""));
+    }
+
+    @Test
+    void trigramsMustBeAdjacent() {
+        NGramIndex index = new NGramIndex();
+        // has both trigrams of "abcd" but not the query itself
+        index.add(1, "abc-bcd");
+        index.add(2, "xabcdx");
+
+        assertArrayEquals(new int[] {2}, index.search("abcd"));
+    }
+
+    @Test
+    void updateReplacesTheOldName() {
+        NGramIndex index = new NGramIndex();
+        index.add(1, "Brake Pad");
+        index.add(1, "Wheel");
+
+        assertArrayEquals(new int[0], index.search("brake"));
+        assertArrayEquals(new int[] {1}, index.search("whe"));
+        assertEquals("Wheel", index.name(1));
+    }
+
+    @Test
+    void removedIdsAreNotFound() {
+        NGramIndex index = new NGramIndex();
+        for (int id = 0; id < 10; id++) {
+            index.add(id, "Spoke " + id);
+        }
+        index.remove(3);
+        index.removeAll(new int[] {7, 1, 42});
+
+        assertArrayEquals(new int[] {0, 2, 4, 5, 6, 8, 9}, index.search("spoke"));
+        assertNull(index.name(3));
+        assertNull(index.name(7));
+    }
+
+    @Test
+    void intersectsListsOfDifferentLengths() {
+        NGramIndex index = new NGramIndex();
+        // ids added out of order, and a common trigram next to a rare one
+        for (int id = 999; id >= 0; id--) {
+            index.add(id, (id % 100 == 0 ? "Sprocket " : "Seat ") + id);
+        }
+
+        assertArrayEquals(new int[] {0, 100, 200, 300, 400, 500, 600, 700, 800, 900}, index.search("sprocket"));
+        assertArrayEquals(new int[] {500}, index.search("sprocket 500"));
+        assertArrayEquals(new int[] {501}, index.search("seat 501"));
+    }
+}
@@ -0,0 +1,72 @@
+package Main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * NameOrderTest keeps ids sorted by name across many blocks and reads pages from both ends
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class NameOrderTest {
+    private static final String[] WORDS = {"Brake", "Wheel", "Seat", "Chain", "Pedal", "Spoke", "brake", "Zeta"};
+
+    @Test
+    void pagesMatchASortedCopy() {
+        NameOrder order = new NameOrder();
+        String[] names = new String[3_000];
+        Random random = new Random(11);
+        for (int id = 0; id < names.length; id++) {
+            names[id] = WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(50);
+            order.put(id, names[id]);
+        }
+        // rename some ids and remove others
+        for (int id = 0; id < names.length; id += 4) {
+            names[id] = WORDS[random.nextInt(WORDS.length)];
+            order.put(id, names[id]);
+        }
+        for (int id = 2; id < names.length; id += 7) {
+            order.remove(id);
+            names[id] = null;
+        }
+        int[] sorted = IntStream.range(0, names.length).filter(id -> names[id] != null).boxed()
+            .sorted(Comparator.<Integer, String>comparing(id -> names[id]).thenComparingInt(id -> id))
+            .mapToInt(Integer::intValue).toArray();
+
+        assertEquals(sorted.length, order.size());
+        assertArrayEquals(sorted, order.page(0, sorted.length, false));
+        int[] descending = order.page(0, sorted.length, true);
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(sorted[sorted.length - 1 - i], descending[i]);
+        }
+        assertArrayEquals(Arrays.copyOfRange(sorted, 1000, 1050), order.page(1000, 50, false));
+        assertEquals(5, order.page(sorted.length - 5, 50, false).length);
+    }
+
+    @Test
+    void namesCompareLikeATableColumn() {
+        NameOrder order = new NameOrder();
+        order.put(3, "wheel");
+        order.put(1, "Wheel");
+        order.put(2, "Brake");
+        order.put(4, "Wheel");
+
+        // String.compareTo, so upper case sorts first, ties in id order
+        assertArrayEquals(new int[] {2, 1, 4, 3}, order.page(0, 10, false));
+        order.put(2, "zebra");
+        assertArrayEquals(new int[] {1, 4, 3, 2}, order.page(0, 10, false));
+        assertFalse(order.remove(9));
+        assertArrayEquals(new int[0], order.page(4, 10, false));
+        assertThrows(IndexOutOfBoundsException.class, () -> order.page(-1, 10, false));
+    }
+}
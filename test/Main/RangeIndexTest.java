@@ -0,0 +1,91 @@
+package Main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * RangeIndexTest keeps ids sorted by value across many blocks and compares every query with a sort
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class RangeIndexTest {
+    private static final int COUNT = 5_000;
+
+    @Test
+    void queriesMatchASortedCopy() {
+        RangeIndex index = new RangeIndex();
+        double[] values = new double[COUNT];
+        Random random = new Random(7);
+        for (int id = 0; id < COUNT; id++) {
+            values[id] = random.nextInt(100) / 4.0;
+            index.put(id, values[id]);
+        }
+        // move some ids and remove others, so blocks split and join
+        for (int id = 0; id < COUNT; id += 3) {
+            values[id] = random.nextInt(100) / 4.0;
+            index.put(id, values[id]);
+        }
+        for (int id = 1; id < COUNT; id += 5) {
+            index.remove(id);
+            values[id] = Double.NaN;
+        }
+        int[] sorted = sorted(values);
+
+        assertEquals(sorted.length, index.size());
+        assertArrayEquals(Arrays.copyOf(sorted, 10), index.lowest(10));
+        assertArrayEquals(reverse(Arrays.copyOfRange(sorted, sorted.length - 10, sorted.length)), index.highest(10));
+        assertArrayEquals(Arrays.copyOfRange(sorted, 600, 700), index.page(600, 100, false));
+        assertArrayEquals(reverse(Arrays.copyOfRange(sorted, sorted.length - 700, sorted.length - 600)),
+            index.page(600, 100, true));
+        int[] inRange = Arrays.stream(sorted).filter(id -> values[id] >= 5.0 && values[id] <= 7.5).toArray();
+        assertArrayEquals(inRange, index.range(5.0, 7.5, Integer.MAX_VALUE));
+        assertArrayEquals(Arrays.copyOf(inRange, 20), index.range(5.0, 7.5, 20));
+        int[] candidates = IntStream.range(0, 200).toArray();
+        assertArrayEquals(Arrays.stream(inRange).filter(id -> id < 200).toArray(), index.filter(candidates, 5.0, 7.5));
+    }
+
+    @Test
+    void tiesAreInIdOrderAndRemovedIdsAreGone() {
+        RangeIndex index = new RangeIndex();
+        index.put(3, 1.5);
+        index.put(1, 1.5);
+        index.put(2, -0.5);
+        index.put(4, 9.0);
+
+        assertArrayEquals(new int[] {2, 1, 3, 4}, index.lowest(10));
+        assertEquals(1.5, index.valueOf(3));
+        index.put(3, 10.0);
+        assertArrayEquals(new int[] {3, 4}, index.highest(2));
+        assertArrayEquals(new int[] {1}, index.range(0, 2, 10));
+        assertFalse(index.remove(7));
+        index.remove(1);
+        assertArrayEquals(new int[0], index.range(0, 2, 10));
+    }
+
+    /**
+     * @param values value of every id, NaN for a removed id
+     * @return the ids by value, ties in id order
+     */
+    private static int[] sorted(double[] values) {
+        return IntStream.range(0, values.length).filter(id -> !Double.isNaN(values[id])).boxed()
+            .sorted(Comparator.<Integer>comparingDouble(id -> values[id]).thenComparingInt(id -> id))
+            .mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] reverse(int[] ids) {
+        int[] reversed = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            reversed[i] = ids[ids.length - 1 - i];
+        }
+        return reversed;
+    }
+}
@@ -0,0 +1,66 @@
+package Persistence;
+
+import Main.InHouse;
+import Main.Inventory;
+import Main.Outsourced;
+import Main.Part;
+import Main.Product;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CatalogCsvTest exports a catalog to CSV and imports it into an empty inventory
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class CatalogCsvTest {
+
+    @Test
+    void exportedCatalogImportsAgain() throws IOException {
+        Inventory inventory = new Inventory();
+        // the parts the application starts with have no source
+        inventory.addPart(new Part(1, "Brakes", 15.00, 10, 1, 10));
+        inventory.addPart(new Part(2, "Wheel", 11.00, 16, 1, 20));
+        inventory.addPart(new InHouse(3, "Seat", 15.00, 10, 1, 10, 1234));
+        inventory.addPart(new Outsourced(4, "Chain, 9 speed", 24.50, 4, 0, 8, "Acme \"Cycles\""));
+        Product bike = new Product(1000, "Giant Bike", 299.99, 5, 1, 10);
+        bike.addAssociatedParts(List.of(inventory.lookupPart(1), inventory.lookupPart(2), inventory.lookupPart(4)));
+        inventory.addProduct(bike);
+        inventory.addProduct(new Product(1001, "Tricyle", 99.99, 3, 1, 5));
+
+        Inventory imported = new Inventory();
+        CatalogCsv.Report parts = CatalogCsv.importParts(imported, new StringReader(exportParts(inventory)));
+        CatalogCsv.Report products = CatalogCsv.importProducts(imported, new StringReader(exportProducts(inventory)));
+
+        assertEquals(4, parts.getAccepted(), parts.getErrors().toString());
+        assertEquals(0, parts.getRejected(), parts.getErrors().toString());
+        assertEquals(2, products.getAccepted(), products.getErrors().toString());
+        assertEquals(0, products.getRejected(), products.getErrors().toString());
+        // exporting the imported catalog gives the same files
+        assertEquals(exportParts(inventory), exportParts(imported));
+        assertEquals(exportProducts(inventory), exportProducts(imported));
+        assertEquals(Part.class, imported.lookupPart(1).getClass());
+        assertTrue(imported.lookupPart(3) instanceof InHouse);
+        assertEquals("Acme \"Cycles\"", ((Outsourced) imported.lookupPart(4)).getCompanyName());
+    }
+
+    private static String exportParts(Inventory inventory) throws IOException {
+        StringWriter out = new StringWriter();
+        CatalogCsv.exportParts(inventory, out);
+        return out.toString();
+    }
+
+    private static String exportProducts(Inventory inventory) throws IOException {
+        StringWriter out = new StringWriter();
+        CatalogCsv.exportProducts(inventory, out);
+        return out.toString();
+    }
+}
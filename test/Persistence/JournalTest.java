@@ -0,0 +1,176 @@
+package Persistence;
+
+import Main.InHouse;
+import Main.Inventory;
+import Main.Outsourced;
+import Main.Part;
+import Main.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JournalTest records inventory changes and restores them from the snapshot and the journal segments,
+ * including segments cut off by a crash or with a damaged record
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class JournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void restoresTheSnapshotAndTheSegmentAfterIt() throws IOException {
+        Inventory inventory = new Inventory();
+        Journal journal = Journal.open(directory, inventory);
+        try {
+            assertFalse(journal.wasRestored());
+            populate(inventory);
+            journal.snapshot();
+            // changes after the snapshot are only in the new segment
+            inventory.updatePart(1, new Outsourced(1, "Brakes", 16.00, 9, 1, 10, "Acme"));
+            inventory.adjustPartStock(3, -3);
+            inventory.removeSubassembly(1001, 1000);
+            inventory.deleteProduct(inventory.lookupProduct(1001));
+            inventory.addPart(new Part(4, "Spoke", 0.50, 40, 10, 100));
+            journal.sync();
+
+            Inventory restored = new Inventory();
+            Journal reopened = Journal.open(directory, restored);
+            assertTrue(reopened.wasRestored());
+            reopened.close();
+            assertEquals(describe(inventory), describe(restored));
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Test
+    void closeLeavesASnapshotToStartFrom() throws IOException {
+        Inventory inventory = new Inventory();
+        Journal journal = Journal.open(directory, inventory);
+        populate(inventory);
+        journal.close();
+
+        Inventory restored = new Inventory();
+        Journal.open(directory, restored).close();
+        assertEquals(describe(inventory), describe(restored));
+        assertEquals(1, files("snapshot-").count());
+    }
+
+    @Test
+    void tornTailIsCutOff() throws IOException {
+        Inventory inventory = new Inventory();
+        Journal journal = Journal.open(directory, inventory);
+        Path crashed = Files.createDirectory(directory.resolve("crashed"));
+        try {
+            populate(inventory);
+            journal.sync();
+            Path segment = files("journal-").findFirst().orElseThrow();
+            long size = Files.size(segment);
+            // a crash in the middle of a write leaves half a record: a length, a checksum and part of the body
+            Path copy = Files.copy(segment, crashed.resolve(segment.getFileName()));
+            Files.write(copy, new byte[] {0, 0, 0, 40, 1, 2, 3, 4, 1, 0}, StandardOpenOption.APPEND);
+
+            Inventory restored = new Inventory();
+            Journal.open(crashed, restored).close();
+            assertEquals(describe(inventory), describe(restored));
+            assertEquals(size, Files.size(copy));
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Test
+    void replayStopsAtADamagedRecord() throws IOException {
+        Inventory inventory = new Inventory();
+        Journal journal = Journal.open(directory, inventory);
+        try {
+            populate(inventory);
+            inventory.addPart(new Part(99, "Last", 1.00, 1, 0, 10));
+            journal.sync();
+            Path segment = files("journal-").findFirst().orElseThrow();
+            byte[] bytes = Files.readAllBytes(segment);
+            // flip a bit in the body of the last record, its checksum no longer matches
+            bytes[bytes.length - 2] ^= 1;
+            Path damaged = Files.write(directory.resolve("damaged.log"), bytes);
+
+            Inventory restored = new Inventory();
+            long valid = Journal.replay(damaged, restored);
+
+            assertTrue(valid < bytes.length);
+            assertNull(restored.lookupPart(99));
+            assertNotNull(restored.lookupPart(3));
+            assertEquals(1, restored.subassemblies(1001).size());
+        } finally {
+            journal.close();
+        }
+    }
+
+    /**
+     * make one change of every kind the journal records
+     */
+    private static void populate(Inventory inventory) {
+        inventory.addPart(new Part(1, "Brakes", 15.00, 10, 1, 10));
+        inventory.addPart(new InHouse(2, "Seat", 15.00, 10, 1, 10, 1234));
+        inventory.addPart(new Outsourced(3, "Chain", 24.50, 4, 0, 8, "Acme"));
+        Product bike = new Product(1000, "Giant Bike", 299.99, 5, 1, 10);
+        bike.addAssociatedPart(inventory.lookupPart(1));
+        inventory.addProduct(bike);
+        inventory.addProduct(new Product(1001, "Tandem", 499.99, 2, 1, 10));
+        inventory.addProduct(new Product(1002, "Tricycle", 99.99, 3, 1, 5));
+        bike.addAssociatedPart(inventory.lookupPart(3));
+        bike.addAssociatedPart(inventory.lookupPart(2));
+        bike.deleteAssociatedPart(inventory.lookupPart(2));
+        inventory.addSubassembly(1001, 1000);
+        inventory.updateProduct(1002, new Product(1002, "Trike", 89.99, 3, 1, 5));
+        inventory.adjustPartStock(1, -2);
+        inventory.adjustProductStock(1000, 1);
+        inventory.deletePart(inventory.lookupPart(2));
+    }
+
+    /**
+     * @return every part, product, association and subassembly of the inventory as text
+     */
+    private static String describe(Inventory inventory) {
+        StringBuilder text = new StringBuilder();
+        for (Part part : inventory.copyParts()) {
+            text.append(part.getClass().getSimpleName()).append(' ').append(part.getId()).append(' ')
+                .append(part.getName()).append(' ').append(part.getPrice()).append(' ').append(part.getStock())
+                .append(' ').append(part.getMin()).append(' ').append(part.getMax());
+            if (part instanceof Outsourced) {
+                text.append(' ').append(((Outsourced) part).getCompanyName());
+            }
+            text.append('\n');
+        }
+        for (Product product : inventory.copyProducts()) {
+            text.append(product.getId()).append(' ').append(product.getName()).append(' ').append(product.getPrice())
+                .append(' ').append(product.getStock()).append(' ').append(product.getMin()).append(' ')
+                .append(product.getMax()).append(" parts ")
+                .append(product.getAllAssociatedParts().stream().map(part -> String.valueOf(part.getId()))
+                    .collect(Collectors.joining(",")))
+                .append(" subassemblies ")
+                .append(inventory.subassemblies(product.getId()).stream().map(sub -> String.valueOf(sub.getId()))
+                    .collect(Collectors.joining(",")))
+                .append('\n');
+        }
+        return text.toString();
+    }
+
+    private Stream<Path> files(String prefix) throws IOException {
+        return Files.list(directory).filter(path -> path.getFileName().toString().startsWith(prefix)).sorted();
+    }
+}
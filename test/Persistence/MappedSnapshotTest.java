@@ -0,0 +1,110 @@
+package Persistence;
+
+import Main.InHouse;
+import Main.Inventory;
+import Main.Outsourced;
+import Main.Part;
+import Main.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MappedSnapshotTest writes a snapshot, reads its fields from the mapped file and loads it into an inventory
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class MappedSnapshotTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void fieldsRoundTrip() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        List<Part> parts = List.of(
+            new Outsourced(7, "Chain", 24.50, 4, 0, 8, "Acme"),
+            new InHouse(3, "Seat", 15.00, 10, 1, 10, 1234),
+            new Part(5, "Brakes", 15.00, 10, 1, 10));
+        Product bike = new Product(1000, "Giant Bike", 299.99, 5, 1, 10);
+        Product frame = new Product(1001, "Frame", 99.99, 3, 1, 5);
+        MappedSnapshot.write(path, parts, List.of(bike, frame), List.of(new int[] {3, 7}, new int[0]),
+            List.of(new int[] {1001}, new int[0]));
+
+        try (MappedSnapshot snapshot = MappedSnapshot.open(path)) {
+            assertEquals(3, snapshot.partCount());
+            assertEquals(2, snapshot.productCount());
+            // parts are sorted by id
+            assertEquals(3, snapshot.partId(0));
+            assertEquals(-1, snapshot.findPart(4));
+            int chain = snapshot.findPart(7);
+            assertEquals("Chain", snapshot.partName(chain));
+            assertEquals("Acme", snapshot.partCompanyName(chain));
+            assertEquals(24.50, snapshot.partPrice(chain));
+            assertEquals(4, snapshot.partStock(chain));
+            assertEquals(8, snapshot.partMax(chain));
+            assertTrue(snapshot.part(chain) instanceof Outsourced);
+            assertEquals(1234, ((InHouse) snapshot.part(snapshot.findPart(3))).getMachineId());
+            assertNull(snapshot.partCompanyName(snapshot.findPart(5)));
+            assertEquals("Giant Bike", snapshot.productName(0));
+            assertEquals(299.99, snapshot.productPrice(0));
+            assertArrayEquals(new int[] {3, 7}, snapshot.productPartIds(0));
+            assertArrayEquals(new int[0], snapshot.productPartIds(1));
+            assertEquals(1, snapshot.subassemblyCount());
+            assertEquals(1000, snapshot.subassemblyProductId(0));
+            assertEquals(1001, snapshot.subassemblyId(0));
+        }
+    }
+
+    @Test
+    void loadIntoRestoresTheInventory() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        Part seat = new InHouse(3, "Seat", 15.00, 10, 1, 10, 1234);
+        Part chain = new Outsourced(7, "Chain", 24.50, 4, 0, 8, "Acme");
+        Product bike = new Product(1000, "Giant Bike", 299.99, 5, 1, 10);
+        MappedSnapshot.write(path, List.of(seat, chain), List.of(bike, new Product(1001, "Frame", 99.99, 3, 1, 5)),
+            List.of(new int[] {3, 7}, new int[] {3}), List.of(new int[] {1001}, new int[0]));
+
+        Inventory inventory = new Inventory();
+        try (MappedSnapshot snapshot = MappedSnapshot.open(path)) {
+            snapshot.loadInto(inventory);
+        }
+
+        assertEquals(2, inventory.copyParts().size());
+        assertEquals("Acme", ((Outsourced) inventory.lookupPart(7)).getCompanyName());
+        assertEquals(2, inventory.lookupProduct(1000).getAllAssociatedParts().size());
+        assertEquals(1001, inventory.subassemblies(1000).get(0).getId());
+        assertEquals(List.of(inventory.lookupProduct(1000), inventory.lookupProduct(1001)), inventory.whereUsed(3));
+    }
+
+    @Test
+    void otherFilesAreRejected() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        MappedSnapshot.write(path, List.of(), List.of(), List.of(), List.of());
+        try (MappedSnapshot snapshot = MappedSnapshot.open(path)) {
+            assertEquals(0, snapshot.partCount());
+        }
+
+        // a version that was never written
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(4, 2);
+        Files.write(path, bytes);
+        IOException version = assertThrows(IOException.class, () -> MappedSnapshot.open(path).close());
+        assertEquals("Unsupported snapshot version 2", version.getMessage());
+
+        Path text = Files.writeString(directory.resolve("text.bin"), "not a snapshot, just some text to map");
+        assertThrows(IOException.class, () -> MappedSnapshot.open(text).close());
+    }
+}
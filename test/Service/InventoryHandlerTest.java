@@ -0,0 +1,114 @@
+package Service;
+
+import Main.Inventory;
+import Main.Part;
+import Main.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * InventoryHandlerTest sends requests to a running InventoryServer and checks the status codes
+ * @author Randall Adams
+ * @version 1.0.0
+ * @since 10/17/2026
+ */
+class InventoryHandlerTest {
+    private static final String SEAT = "{\"name\": \"Seat\", \"price\": 15.00, \"stock\": 10, \"min\": 1, \"max\": 10, "
+        + "\"machineId\": 1234}";
+
+    private final Inventory inventory = new Inventory();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private InventoryServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        inventory.addPart(new Part(1, "Brakes", 15.00, 5, 1, 10));
+        Product bike = new Product(1000, "Giant Bike", 299.99, 5, 1, 10);
+        bike.addAssociatedPart(inventory.lookupPart(1));
+        inventory.addProduct(bike);
+        inventory.addProduct(new Product(1001, "Tricycle", 99.99, 3, 1, 5));
+        server = new InventoryServer(inventory, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop(0);
+    }
+
+    @Test
+    void addAndRead() throws Exception {
+        HttpResponse<String> created = send("POST", "/parts", SEAT);
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"name\":\"Seat\""), created.body());
+        assertEquals(200, send("GET", "/parts/1", null).statusCode());
+        assertEquals(200, send("GET", "/parts?name=bra", null).statusCode());
+        assertEquals(200, send("GET", "/products/1000/parts", null).statusCode());
+        assertEquals(200, send("PUT", "/products/1000/subassemblies/1001", null).statusCode());
+    }
+
+    @Test
+    void missingIsNotFound() throws Exception {
+        assertEquals(404, send("GET", "/parts/42", null).statusCode());
+        assertEquals(404, send("POST", "/products/42/stock", "{\"delta\": 1}").statusCode());
+        assertEquals(404, send("GET", "/parts/1/nothing", null).statusCode());
+        // a path segment that is not a number names no item
+        assertEquals(404, send("GET", "/parts/one", null).statusCode());
+        assertEquals(404, send("DELETE", "/products/1000/subassemblies/1001", null).statusCode());
+    }
+
+    @Test
+    void badRequestsAre400() throws Exception {
+        assertEquals(400, send("POST", "/parts", "{\"name\": \"Seat\"}").statusCode());
+        assertEquals(400, send("POST", "/parts", "not json").statusCode());
+        assertEquals(400, send("POST", "/parts/1/stock", "{\"delta\": 1.5}").statusCode());
+        assertEquals(400, send("POST", "/parts", SEAT.replace("\"min\": 1", "\"min\": 20")).statusCode());
+    }
+
+    @Test
+    void conflictsAre409() throws Exception {
+        // the id is taken
+        assertEquals(409, send("POST", "/parts", SEAT.replace("{", "{\"id\": 1, ")).statusCode());
+        assertEquals(409, send("POST", "/products",
+            "{\"id\": 1000, \"name\": \"Bike\", \"price\": 1.00, \"stock\": 1, \"min\": 0, \"max\": 5}").statusCode());
+        // still used by a product
+        assertEquals(409, send("DELETE", "/parts/1", null).statusCode());
+        assertEquals(409, send("DELETE", "/products/1000", null).statusCode());
+        // stock past max, then a subassembly that would contain itself
+        assertEquals(409, send("POST", "/parts/1/stock", "{\"delta\": 6}").statusCode());
+        assertEquals(5, inventory.lookupPart(1).getStock());
+        assertEquals(200, send("PUT", "/products/1000/subassemblies/1001", null).statusCode());
+        assertEquals(409, send("PUT", "/products/1001/subassemblies/1000", null).statusCode());
+    }
+
+    @Test
+    void otherStatusCodes() throws Exception {
+        assertEquals(204, send("DELETE", "/products/1001", null).statusCode());
+        assertEquals(405, send("PATCH", "/parts", "{}").statusCode());
+        HttpResponse<String> reserve = send("POST", "/parts/1/reserve", "{\"quantity\": 5}");
+        assertEquals(200, reserve.statusCode());
+        assertTrue(reserve.body().contains("\"reserved\":false"), reserve.body());
+    }
+
+    private HttpResponse<String> send(String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+            ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+            .method(method, publisher)
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}